@@ -301,6 +301,28 @@ INSERT INTO `order_addresses` VALUES (1,'Springwood',NULL,'1428','Freddy Krueger
 /*!40000 ALTER TABLE `order_addresses` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `order_addresses_seq`
+--
+
+DROP TABLE IF EXISTS `order_addresses_seq`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `order_addresses_seq` (
+  `next_val` bigint DEFAULT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `order_addresses_seq`
+--
+
+LOCK TABLES `order_addresses_seq` WRITE;
+/*!40000 ALTER TABLE `order_addresses_seq` DISABLE KEYS */;
+INSERT INTO `order_addresses_seq` VALUES (62);
+/*!40000 ALTER TABLE `order_addresses_seq` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `orders`
 --
@@ -342,6 +364,28 @@ INSERT INTO `orders` VALUES (1,'2026-06-22 20:01:43.570933','Standard delivery w
 /*!40000 ALTER TABLE `orders` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `orders_seq`
+--
+
+DROP TABLE IF EXISTS `orders_seq`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `orders_seq` (
+  `next_val` bigint DEFAULT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `orders_seq`
+--
+
+LOCK TABLES `orders_seq` WRITE;
+/*!40000 ALTER TABLE `orders_seq` DISABLE KEYS */;
+INSERT INTO `orders_seq` VALUES (56);
+/*!40000 ALTER TABLE `orders_seq` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `parcels`
 --
@@ -362,7 +406,8 @@ CREATE TABLE `parcels` (
   `weight_id` bigint DEFAULT NULL,
   `weight_name` varchar(255) DEFAULT NULL,
   `weight_price` decimal(38,2) DEFAULT NULL,
-  PRIMARY KEY (`id`)
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_parcels_tracking_number` (`tracking_number`)
 ) ENGINE=InnoDB AUTO_INCREMENT=7 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
@@ -376,6 +421,28 @@ INSERT INTO `parcels` VALUES (1,_binary '\0','few books',4,'small_size',1.00,0,'
 /*!40000 ALTER TABLE `parcels` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `parcels_seq`
+--
+
+DROP TABLE IF EXISTS `parcels_seq`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `parcels_seq` (
+  `next_val` bigint DEFAULT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `parcels_seq`
+--
+
+LOCK TABLES `parcels_seq` WRITE;
+/*!40000 ALTER TABLE `parcels_seq` DISABLE KEYS */;
+INSERT INTO `parcels_seq` VALUES (56);
+/*!40000 ALTER TABLE `parcels_seq` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `payment_attempts`
 --
@@ -391,8 +458,11 @@ CREATE TABLE `payment_attempts` (
   `status` enum('PENDING','FAILED','SUCCESS') NOT NULL,
   `transaction_id` varchar(255) DEFAULT NULL,
   `payment_id` bigint NOT NULL,
+  `idempotency_key` varchar(64) DEFAULT NULL,
   PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_payment_attempts_idempotency_key` (`idempotency_key`),
   KEY `FKa3a9tqynt8vtwcmq9q8igujra` (`payment_id`),
+  KEY `idx_payment_attempts_status_created` (`status`,`created_at`),
   CONSTRAINT `FKa3a9tqynt8vtwcmq9q8igujra` FOREIGN KEY (`payment_id`) REFERENCES `payments` (`id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=7 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -403,7 +473,7 @@ CREATE TABLE `payment_attempts` (
 
 LOCK TABLES `payment_attempts` WRITE;
 /*!40000 ALTER TABLE `payment_attempts` DISABLE KEYS */;
-INSERT INTO `payment_attempts` VALUES (1,'2026-06-22 20:05:39','Credit card has insufficient funds','CREDIT_CARD','FAILED','',5),(2,'2026-06-22 20:06:05',NULL,'CREDIT_CARD','SUCCESS','cc_tx_a630ee22-5667-4628-a7c7-b607d8af0249',5),(3,'2026-06-22 20:07:08','Invalid credit card CVC','CREDIT_CARD','FAILED','',3),(4,'2026-06-22 20:07:13',NULL,'CREDIT_CARD','SUCCESS','cc_tx_838cca1d-e5ad-4f05-a40b-781598b3e544',3),(5,'2026-06-22 20:10:42',NULL,'CREDIT_CARD','SUCCESS','cc_tx_aef33c46-89f4-415b-8dbe-916dc9f48f50',2),(6,'2026-06-22 20:27:35',NULL,'CREDIT_CARD','SUCCESS','cc_tx_e0c2728b-7e73-45a0-8472-da88d213f55a',1);
+INSERT INTO `payment_attempts` VALUES (1,'2026-06-22 20:05:39','Credit card has insufficient funds','CREDIT_CARD','FAILED','',5,NULL),(2,'2026-06-22 20:06:05',NULL,'CREDIT_CARD','SUCCESS','cc_tx_a630ee22-5667-4628-a7c7-b607d8af0249',5,NULL),(3,'2026-06-22 20:07:08','Invalid credit card CVC','CREDIT_CARD','FAILED','',3,NULL),(4,'2026-06-22 20:07:13',NULL,'CREDIT_CARD','SUCCESS','cc_tx_838cca1d-e5ad-4f05-a40b-781598b3e544',3,NULL),(5,'2026-06-22 20:10:42',NULL,'CREDIT_CARD','SUCCESS','cc_tx_aef33c46-89f4-415b-8dbe-916dc9f48f50',2,NULL),(6,'2026-06-22 20:27:35',NULL,'CREDIT_CARD','SUCCESS','cc_tx_e0c2728b-7e73-45a0-8472-da88d213f55a',1,NULL);
 /*!40000 ALTER TABLE `payment_attempts` ENABLE KEYS */;
 UNLOCK TABLES;
 
@@ -452,6 +522,7 @@ CREATE TABLE `payments` (
   `amount` decimal(38,2) NOT NULL,
   `order_id` bigint NOT NULL,
   `status` enum('NOT_PAID','FAILED','PAID','CANCELED') NOT NULL,
+  `version` bigint NOT NULL DEFAULT '0',
   PRIMARY KEY (`id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=7 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -462,10 +533,32 @@ CREATE TABLE `payments` (
 
 LOCK TABLES `payments` WRITE;
 /*!40000 ALTER TABLE `payments` DISABLE KEYS */;
-INSERT INTO `payments` VALUES (1,4.00,1,'PAID'),(2,7.50,2,'PAID'),(3,4.00,3,'PAID'),(4,12.20,4,'NOT_PAID'),(5,14.00,5,'PAID'),(6,4.70,6,'NOT_PAID');
+INSERT INTO `payments` VALUES (1,4.00,1,'PAID',0),(2,7.50,2,'PAID',0),(3,4.00,3,'PAID',0),(4,12.20,4,'NOT_PAID',0),(5,14.00,5,'PAID',0),(6,4.70,6,'NOT_PAID',0);
 /*!40000 ALTER TABLE `payments` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `payments_seq`
+--
+
+DROP TABLE IF EXISTS `payments_seq`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `payments_seq` (
+  `next_val` bigint DEFAULT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `payments_seq`
+--
+
+LOCK TABLES `payments_seq` WRITE;
+/*!40000 ALTER TABLE `payments_seq` DISABLE KEYS */;
+INSERT INTO `payments_seq` VALUES (56);
+/*!40000 ALTER TABLE `payments_seq` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `person_notifications`
 --
@@ -509,8 +602,10 @@ CREATE TABLE `persons` (
   `name` varchar(255) NOT NULL,
   `password` varchar(255) NOT NULL,
   `phone_number` varchar(255) DEFAULT NULL,
+  `role` varchar(16) NOT NULL,
   PRIMARY KEY (`id`),
-  UNIQUE KEY `UK_1x5aosta48fbss4d5b3kuu0rd` (`email`)
+  UNIQUE KEY `UK_1x5aosta48fbss4d5b3kuu0rd` (`email`),
+  KEY `idx_persons_role` (`role`)
 ) ENGINE=InnoDB AUTO_INCREMENT=5 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
@@ -520,7 +615,7 @@ CREATE TABLE `persons` (
 
 LOCK TABLES `persons` WRITE;
 /*!40000 ALTER TABLE `persons` DISABLE KEYS */;
-INSERT INTO `persons` VALUES (1,_binary '\0',_binary '\0',NULL,'admin@example.com','Administrator X','$2a$10$AU3lKjdh2ojJhsYEFNnEAO3d0X36fwDZjb3g3coTBVigKOksrOWfq',NULL),(2,_binary '\0',_binary '\0',NULL,'courier@example.com','Courier X','$2a$10$x0PPW8PNjFAOnufc3dvVxuiUvcvLuUH5KdHqxcJhE.z0C5ActI./S',NULL),(3,_binary '\0',_binary '\0',NULL,'user@example.com','User Example','$2a$10$kzfk.xnaEQK8jMAd4ZU6wug0t5pKTuAsRtaeFAU7o2TTd0jXO8bD6',NULL),(4,_binary '',_binary '\0',NULL,'usery@example.com','User Y','$2a$10$C06JMZ.DwhdUfhs36jiUl.fGkS/Fg4QViVDU7Q9EqQRO2IDDVXaHq',NULL);
+INSERT INTO `persons` VALUES (1,_binary '\0',_binary '\0',NULL,'admin@example.com','Administrator X','$2a$10$AU3lKjdh2ojJhsYEFNnEAO3d0X36fwDZjb3g3coTBVigKOksrOWfq',NULL,'ADMIN'),(2,_binary '\0',_binary '\0',NULL,'courier@example.com','Courier X','$2a$10$x0PPW8PNjFAOnufc3dvVxuiUvcvLuUH5KdHqxcJhE.z0C5ActI./S',NULL,'COURIER'),(3,_binary '\0',_binary '\0',NULL,'user@example.com','User Example','$2a$10$kzfk.xnaEQK8jMAd4ZU6wug0t5pKTuAsRtaeFAU7o2TTd0jXO8bD6',NULL,'USER'),(4,_binary '',_binary '\0',NULL,'usery@example.com','User Y','$2a$10$C06JMZ.DwhdUfhs36jiUl.fGkS/Fg4QViVDU7Q9EqQRO2IDDVXaHq',NULL,'USER');
 /*!40000 ALTER TABLE `persons` ENABLE KEYS */;
 UNLOCK TABLES;
 
@@ -0,0 +1,71 @@
+package gytis.courier.benchmark;
+
+import gytis.courier.domain.order.ParcelStatus;
+import gytis.courier.domain.task.DeliveryStatus;
+import gytis.courier.domain.task.Task;
+import gytis.courier.domain.task.TaskItem;
+import gytis.courier.domain.task.TaskItemCreationSnapshot;
+import gytis.courier.domain.task.TaskType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Deterministic inputs shared by the benchmark suites.
+ */
+final class Fixtures {
+    static final Long COURIER_ID = 2L;
+    static final Long ADMIN_ID = 1L;
+
+    private Fixtures() {}
+
+    static List<TaskItemCreationSnapshot> pickupSnapshots(int count) {
+        List<TaskItemCreationSnapshot> snapshots = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            snapshots.add(new TaskItemCreationSnapshot(i, ParcelStatus.PICKING_UP, i, i + count, "Books", "Standard"));
+        }
+        return snapshots;
+    }
+
+    static List<Long> parcelIds(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    static Task pickupTask(int count, ParcelStatus itemStatus, DeliveryStatus deliveryStatus) {
+        return pickupTask(pickupItems(count, itemStatus), deliveryStatus);
+    }
+
+    static Task pickupTask(List<TaskItem> items, DeliveryStatus deliveryStatus) {
+        return Task.restore()
+                .id(1L)
+                .courierId(COURIER_ID)
+                .createdByAdminId(ADMIN_ID)
+                .taskType(TaskType.PICKUP)
+                .deliveryStatus(deliveryStatus)
+                .createdAt(LocalDateTime.now())
+                .items(items)
+                .build();
+    }
+
+    static List<TaskItem> pickupItems(int count, ParcelStatus itemStatus) {
+        List<TaskItem> items = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            items.add(pickupItem(i, count, itemStatus));
+        }
+        return items;
+    }
+
+    static TaskItem pickupItem(long id, int count, ParcelStatus itemStatus) {
+        return TaskItem.restore()
+                .id(id)
+                .parcelId(id)
+                .parcelStatus(itemStatus)
+                .senderAddressId(id)
+                .recipientAddressId(id + count)
+                .deliveryMethodName("Standard")
+                .contents("Books")
+                .build();
+    }
+}
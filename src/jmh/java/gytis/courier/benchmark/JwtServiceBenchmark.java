@@ -0,0 +1,45 @@
+package gytis.courier.benchmark;
+
+import gytis.courier.adapter.out.jwt.JwtService;
+import gytis.courier.application.port.out.auth.JwtClaims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET);
+        token = jwtService.createToken(1L, "user@example.com", "USER", "User");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtService.createToken(1L, "user@example.com", "USER", "User");
+    }
+
+    @Benchmark
+    public JwtClaims validateToken() {
+        return jwtService.validateToken(token);
+    }
+}
@@ -0,0 +1,119 @@
+package gytis.courier.benchmark;
+
+import gytis.courier.adapter.out.persistence.order.OrderReadModelMapper;
+import gytis.courier.adapter.out.persistence.order.projection.OrderListProjection;
+import gytis.courier.adapter.out.persistence.person.PersonEntityMapper;
+import gytis.courier.adapter.out.persistence.person.courier.CourierJpaEntity;
+import gytis.courier.adapter.out.persistence.task.TaskEntityMapper;
+import gytis.courier.adapter.out.persistence.task.TaskJpaEntity;
+import gytis.courier.application.readmodel.order.AdminOrderListReadModel;
+import gytis.courier.domain.order.ParcelStatus;
+import gytis.courier.domain.person.Courier;
+import gytis.courier.domain.task.DeliveryStatus;
+import gytis.courier.domain.task.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated MapStruct mappers. The mappers are taken from a context that only
+ * contains mapper beans, so {@code uses} dependencies are wired exactly as in
+ * the application without starting JPA or the web layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int items;
+
+    private AnnotationConfigApplicationContext context;
+    private TaskEntityMapper taskEntityMapper;
+    private OrderReadModelMapper orderReadModelMapper;
+    private PersonEntityMapper personEntityMapper;
+
+    private Task task;
+    private TaskJpaEntity taskEntity;
+    private OrderListProjection orderProjection;
+    private Courier courier;
+    private CourierJpaEntity courierEntity;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(context, false);
+        scanner.addIncludeFilter((reader, factory) ->
+                reader.getClassMetadata().getClassName().endsWith("MapperImpl")
+                        && reader.getAnnotationMetadata().hasAnnotation(Component.class.getName()));
+        scanner.scan("gytis.courier");
+        context.refresh();
+
+        taskEntityMapper = context.getBean(TaskEntityMapper.class);
+        orderReadModelMapper = context.getBean(OrderReadModelMapper.class);
+        personEntityMapper = context.getBean(PersonEntityMapper.class);
+
+        task = Fixtures.pickupTask(items, ParcelStatus.PICKING_UP, DeliveryStatus.IN_PROGRESS);
+        taskEntity = taskEntityMapper.toEntity(task);
+        orderProjection = new BenchmarkOrderListProjection(LocalDateTime.now());
+        courierEntity = new CourierJpaEntity("Courier", "courier@example.com", "password");
+        courierEntity.setPhoneNumber("61234567");
+        courier = personEntityMapper.toDomain(courierEntity);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskJpaEntity taskToEntity() {
+        return taskEntityMapper.toEntity(task);
+    }
+
+    @Benchmark
+    public Task taskToDomainWithItems() {
+        return taskEntityMapper.toDomainWithItems(taskEntity);
+    }
+
+    @Benchmark
+    public AdminOrderListReadModel orderToAdminList() {
+        return orderReadModelMapper.toAdminList(orderProjection);
+    }
+
+    @Benchmark
+    public Courier courierToDomain() {
+        return personEntityMapper.toDomain(courierEntity);
+    }
+
+    @Benchmark
+    public CourierJpaEntity courierToEntity() {
+        return personEntityMapper.toJpaEntity(courier);
+    }
+
+    private record BenchmarkOrderListProjection(LocalDateTime createDate) implements OrderListProjection {
+        @Override public Long getId() { return 1L; }
+        @Override public Long getUserId() { return 3L; }
+        @Override public String getDeliveryMethodName() { return "Standard"; }
+        @Override public String getStatus() { return "PENDING"; }
+        @Override public LocalDateTime getCreateDate() { return createDate; }
+    }
+}
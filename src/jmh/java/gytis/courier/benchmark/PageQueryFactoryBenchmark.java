@@ -0,0 +1,45 @@
+package gytis.courier.benchmark;
+
+import gytis.courier.adapter.in.pagination.PageQueryFactory;
+import gytis.courier.adapter.in.pagination.PagingPolicy;
+import gytis.courier.adapter.in.rest.task.policy.AdminTaskPagingPolicy;
+import gytis.courier.application.common.PageQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageQueryFactoryBenchmark {
+    private final PagingPolicy policy = AdminTaskPagingPolicy.INSTANCE;
+
+    @Benchmark
+    public PageQuery offset() {
+        return PageQueryFactory.from(2, 20, "createdAt", "desc",
+                policy.allowedSortFields(), policy.defaultSortField(), policy.defaultDirection());
+    }
+
+    @Benchmark
+    public PageQuery defaults() {
+        return PageQueryFactory.from(0, 20, null, null,
+                policy.allowedSortFields(), policy.defaultSortField(), policy.defaultDirection());
+    }
+
+    @Benchmark
+    public PageQuery keyset() {
+        return PageQueryFactory.from(0, 20, "createdAt", "desc", "",
+                policy.allowedSortFields(), policy.seekableSortFields(), policy.defaultSortField(), policy.defaultDirection());
+    }
+}
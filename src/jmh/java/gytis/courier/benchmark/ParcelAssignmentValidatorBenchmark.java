@@ -0,0 +1,45 @@
+package gytis.courier.benchmark;
+
+import gytis.courier.application.service.task.ParcelAssignmentValidator;
+import gytis.courier.domain.task.TaskItemCreationSnapshot;
+import gytis.courier.domain.task.TaskType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParcelAssignmentValidatorBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int items;
+
+    private List<Long> requestedIds;
+    private List<TaskItemCreationSnapshot> snapshots;
+
+    @Setup
+    public void setUp() {
+        requestedIds = Fixtures.parcelIds(items);
+        snapshots = Fixtures.pickupSnapshots(items);
+    }
+
+    @Benchmark
+    public void validate() {
+        ParcelAssignmentValidator.validate(requestedIds, snapshots, TaskType.PICKUP);
+    }
+}
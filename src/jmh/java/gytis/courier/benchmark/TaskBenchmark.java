@@ -0,0 +1,81 @@
+package gytis.courier.benchmark;
+
+import gytis.courier.domain.order.ParcelStatus;
+import gytis.courier.domain.task.DeliveryStatus;
+import gytis.courier.domain.task.Task;
+import gytis.courier.domain.task.TaskItem;
+import gytis.courier.domain.task.TaskItemCreationSnapshot;
+import gytis.courier.domain.task.TaskType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task aggregate operations as a function of the number of items on the task.
+ * Mutating benchmarks rebuild their task inside the measured method around item
+ * lists prepared once per trial: {@code complete} leaves the items untouched, and
+ * {@code updateItemStatus} swaps in a fresh last item before rebuilding. The rebuild
+ * copies the item references into a new list, and {@link #restore} measures that
+ * copy on its own so it can be subtracted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int items;
+
+    private List<TaskItemCreationSnapshot> snapshots;
+    private List<TaskItem> pickingUp;
+    private List<TaskItem> pickedUp;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        snapshots = Fixtures.pickupSnapshots(items);
+        pickingUp = Fixtures.pickupItems(items, ParcelStatus.PICKING_UP);
+        pickedUp = Fixtures.pickupItems(items, ParcelStatus.PICKED_UP);
+    }
+
+    @Benchmark
+    public Task create() {
+        return Task.create(snapshots, Fixtures.COURIER_ID, Fixtures.ADMIN_ID, TaskType.PICKUP);
+    }
+
+    /** Cost of rebuilding a task around an existing item list, included in the mutating benchmarks. */
+    @Benchmark
+    public Task restore() {
+        return Fixtures.pickupTask(pickedUp, DeliveryStatus.AT_CHECKPOINT);
+    }
+
+    /** Worst case lookup: the updated item is the last one on the task. */
+    @Benchmark
+    public Task updateItemStatus() {
+        pickingUp.set(items - 1, Fixtures.pickupItem(items, items, ParcelStatus.PICKING_UP));
+        Task inProgress = Fixtures.pickupTask(pickingUp, DeliveryStatus.IN_PROGRESS);
+        inProgress.updateItemStatus((long) items, ParcelStatus.PICKED_UP);
+        return inProgress;
+    }
+
+    @Benchmark
+    public Task complete() {
+        Task atCheckpoint = Fixtures.pickupTask(pickedUp, DeliveryStatus.AT_CHECKPOINT);
+        atCheckpoint.complete();
+        return atCheckpoint;
+    }
+}
@@ -13,19 +13,36 @@ public final class PageQueryAssembler {
             String sortField,
             String direction,
             PagingPolicy policy
+    ) {
+        return from(page, size, sortField, direction, null, policy);
+    }
+
+    public static PageQuery from(
+            int page,
+            int size,
+            String sortField,
+            String direction,
+            String cursor,
+            PagingPolicy policy
     ) {
         return PageQueryFactory.from(
                 page,
                 size,
                 sortField,
                 direction,
+                cursor,
                 policy.allowedSortFields(),
+                policy.seekableSortFields(),
                 policy.defaultSortField(),
                 policy.defaultDirection()
         );
     }
 
     public static PageQuery fromPageable(Pageable pageable, PagingPolicy policy) {
+        return fromPageable(pageable, null, policy);
+    }
+
+    public static PageQuery fromPageable(Pageable pageable, String cursor, PagingPolicy policy) {
         int page = pageable.getPageNumber();
         int size = pageable.getPageSize();
 
@@ -38,6 +55,6 @@ public final class PageQueryAssembler {
             direction = order.isDescending() ? "DESC" : "ASC";
         }
 
-        return from(page, size, sortField, direction, policy);
+        return from(page, size, sortField, direction, cursor, policy);
     }
 }
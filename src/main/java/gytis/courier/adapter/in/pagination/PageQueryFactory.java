@@ -17,18 +17,46 @@ public final class PageQueryFactory {
             Set<String> allowedFields,
             String defaultSortField,
             PageQueryDirection defaultDirection
+    ) {
+        return from(page, size, sortField, dir, null, allowedFields, Set.of(), defaultSortField, defaultDirection);
+    }
+
+    public static PageQuery from(
+            int page,
+            int size,
+            String sortField,
+            String dir,
+            String cursor,
+            Set<String> allowedFields,
+            Set<String> seekableFields,
+            String defaultSortField,
+            PageQueryDirection defaultDirection
     ) {
         String resolvedSortField = resolveSortField(sortField, allowedFields, defaultSortField);
         PageQueryDirection resolvedSortDirection = resolveDirection(dir, defaultDirection);
 
+        if (cursor != null) {
+            validateKeyset(size, resolvedSortField, seekableFields);
+        }
+
         return new PageQuery(
                 page,
                 size,
                 resolvedSortField,
-                resolvedSortDirection
+                resolvedSortDirection,
+                cursor
         );
     }
 
+    private static void validateKeyset(int size, String sortField, Set<String> seekableFields) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (!seekableFields.contains(sortField)) {
+            throw new IllegalArgumentException("Sort field " + sortField + " does not support cursor paging. Seekable: " + seekableFields);
+        }
+    }
+
     private static PageQueryDirection resolveDirection(String dir, PageQueryDirection defaultDirection) {
         return (dir == null || dir.isBlank())
                 ? defaultDirection
@@ -8,4 +8,10 @@ public interface PagingPolicy {
     Set<String> allowedSortFields();
     String defaultSortField();
     PageQueryDirection defaultDirection();
+
+    /**
+     * Sort fields that can be used with a cursor. They must be non-null columns the
+     * list adapter knows how to seek on; an empty set disables keyset paging.
+     */
+    Set<String> seekableSortFields();
 }
@@ -99,7 +99,7 @@ public class OrderController {
     @GetMapping("/user")
     @PreAuthorize("hasRole('USER')")
     public PageResult<UserOrderListReadModel> getUserOrders(OrderUserSearchRequest request, @AuthenticationPrincipal AuthenticatedPerson person) {
-        PageQuery pageQuery = PageQueryAssembler.from(request.page(), request.size(), request.sortField(), request.direction(), OrderUserPagingPolicy.INSTANCE);
+        PageQuery pageQuery = PageQueryAssembler.from(request.page(), request.size(), request.sortField(), request.direction(), request.cursor(), OrderUserPagingPolicy.INSTANCE);
         return queryUseCase.getUserOrderList(pageQuery, person.id());
     }
 
@@ -114,7 +114,7 @@ public class OrderController {
     @PreAuthorize("hasRole('ADMIN')")
     public PageResult<AdminOrderListReadModel> getAdminOrders(@ModelAttribute OrderAdminSearchRequest request) {
         OrderQuery orderQuery = new OrderQuery(request.status(), request.id());
-        PageQuery pageQuery = PageQueryAssembler.from(request.page(), request.size(), request.sortField(), request.direction(), OrderAdminPagingPolicy.INSTANCE);
+        PageQuery pageQuery = PageQueryAssembler.from(request.page(), request.size(), request.sortField(), request.direction(), request.cursor(), OrderAdminPagingPolicy.INSTANCE);
         return queryUseCase.getAdminOrderList(pageQuery, orderQuery);
     }
 
@@ -122,10 +122,11 @@ public class OrderController {
     @PreAuthorize("hasRole('ADMIN')")
     public PageResult<OrderForTaskReadModel> getAllByTaskType(
             Pageable pageable,
-            @RequestParam TaskType taskType
+            @RequestParam TaskType taskType,
+            @RequestParam(required = false) String cursor
     ) {
         System.out.println("yep " + pageable.getPageSize() + " " + taskType);
-        PageQuery pageQuery = PageQueryAssembler.fromPageable(pageable, OrderAdminPagingPolicy.INSTANCE);
+        PageQuery pageQuery = PageQueryAssembler.fromPageable(pageable, cursor, OrderAdminPagingPolicy.INSTANCE);
         return queryUseCase.getAllByTaskType(pageQuery, taskType);
     }
 
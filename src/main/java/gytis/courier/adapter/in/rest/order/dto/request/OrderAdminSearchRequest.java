@@ -9,6 +9,7 @@ public record OrderAdminSearchRequest(
         @Min(1) @Max(100) int size,
         String sortField,
         String direction,
+        String cursor,
         OrderStatus status,
         Long id,
         Long userId
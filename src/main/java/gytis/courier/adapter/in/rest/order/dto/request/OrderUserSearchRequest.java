@@ -7,6 +7,7 @@ public record OrderUserSearchRequest(
         @Min(0) @Max(100) int page,
         @Min(1) @Max(100) int size,
         String sortField,
-        String direction
+        String direction,
+        String cursor
 ) {
 }
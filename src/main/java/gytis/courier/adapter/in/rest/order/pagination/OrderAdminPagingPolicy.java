@@ -22,4 +22,9 @@ public enum OrderAdminPagingPolicy implements PagingPolicy {
     public PageQueryDirection defaultDirection() {
         return PageQueryDirection.ASC;
     }
+
+    @Override
+    public Set<String> seekableSortFields() {
+        return Set.of("id", "createDate");
+    }
 }
@@ -22,4 +22,9 @@ public enum OrderUserPagingPolicy implements PagingPolicy {
     public PageQueryDirection defaultDirection() {
         return PageQueryDirection.DESC;
     }
+
+    @Override
+    public Set<String> seekableSortFields() {
+        return Set.of("createDate");
+    }
 }
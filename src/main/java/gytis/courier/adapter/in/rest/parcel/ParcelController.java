@@ -2,6 +2,8 @@ package gytis.courier.adapter.in.rest.parcel;
 
 import gytis.courier.application.port.in.parcel.ParcelQueryUseCase;
 import gytis.courier.application.readmodel.parcel.AvailableParcelsCountReadModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,18 +11,31 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/api/parcel")
 public class ParcelController {
     private final ParcelQueryUseCase useCase;
+    private final CacheControl trackingCacheControl;
 
-    public ParcelController(ParcelQueryUseCase useCase) {
+    public ParcelController(ParcelQueryUseCase useCase,
+                            @Value("${parcel.tracking.max-age-seconds:15}") long trackingMaxAgeSeconds) {
         this.useCase = useCase;
+        this.trackingCacheControl = CacheControl.maxAge(Duration.ofSeconds(trackingMaxAgeSeconds)).mustRevalidate();
     }
 
+    /**
+     * The status itself is the ETag, so a poll with a matching If-None-Match is answered
+     * with 304 by the response entity handling.
+     */
     @GetMapping("/trackOrder/{trackingNumber}")
     public ResponseEntity<String> getParcelStatus(@PathVariable String trackingNumber) {
-        return ResponseEntity.ok(useCase.track(trackingNumber).toString().toUpperCase());
+        String status = useCase.track(trackingNumber).toString().toUpperCase();
+        return ResponseEntity.ok()
+                .eTag(status)
+                .cacheControl(trackingCacheControl)
+                .body(status);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
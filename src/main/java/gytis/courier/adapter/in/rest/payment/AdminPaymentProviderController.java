@@ -0,0 +1,29 @@
+package gytis.courier.adapter.in.rest.payment;
+
+import gytis.courier.application.port.in.payment.ProviderHealthQueryUseCase;
+import gytis.courier.application.readmodel.payment.ProviderHealthReadModel;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/payment/providers")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminPaymentProviderController {
+    private final ProviderHealthQueryUseCase useCase;
+
+    public AdminPaymentProviderController(ProviderHealthQueryUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * Circuit state, free bulkhead permits, call counts and latency percentiles since startup.
+     */
+    @GetMapping
+    public List<ProviderHealthReadModel> health() {
+        return useCase.getProviderHealth();
+    }
+}
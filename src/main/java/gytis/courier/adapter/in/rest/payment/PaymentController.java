@@ -32,9 +32,10 @@ public class PaymentController {
 
     @PostMapping("/{orderId}/pay")
     @PreAuthorize("hasRole('USER')")
-    public PayReadModel pay(@PathVariable Long orderId, @RequestBody PaymentRequest request, @AuthenticationPrincipal AuthenticatedPerson person) {
-        PaymentCommand command = requestMapper.toCommand(person.id(), orderId, request);
-        System.out.println("im here ?");
+    public PayReadModel pay(@PathVariable Long orderId, @RequestBody PaymentRequest request,
+                            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                            @AuthenticationPrincipal AuthenticatedPerson person) {
+        PaymentCommand command = requestMapper.toCommand(person.id(), orderId, request, idempotencyKey);
         return payUseCase.pay(command);
     }
 
@@ -15,7 +15,8 @@ public interface PaymentRequestMapper {
     @Mapping(target = "command", source = "request.newPaymentMethod")
     @Mapping(target = "cvc", source = "request.cvc")
     @Mapping(target = "userId", source = "userId")
-    PaymentCommand toCommand(Long userId, Long orderId, PaymentRequest request);
+    @Mapping(target = "idempotencyKey", source = "idempotencyKey")
+    PaymentCommand toCommand(Long userId, Long orderId, PaymentRequest request, String idempotencyKey);
 
     default PaymentMethodCommand map(PaymentMethodRequest request) {
         if (request == null) return null;
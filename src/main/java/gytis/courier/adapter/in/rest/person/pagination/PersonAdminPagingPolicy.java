@@ -10,7 +10,7 @@ public enum PersonAdminPagingPolicy implements PagingPolicy {
 
     @Override
     public Set<String> allowedSortFields() {
-        return Set.of("id", "email", "name");
+        return Set.of("id", "email", "name", "relevance");
     }
 
     @Override
@@ -22,4 +22,9 @@ public enum PersonAdminPagingPolicy implements PagingPolicy {
     public PageQueryDirection defaultDirection() {
         return PageQueryDirection.ASC;
     }
+
+    @Override
+    public Set<String> seekableSortFields() {
+        return Set.of();
+    }
 }
@@ -53,11 +53,16 @@ public class PersonNotificationController {
     }
 
     @GetMapping
-    public PersonNotificationPageResult get(Pageable pageable, @AuthenticationPrincipal AuthenticatedPerson person) {
-        PageQuery pageQuery = PageQueryAssembler.fromPageable(pageable, PersonNotificationPagingPolicy.INSTANCE);
+    public PersonNotificationPageResult get(Pageable pageable, @RequestParam(required = false) String cursor, @AuthenticationPrincipal AuthenticatedPerson person) {
+        PageQuery pageQuery = PageQueryAssembler.fromPageable(pageable, cursor, PersonNotificationPagingPolicy.INSTANCE);
         return queryUseCase.getAll(pageQuery, person.id());
     }
 
+    @GetMapping("/unread-count")
+    public UnreadCountResponse unreadCount(@AuthenticationPrincipal AuthenticatedPerson person) {
+        return new UnreadCountResponse(queryUseCase.getUnreadCount(person.id()));
+    }
+
     @GetMapping("/indexed/{nId}")
     public PersonNotificationPageResult getPageContainingNotification(
             @PathVariable Long nId,
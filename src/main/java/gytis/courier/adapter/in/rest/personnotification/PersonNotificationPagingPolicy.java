@@ -23,4 +23,9 @@ public enum PersonNotificationPagingPolicy implements PagingPolicy {
     public PageQueryDirection defaultDirection() {
         return PageQueryDirection.ASC;
     }
+
+    @Override
+    public Set<String> seekableSortFields() {
+        return Set.of("receivedAt");
+    }
 }
@@ -0,0 +1,6 @@
+package gytis.courier.adapter.in.rest.personnotification;
+
+public record UnreadCountResponse(
+        long unreadCount
+) {
+}
@@ -4,6 +4,7 @@ import gytis.courier.adapter.in.rest.task.dto.ChangeCourierRequest;
 import gytis.courier.adapter.in.rest.task.dto.CreateTaskRequest;
 import gytis.courier.adapter.in.security.AuthenticatedPerson;
 import gytis.courier.application.port.in.task.AdminTaskCommandUseCase;
+import gytis.courier.application.result.TaskBatchResult;
 import gytis.courier.adapter.in.rest.common.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -31,6 +32,11 @@ public class AdminTaskCommandController {
         return ResponseEntity.ok(new ApiResponse("success", "New task created successfully"));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResult> createTasks(@RequestBody List<CreateTaskRequest> requests, @AuthenticationPrincipal AuthenticatedPerson person) {
+        return ResponseEntity.ok(useCase.createTasks(requestMapper.toCreateCommands(requests, person.id())));
+    }
+
     @PostMapping("/{taskId}/items")
     public ResponseEntity<ApiResponse> addItem(@PathVariable Long taskId, @RequestBody List<Long> parcelIds) {
         useCase.addItems(taskId, parcelIds);
@@ -7,9 +7,12 @@ import gytis.courier.adapter.in.rest.task.policy.AdminTaskPagingPolicy;
 import gytis.courier.application.common.PageQuery;
 import gytis.courier.application.common.PageResult;
 import gytis.courier.application.port.in.task.AdminTaskQueryUseCase;
+import gytis.courier.application.port.in.task.TaskBatchPlanningUseCase;
 import gytis.courier.application.query.filter.AdminTaskQueryFilter;
 import gytis.courier.application.readmodel.task.TaskListReadModel;
 import gytis.courier.application.readmodel.task.AdminTaskReadModel;
+import gytis.courier.application.result.TaskBatchProposal;
+import gytis.courier.domain.task.TaskType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,20 +22,32 @@ import org.springframework.web.bind.annotation.*;
 public class AdminTaskQueryController {
     private final AdminTaskQueryUseCase useCase;
     private final TaskQueryRequestMapper requestMapper;
+    private final TaskBatchPlanningUseCase planningUseCase;
 
-    public AdminTaskQueryController(AdminTaskQueryUseCase useCase, TaskQueryRequestMapper requestMapper) {
+    public AdminTaskQueryController(AdminTaskQueryUseCase useCase, TaskQueryRequestMapper requestMapper,
+                                    TaskBatchPlanningUseCase planningUseCase) {
         this.useCase = useCase;
         this.requestMapper = requestMapper;
+        this.planningUseCase = planningUseCase;
     }
 
     @GetMapping
     public PageResult<TaskListReadModel> all(@ModelAttribute AdminTaskFilterRequest request) {
         AdminTaskQueryFilter queryFilter = requestMapper.toQueryFilter(request);
-        PageQuery pageQuery = PageQueryAssembler.from(request.page(), request.size(), request.sortBy(), request.direction(), AdminTaskPagingPolicy.INSTANCE);
+        PageQuery pageQuery = PageQueryAssembler.from(request.page(), request.size(), request.sortBy(), request.direction(), request.cursor(), AdminTaskPagingPolicy.INSTANCE);
 
         return useCase.getAll(queryFilter, pageQuery);
     }
 
+    /**
+     * Suggested tasks for the available couriers; accept them by posting the tasks to {@code /batch}.
+     */
+    @GetMapping("/proposals")
+    public TaskBatchProposal proposals(@RequestParam TaskType type,
+                                       @RequestParam(required = false) Integer maxItemsPerTask) {
+        return planningUseCase.propose(type, maxItemsPerTask);
+    }
+
     @GetMapping("/{id}")
     public AdminTaskReadModel getDetailed(@PathVariable Long id) {
         return useCase.getDetailedTask(id);
@@ -9,6 +9,8 @@ import gytis.courier.application.service.task.UpdateItemStatusCommand;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface TaskRequestMapper {
     @Mapping(target = "taskType", source = "request.type")
@@ -19,4 +21,10 @@ public interface TaskRequestMapper {
     @Mapping(target = "myId", source = "myId")
     AddItemNoteCommand toAddItemNoteCommand(Long taskId, Long itemId, AddItemNoteRequest request, Long myId);
     UpdateItemStatusCommand toUpdateItemStatusCommand(Long taskId, Long taskItemId, UpdateItemStatusRequest request, Long myId);
+
+    default List<CreateTaskCommand> toCreateCommands(List<CreateTaskRequest> requests, Long adminId) {
+        return requests.stream()
+                .map(r -> toCreateCommand(r, adminId))
+                .toList();
+    }
 }
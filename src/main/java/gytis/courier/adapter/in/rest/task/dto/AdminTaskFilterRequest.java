@@ -8,6 +8,7 @@ public record AdminTaskFilterRequest(
         String taskType,
         String deliveryStatus,
         String sortBy,
-        String direction
+        String direction,
+        String cursor
 ) {
 }
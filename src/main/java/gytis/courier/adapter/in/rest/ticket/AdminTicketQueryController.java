@@ -20,8 +20,8 @@ public class AdminTicketQueryController {
     }
 
     @GetMapping
-    public PageResult<AdminTicketReadModel> all(Pageable pageable) {
-        PageQuery pageQuery = PageQueryAssembler.fromPageable(pageable, TicketPagingPolicy.INSTANCE);
+    public PageResult<AdminTicketReadModel> all(Pageable pageable, @RequestParam(required = false) String cursor) {
+        PageQuery pageQuery = PageQueryAssembler.fromPageable(pageable, cursor, TicketPagingPolicy.INSTANCE);
         return queryUseCase.allTickets(pageQuery);
     }
 }
@@ -23,4 +23,9 @@ public enum TicketCommentPagingPolicy implements PagingPolicy {
     public PageQueryDirection defaultDirection() {
         return PageQueryDirection.DESC;
     }
+
+    @Override
+    public Set<String> seekableSortFields() {
+        return Set.of();
+    }
 }
@@ -22,8 +22,8 @@ public class UserTicketQueryController {
     }
 
     @GetMapping("/my")
-    public PageResult<TicketReadModel> myTickets(Pageable pageable, @AuthenticationPrincipal AuthenticatedPerson person) {
-        PageQuery pageQuery = PageQueryAssembler.fromPageable(pageable, TicketPagingPolicy.INSTANCE);
+    public PageResult<TicketReadModel> myTickets(Pageable pageable, @RequestParam(required = false) String cursor, @AuthenticationPrincipal AuthenticatedPerson person) {
+        PageQuery pageQuery = PageQueryAssembler.fromPageable(pageable, cursor, TicketPagingPolicy.INSTANCE);
         return queryUseCase.myTickets(person.id(), pageQuery);
     }
 }
@@ -0,0 +1,26 @@
+package gytis.courier.adapter.in.scheduler;
+
+import gytis.courier.application.service.delivery.DeliveryOptionCatalog;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admin changes refresh the catalog on the node that made them; this picks up changes
+ * made through other instances.
+ */
+@Component
+public class DeliveryOptionCatalogRefreshJob {
+    private final DeliveryOptionCatalog catalog;
+
+    public DeliveryOptionCatalogRefreshJob(DeliveryOptionCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @Scheduled(
+            initialDelayString = "${delivery.catalog.refresh-interval-ms:300000}",
+            fixedDelayString = "${delivery.catalog.refresh-interval-ms:300000}"
+    )
+    public void refresh() {
+        catalog.refresh();
+    }
+}
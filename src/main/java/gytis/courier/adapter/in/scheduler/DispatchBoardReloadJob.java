@@ -0,0 +1,26 @@
+package gytis.courier.adapter.in.scheduler;
+
+import gytis.courier.adapter.out.persistence.order.dispatch.DispatchBoard;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes refresh the dispatch board on the node that made them; this rebuilds it to pick up
+ * parcels changed through other instances.
+ */
+@Component
+public class DispatchBoardReloadJob {
+    private final DispatchBoard board;
+
+    public DispatchBoardReloadJob(DispatchBoard board) {
+        this.board = board;
+    }
+
+    @Scheduled(
+            initialDelayString = "${dispatch.board.reload-interval-ms:600000}",
+            fixedDelayString = "${dispatch.board.reload-interval-ms:600000}"
+    )
+    public void reload() {
+        board.reload();
+    }
+}
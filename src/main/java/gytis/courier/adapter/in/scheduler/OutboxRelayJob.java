@@ -0,0 +1,37 @@
+package gytis.courier.adapter.in.scheduler;
+
+import gytis.courier.application.service.outbox.OutboxRelayService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxRelayJob {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayJob.class);
+
+    private final OutboxRelayService relay;
+
+    public OutboxRelayJob(OutboxRelayService relay) {
+        this.relay = relay;
+    }
+
+    /**
+     * Picks up events whose after-commit nudge was lost and retries that are due.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
+    public void poll() {
+        relay.trigger();
+    }
+
+    @Scheduled(
+            initialDelayString = "${outbox.purge-initial-delay-ms:300000}",
+            fixedDelayString = "${outbox.purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        int removed = relay.purgeProcessed();
+        if (removed > 0) {
+            logger.info("Outbox purged, {} processed events removed", removed);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package gytis.courier.adapter.in.scheduler;
+
+import gytis.courier.application.service.payment.PaymentAttemptSweeper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentAttemptSweepJob {
+    private final PaymentAttemptSweeper sweeper;
+
+    public PaymentAttemptSweepJob(PaymentAttemptSweeper sweeper) {
+        this.sweeper = sweeper;
+    }
+
+    @Scheduled(
+            initialDelayString = "${payment.attempt.sweep-interval-ms:60000}",
+            fixedDelayString = "${payment.attempt.sweep-interval-ms:60000}"
+    )
+    public void sweep() {
+        sweeper.sweep();
+    }
+}
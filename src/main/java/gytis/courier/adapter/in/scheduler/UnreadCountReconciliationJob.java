@@ -0,0 +1,29 @@
+package gytis.courier.adapter.in.scheduler;
+
+import gytis.courier.application.port.in.personnotification.PersonNotificationCommandUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UnreadCountReconciliationJob {
+    private static final Logger logger = LoggerFactory.getLogger(UnreadCountReconciliationJob.class);
+
+    private final PersonNotificationCommandUseCase useCase;
+
+    public UnreadCountReconciliationJob(PersonNotificationCommandUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @Scheduled(
+            initialDelayString = "${notification.unread.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${notification.unread.reconcile-interval-ms:3600000}"
+    )
+    public void reconcile() {
+        int affected = useCase.reconcileUnreadCounts();
+        if (affected > 0) {
+            logger.info("Unread notification counters repaired, {} rows affected", affected);
+        }
+    }
+}
@@ -15,11 +15,15 @@ public class CreditCardGateway implements PaymentProcessorGateway {
     private final static String STOLEN_CARD_SUFFIX = "9999";
     private final static String INSUFFICIENT_FUNDS = "0000";
     private final static String CVC_INvALID = "000";
+    private final ProviderSimulator simulator;
 
+    public CreditCardGateway(ProviderSimulator simulator) {
+        this.simulator = simulator;
+    }
 
     @Override
-    public boolean supports(PaymentMethod method) {
-        return method instanceof CreditCard;
+    public ProviderType getSupportedType() {
+        return PROVIDER_TYPE;
     }
 
 
@@ -27,11 +31,9 @@ public class CreditCardGateway implements PaymentProcessorGateway {
     public PaymentResult process(PaymentMethod method, String cvc) {
         CreditCard card = (CreditCard) method;
 
-        if (card.getToken() != null) {
-            return processWithToken(card, cvc);
-        }
-
-        return processNewCard(card, cvc);
+        return simulator.call(PROVIDER_TYPE, () -> card.getToken() != null
+                ? processWithToken(card, cvc)
+                : processNewCard(card, cvc));
     }
 
     private PaymentResult processWithToken(CreditCard card, String cvc) {
@@ -11,15 +11,24 @@ import java.util.UUID;
 
 @Component
 public class PaypalGateway implements PaymentProcessorGateway {
+    private final ProviderSimulator simulator;
+
+    public PaypalGateway(ProviderSimulator simulator) {
+        this.simulator = simulator;
+    }
+
     @Override
-    public boolean supports(PaymentMethod method) {
-        return method instanceof Paypal;
+    public ProviderType getSupportedType() {
+        return ProviderType.PAYPAL;
     }
 
     @Override
     public PaymentResult process(PaymentMethod method, String ignoredCvc) {
         Paypal paypal = (Paypal) method;
+        return simulator.call(ProviderType.PAYPAL, () -> processPaypal(paypal));
+    }
 
+    private PaymentResult processPaypal(Paypal paypal) {
         if (paypal.getPpEmail().contains("simulateBanned")) {
             return new PaymentResult(ProviderType.PAYPAL, null, false, "User is banned", paypal.isSaved(), null);
         }
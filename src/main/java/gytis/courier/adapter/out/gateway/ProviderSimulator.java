@@ -0,0 +1,122 @@
+package gytis.courier.adapter.out.gateway;
+
+import gytis.courier.domain.payment.ProviderType;
+import gytis.courier.exception.PaymentProviderUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Makes the in-process gateways behave like a remote provider for load tests: each call waits a
+ * log-normally distributed latency fitted to the configured p50 and p99, calls slower than the
+ * timeout wait the timeout and fail with an unknown outcome, a share of the remaining calls fail
+ * outright and calls above the rate limit are rejected without waiting. Disabled by default, in
+ * which case the canned answer is returned immediately.
+ */
+@Component
+public class ProviderSimulator {
+    /** z-score of the 99th percentile of the standard normal distribution. */
+    private static final double Z_99 = 2.3263;
+
+    private final boolean enabled;
+    private final Set<ProviderType> providers;
+    private final double mu;
+    private final double sigma;
+    private final long timeoutMs;
+    private final double errorRate;
+    private final Map<ProviderType, RateLimiter> limiters = new EnumMap<>(ProviderType.class);
+
+    public ProviderSimulator(@Value("${payment.simulation.enabled:false}") boolean enabled,
+                             @Value("${payment.simulation.providers:CREDIT_CARD,PAYPAL}") Set<ProviderType> providers,
+                             @Value("${payment.simulation.latency-p50-ms:80}") long p50Ms,
+                             @Value("${payment.simulation.latency-p99-ms:600}") long p99Ms,
+                             @Value("${payment.simulation.timeout-ms:2000}") long timeoutMs,
+                             @Value("${payment.simulation.error-rate:0.0}") double errorRate,
+                             @Value("${payment.simulation.rate-limit-per-second:0}") int rateLimitPerSecond) {
+        if (p50Ms < 1 || p99Ms < p50Ms) {
+            throw new IllegalArgumentException("Simulated latency needs 1 <= p50 <= p99");
+        }
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Simulated error rate must be between 0 and 1");
+        }
+
+        this.enabled = enabled;
+        this.providers = providers;
+        this.mu = Math.log(p50Ms);
+        this.sigma = (Math.log(p99Ms) - mu) / Z_99;
+        this.timeoutMs = timeoutMs;
+        this.errorRate = errorRate;
+        if (rateLimitPerSecond > 0) {
+            providers.forEach(type -> limiters.put(type, new RateLimiter(rateLimitPerSecond)));
+        }
+    }
+
+    public <T> T call(ProviderType type, Supplier<T> answer) {
+        if (!enabled || !providers.contains(type)) {
+            return answer.get();
+        }
+
+        RateLimiter limiter = limiters.get(type);
+        if (limiter != null && !limiter.tryAcquire()) {
+            throw new PaymentProviderUnavailableException("Payment provider rate limit exceeded", type, false);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latencyMs = Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+        if (latencyMs >= timeoutMs) {
+            sleep(timeoutMs);
+            throw new PaymentProviderUnavailableException("Payment provider timed out", type, true);
+        }
+
+        sleep(latencyMs);
+        if (random.nextDouble() < errorRate) {
+            throw new PaymentProviderUnavailableException("Payment provider returned an error", type, false);
+        }
+        return answer.get();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Token bucket holding at most one second of permits. A lock rather than {@code synchronized}
+     * so virtual threads do not pin their carrier while refilling.
+     */
+    private static final class RateLimiter {
+        private final int permitsPerSecond;
+        private final ReentrantLock lock = new ReentrantLock();
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        RateLimiter(int permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.tokens = permitsPerSecond;
+        }
+
+        boolean tryAcquire() {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                tokens = Math.min(permitsPerSecond, tokens + (now - refilledAt) * permitsPerSecond / 1e9);
+                refilledAt = now;
+                if (tokens < 1) return false;
+                tokens--;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package gytis.courier.adapter.out.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import gytis.courier.application.port.out.auth.JwtClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Keeps already verified access token claims until the token's own expiration,
+ * so repeated requests with the same cookie skip signature verification.
+ * Tokens are keyed by their SHA-256 hash, raw tokens are never stored.
+ */
+@Component
+public class JwtClaimsCache {
+    private final JwtService jwtService;
+    private final Cache<String, JwtClaims> cache;
+
+    public JwtClaimsCache(JwtService jwtService, MeterRegistry registry,
+                          @Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtService = jwtService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.claims");
+    }
+
+    public JwtClaims validate(String token) {
+        String key = hash(token);
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        JwtClaims claims = jwtService.validateToken(token);
+        cache.put(key, claims);
+        return claims;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, JwtClaims> {
+        @Override
+        public long expireAfterCreate(String key, JwtClaims value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import gytis.courier.application.port.out.auth.JwtClaims;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -19,10 +20,12 @@ import java.util.Date;
 public class JwtService {
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
     private final SecretKey key;
+    private final JwtParser parser;
 
     public JwtService(@Value("${jwt.secret}") String secretKey) {
         byte[] bytes = secretKey.getBytes();
         key = Keys.hmacShaKeyFor(bytes);
+        parser = Jwts.parser().verifyWith(key).build();
     }
 
     public String createToken(Long id, String email, String role, String name) {
@@ -54,7 +57,7 @@ public class JwtService {
 
     public Long validateRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser().verifyWith(this.key).build().parseSignedClaims(token).getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
             String type = claims.get("type", String.class);
             if (!type.equals("refresh")) {
                 throw new JwtException("Invalid JWT token");
@@ -71,8 +74,7 @@ public class JwtService {
 
     public JwtClaims validateToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(this.key).build().parseSignedClaims(token).getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
             String type = claims.get("type", String.class);
             if (!type.equals("access")) {
                 throw new JwtException("Invalid JWT token");
@@ -82,7 +84,7 @@ public class JwtService {
             String role = claims.get("role", String.class);
             String name = claims.get("name", String.class);
 
-            return new JwtClaims(id, subject, role, name);
+            return new JwtClaims(id, subject, role, name, claims.getExpiration().toInstant());
         } catch (ExpiredJwtException e) {
             logger.warn("JWT expired: {}", e.getMessage());
             throw new RuntimeException("JWT expired", e);
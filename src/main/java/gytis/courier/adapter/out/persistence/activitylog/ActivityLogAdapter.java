@@ -6,21 +6,14 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class ActivityLogAdapter implements ActivityLogPort {
-    private final ActivityLogJpaRepository repository;
+    private final ActivityLogBuffer buffer;
 
-    public ActivityLogAdapter(ActivityLogJpaRepository repository) {
-        this.repository = repository;
+    public ActivityLogAdapter(ActivityLogBuffer buffer) {
+        this.buffer = buffer;
     }
 
     @Override
     public void save(ActivityLog activityLog) {
-        ActivityLogJpaEntity entity = new ActivityLogJpaEntity();
-        entity.setUserEmail(activityLog.getEmail());
-        entity.setRole(activityLog.getRole());
-        entity.setAction(activityLog.getAction());
-        entity.setDescription(activityLog.getDescription());
-        entity.setCreatedAt(activityLog.getCreatedAt());
-
-        repository.save(entity);
+        buffer.offer(activityLog);
     }
 }
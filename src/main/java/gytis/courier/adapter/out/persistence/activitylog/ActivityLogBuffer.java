@@ -0,0 +1,141 @@
+package gytis.courier.adapter.out.persistence.activitylog;
+
+import gytis.courier.domain.activitylog.ActivityLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded in-memory buffer for activity log entries.
+ *
+ * <p>Entries are written by a single flusher thread in JDBC batches, either every
+ * {@code flush-interval-ms} or as soon as a full batch is waiting. When the buffer is full
+ * producers wait up to {@code offer-timeout-ms} and the entry is dropped after that.
+ * Remaining entries are flushed on shutdown.</p>
+ */
+@Component
+public class ActivityLogBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogBuffer.class);
+
+    private final ActivityLogJdbcWriter writer;
+    private final BlockingQueue<ActivityLog> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMs;
+    private final long lateThresholdMs;
+
+    private final Counter dropped;
+    private final Counter late;
+    private final Timer flushTimer;
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public ActivityLogBuffer(ActivityLogJdbcWriter writer, MeterRegistry registry,
+                             @Value("${activitylog.buffer.capacity:10000}") int capacity,
+                             @Value("${activitylog.buffer.batch-size:200}") int batchSize,
+                             @Value("${activitylog.buffer.flush-interval-ms:1000}") long flushIntervalMs,
+                             @Value("${activitylog.buffer.offer-timeout-ms:50}") long offerTimeoutMs,
+                             @Value("${activitylog.buffer.late-threshold-ms:5000}") long lateThresholdMs) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.lateThresholdMs = lateThresholdMs;
+
+        registry.gauge("activitylog.buffer.size", queue, Collection::size);
+        this.dropped = registry.counter("activitylog.dropped");
+        this.late = registry.counter("activitylog.late");
+        this.flushTimer = registry.timer("activitylog.flush");
+
+        this.flusher = new Thread(this::run, "ActivityLog-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    public void offer(ActivityLog log) {
+        try {
+            if (!queue.offer(log)) {
+                LockSupport.unpark(flusher);
+
+                if (!queue.offer(log, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    dropped.increment();
+                    logger.warn("Activity log buffer full, dropped entry: {}", log.getAction());
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+            return;
+        }
+
+        if (queue.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (queue.size() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            drain();
+        }
+    }
+
+    private void drain() {
+        List<ActivityLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void write(List<ActivityLog> batch) {
+        try {
+            flushTimer.record(() -> writer.insertAll(batch));
+        } catch (RuntimeException e) {
+            dropped.increment(batch.size());
+            logger.error("Failed to write {} activity log entries", batch.size(), e);
+            return;
+        }
+
+        LocalDateTime lateBefore = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(lateThresholdMs));
+        long lateCount = batch.stream()
+                .filter(l -> l.getCreatedAt().isBefore(lateBefore))
+                .count();
+        if (lateCount > 0) {
+            late.increment(lateCount);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        drain();
+    }
+}
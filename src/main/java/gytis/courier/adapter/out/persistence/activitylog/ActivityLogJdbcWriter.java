@@ -0,0 +1,30 @@
+package gytis.courier.adapter.out.persistence.activitylog;
+
+import gytis.courier.domain.activitylog.ActivityLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Component
+public class ActivityLogJdbcWriter {
+    private static final String INSERT_SQL =
+            "INSERT INTO activity_log_jpa_entity (user_email, role, action, description, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityLogJdbcWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<ActivityLog> logs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, logs, logs.size(), (ps, log) -> {
+            ps.setString(1, log.getEmail());
+            ps.setString(2, log.getRole());
+            ps.setString(3, log.getAction());
+            ps.setString(4, log.getDescription());
+            ps.setTimestamp(5, Timestamp.valueOf(log.getCreatedAt()));
+        });
+    }
+}
@@ -4,10 +4,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "activity_log_jpa_entity")
 public class ActivityLogJpaEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -7,7 +7,8 @@ import jakarta.persistence.*;
 @Table(name = "order_addresses")
 public class OrderAddressJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_addresses_seq")
+    @SequenceGenerator(name = "order_addresses_seq", sequenceName = "order_addresses_seq", allocationSize = 50)
     private Long id;
 
     @Embedded
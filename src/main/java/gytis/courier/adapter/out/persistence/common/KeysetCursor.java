@@ -0,0 +1,70 @@
+package gytis.courier.adapter.out.persistence.common;
+
+import gytis.courier.application.common.PageQuery;
+import gytis.courier.application.common.PageQueryDirection;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: the sort key value plus the id that breaks ties.
+ * Clients only ever see the Base64 form and hand it back untouched.
+ */
+public record KeysetCursor(
+        String sortField,
+        PageQueryDirection direction,
+        Long id,
+        String sortValue
+) {
+    private static final String SEPARATOR = "|";
+
+    public static String encode(PageQuery query, Object sortValue, Long id) {
+        String raw = query.sortField() + SEPARATOR + query.direction().name() + SEPARATOR + id + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return {@code null} when the query asks for the first keyset page
+     */
+    public static KeysetCursor from(PageQuery query) {
+        if (query.cursor() == null || query.cursor().isBlank()) {
+            return null;
+        }
+
+        String[] parts = new String(Base64.getUrlDecoder().decode(query.cursor()), StandardCharsets.UTF_8)
+                .split("\\" + SEPARATOR, 4);
+
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed page cursor");
+        }
+        if (!parts[0].equals(query.sortField()) || !parts[1].equals(query.direction().name())) {
+            throw new IllegalArgumentException("Page cursor was issued for a different sort order");
+        }
+
+        return new KeysetCursor(parts[0], query.direction(), Long.valueOf(parts[2]), parts[3]);
+    }
+
+    public boolean ascending() {
+        return direction == PageQueryDirection.ASC;
+    }
+
+    public Object valueAs(Class<?> type) {
+        try {
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(sortValue);
+            }
+            if (type == Long.class) {
+                return Long.valueOf(sortValue);
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed page cursor");
+        }
+        if (type == String.class) {
+            return sortValue;
+        }
+
+        throw new IllegalStateException("Keyset paging is not supported for " + type.getSimpleName() + " columns");
+    }
+}
@@ -0,0 +1,52 @@
+package gytis.courier.adapter.out.persistence.common;
+
+import gytis.courier.application.common.PageQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class KeysetSpecification {
+    private static final String ID = "id";
+
+    private KeysetSpecification() {}
+
+    /**
+     * Rows strictly after the cursor in (sortField, id) order. Matches everything on the first page.
+     */
+    public static <E> Specification<E> after(PageQuery query) {
+        KeysetCursor cursor = KeysetCursor.from(query);
+
+        return (root, q, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+
+            Path<Long> idPath = root.get(ID);
+            if (cursor.sortField().equals(ID)) {
+                return beyond(cb, idPath, cursor.id(), cursor.ascending());
+            }
+
+            Path<Comparable<Object>> sortPath = root.get(cursor.sortField());
+            Comparable<Object> value = sortValue(cursor, sortPath);
+
+            return cb.or(
+                    beyond(cb, sortPath, value, cursor.ascending()),
+                    cb.and(
+                            cb.equal(sortPath, value),
+                            beyond(cb, idPath, cursor.id(), cursor.ascending())
+                    )
+            );
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> sortValue(KeysetCursor cursor, Path<Comparable<Object>> sortPath) {
+        return (Comparable<Object>) cursor.valueAs(sortPath.getJavaType());
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder cb, Expression<? extends Y> path, Y value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+}
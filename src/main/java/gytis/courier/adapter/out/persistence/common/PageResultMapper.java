@@ -1,8 +1,10 @@
 package gytis.courier.adapter.out.persistence.common;
 
+import gytis.courier.application.common.PageQuery;
 import gytis.courier.application.common.PageResult;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
 import java.util.function.Function;
 
 public class PageResultMapper {
@@ -16,4 +18,27 @@ public class PageResultMapper {
                 page.getTotalPages()
         );
     }
+
+    /**
+     * Expects up to {@link PageableFactory#keysetLimit} rows; the extra one only signals a next page.
+     */
+    public static <T, R> PageResult<R> fromKeyset(
+            List<T> rows,
+            PageQuery query,
+            Function<T, R> mapper,
+            Function<T, Object> sortValue,
+            Function<T, Long> id
+    ) {
+        if (rows.size() <= query.size()) {
+            return PageResult.keyset(rows.stream().map(mapper).toList(), null);
+        }
+
+        List<T> content = rows.subList(0, query.size());
+        T last = content.get(content.size() - 1);
+
+        return PageResult.keyset(
+                content.stream().map(mapper).toList(),
+                KeysetCursor.encode(query, sortValue.apply(last), id.apply(last))
+        );
+    }
 }
@@ -7,6 +7,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 public final class PageableFactory {
+    private static final String ID = "id";
+
     private PageableFactory() {}
 
     public static Pageable from(PageQuery query) {
@@ -15,16 +17,35 @@ public final class PageableFactory {
         return PageRequest.of(query.page(), query.size(), sort);
     }
 
+    /**
+     * Sort field first, id as tie-breaker, so consecutive keyset pages never skip or repeat rows.
+     */
+    public static Sort keysetSort(PageQuery query) {
+        Sort sort = toSort(query);
+
+        return ID.equals(query.sortField())
+                ? sort
+                : sort.and(Sort.by(toDirection(query), ID));
+    }
+
+    /**
+     * One extra row tells whether another keyset page exists without a count query.
+     */
+    public static int keysetLimit(PageQuery query) {
+        return query.size() + 1;
+    }
+
     private static Sort toSort(PageQuery query) {
         if (query.sortField() == null || query.sortField().isBlank()) {
             return Sort.unsorted();
         }
 
-        return Sort.by(
-                (query.direction() == PageQueryDirection.ASC)
+        return Sort.by(toDirection(query), query.sortField());
+    }
+
+    private static Sort.Direction toDirection(PageQuery query) {
+        return (query.direction() == PageQueryDirection.ASC)
                 ? Sort.Direction.ASC
-                : Sort.Direction.DESC,
-                query.sortField()
-        );
+                : Sort.Direction.DESC;
     }
 }
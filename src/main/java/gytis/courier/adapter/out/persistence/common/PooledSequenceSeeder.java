@@ -0,0 +1,73 @@
+package gytis.courier.adapter.out.persistence.common;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Moves the table-backed id sequences of the pooled entities past the rows that already exist.
+ *
+ * <p>On MySQL Hibernate backs each sequence with a one-row {@code <table>_seq} table, and
+ * {@code ddl-auto=update} creates it at the initial value even when the table already holds rows
+ * inserted under IDENTITY. A fetched value {@code v} hands out the block {@code v - 49 .. v}, so the
+ * sequence must read at least {@code MAX(id) + 50} before the first insert. This runs once the schema
+ * update is done and before the web server or schedulers start; a sequence already past that value
+ * is left alone. Databases with native sequences have no such table and are skipped.</p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class PooledSequenceSeeder {
+    private static final Logger logger = LoggerFactory.getLogger(PooledSequenceSeeder.class);
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final List<String> POOLED_TABLES = List.of("orders", "order_addresses", "parcels", "payments");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PooledSequenceSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void seed() {
+        for (String table : POOLED_TABLES) {
+            String sequence = table + "_seq";
+            if (!tableExists(sequence)) {
+                continue;
+            }
+
+            long floor = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) + " + ALLOCATION_SIZE + " FROM " + table, Long.class);
+            List<Long> current = jdbcTemplate.queryForList("SELECT next_val FROM " + sequence, Long.class);
+
+            if (current.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO " + sequence + " (next_val) VALUES (?)", floor);
+            } else if (current.size() > 1) {
+                throw new IllegalStateException(sequence + " must hold exactly one row, found " + current.size());
+            } else if (current.get(0) == null || current.get(0) < floor) {
+                jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ?", floor);
+            } else {
+                continue;
+            }
+            logger.info("Seeded {} at {}", sequence, floor);
+        }
+    }
+
+    private boolean tableExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String pattern = metaData.storesUpperCaseIdentifiers() ? name.toUpperCase() : name;
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, pattern, null)) {
+                return tables.next();
+            }
+        }));
+    }
+}
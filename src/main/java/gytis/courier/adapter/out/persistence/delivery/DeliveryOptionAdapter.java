@@ -1,8 +1,6 @@
 package gytis.courier.adapter.out.persistence.delivery;
 
 import gytis.courier.application.port.out.delivery.DeliveryOptionCommandPort;
-import gytis.courier.application.port.out.delivery.DeliveryOptionQueryPort;
-import gytis.courier.application.readmodel.deliveryoption.DeliveryOptionReadModel;
 import gytis.courier.domain.delivery.DeliveryOption;
 import gytis.courier.exception.ResourceNotFoundException;
 import org.springframework.stereotype.Component;
@@ -12,41 +10,15 @@ import java.util.List;
 import java.util.Optional;
 
 @Component
-public class DeliveryOptionAdapter implements DeliveryOptionCommandPort, DeliveryOptionQueryPort {
+public class DeliveryOptionAdapter implements DeliveryOptionCommandPort {
     private final DeliveryOptionJpaRepository repository;
     private final DeliveryOptionEntityMapper mapper;
-    private final DeliveryOptionReadModelMapper readModelMapper;
 
-    public DeliveryOptionAdapter(DeliveryOptionJpaRepository repository, DeliveryOptionEntityMapper mapper, DeliveryOptionReadModelMapper readModelMapper) {
+    public DeliveryOptionAdapter(DeliveryOptionJpaRepository repository, DeliveryOptionEntityMapper mapper) {
         this.repository = repository;
         this.mapper = mapper;
-        this.readModelMapper = readModelMapper;
     }
 
-    // query
-
-    @Override
-    public Optional<DeliveryOptionReadModel> findByIdReadModel(Long id) {
-        return repository.findProjectedById(id)
-                .map(readModelMapper::toReadModel);
-    }
-
-    @Override
-    public List<DeliveryOptionReadModel> findEnabled() {
-        return repository.findAllByDisabledFalse().stream()
-                .map(readModelMapper::toReadModel)
-                .toList();
-    }
-
-    @Override
-    public List<DeliveryOptionReadModel> findAll() {
-        return repository.findAllBy().stream()
-                .map(readModelMapper::toReadModel)
-                .toList();
-    }
-
-    //command
-
     @Override
     public DeliveryOption findById(Long id) {
         return mapper.toDomain(repository.findById(id)
@@ -59,6 +31,13 @@ public class DeliveryOptionAdapter implements DeliveryOptionCommandPort, Deliver
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<DeliveryOption> findAllOptions() {
+        return repository.findAll().stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     @Transactional
     public void save(DeliveryOption option) {
@@ -9,9 +9,12 @@ import gytis.courier.application.port.out.notification.NotificationQueryPort;
 import gytis.courier.application.query.filter.AdminNotificationQuery;
 import gytis.courier.application.readmodel.notification.NotificationReadModel;
 import gytis.courier.domain.notification.Notification;
+import gytis.courier.domain.notification.NotificationDeliveryStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class NotificationAdapter implements NotificationCommandPort, NotificationQueryPort {
@@ -45,6 +48,12 @@ public class NotificationAdapter implements NotificationCommandPort, Notificatio
         repository.deleteById(id);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateDeliveryProgress(Long id, NotificationDeliveryStatus status, long deliveredCount) {
+        repository.updateDeliveryProgress(id, status, deliveredCount);
+    }
+
     @Override
     public PageResult<NotificationReadModel> getAll(PageQuery pageQuery, AdminNotificationQuery query) {
         Pageable pageable = PageableFactory.from(pageQuery);
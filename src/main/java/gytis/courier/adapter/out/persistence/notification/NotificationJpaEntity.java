@@ -1,6 +1,8 @@
 package gytis.courier.adapter.out.persistence.notification;
 
+import gytis.courier.domain.notification.NotificationDeliveryStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -22,14 +24,27 @@ public class NotificationJpaEntity {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status", nullable = false)
+    @ColumnDefault("'COMPLETED'")
+    private NotificationDeliveryStatus deliveryStatus;
+
+    @Column(name = "delivered_count", nullable = false)
+    @ColumnDefault("0")
+    private long deliveredCount;
+
     protected NotificationJpaEntity() {}
 
     public Long getId() { return id; }
     public String getTitle() { return title; }
     public String getMessage() { return message; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public NotificationDeliveryStatus getDeliveryStatus() { return deliveryStatus; }
+    public long getDeliveredCount() { return deliveredCount; }
 
     public void setTitle(String title) { this.title = title; }
     public void setMessage(String message) { this.message = message; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public void setDeliveryStatus(NotificationDeliveryStatus deliveryStatus) { this.deliveryStatus = deliveryStatus; }
+    public void setDeliveredCount(long deliveredCount) { this.deliveredCount = deliveredCount; }
 }
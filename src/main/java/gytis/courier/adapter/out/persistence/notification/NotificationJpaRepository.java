@@ -1,8 +1,18 @@
 package gytis.courier.adapter.out.persistence.notification;
 
+import gytis.courier.domain.notification.NotificationDeliveryStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationJpaRepository extends JpaRepository<NotificationJpaEntity, Long>, JpaSpecificationExecutor<NotificationJpaEntity> {
     //Page<NotificationProjection> findAllBy(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE NotificationJpaEntity n SET n.deliveryStatus = :status, n.deliveredCount = :delivered WHERE n.id = :id")
+    void updateDeliveryProgress(@Param("id") Long id,
+                                @Param("status") NotificationDeliveryStatus status,
+                                @Param("delivered") long delivered);
 }
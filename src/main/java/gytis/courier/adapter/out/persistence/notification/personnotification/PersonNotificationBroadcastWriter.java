@@ -0,0 +1,115 @@
+package gytis.courier.adapter.out.persistence.notification.personnotification;
+
+import gytis.courier.application.result.BroadcastChunkResult;
+import gytis.courier.domain.notification.NotificationTargetType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Copies recipients straight from {@code persons} into {@code person_notifications}, one keyset
+ * chunk per call, so no id list ever leaves the database. The chunk is bounded by its highest
+ * person id first, which keeps the INSERT a plain range scan and gives the caller its cursor.
+ * INSERT IGNORE makes a re-run of a partially delivered broadcast safe. Unread counters move only
+ * for recipients that get a new row: existing counters are bumped for recipients who do not have
+ * the notification yet, before the insert, and recipients without a counter get one seeded from
+ * their real unread count after it. This relies on one fan-out per notification at a time.
+ *
+ * <p>Individual deliveries write their rows through JPA and then call {@link #countDelivered},
+ * which moves the recipients' counters the same way.</p>
+ */
+@Component
+public class PersonNotificationBroadcastWriter {
+    private static final String UPPER_BOUND_SQL = """
+            SELECT MAX(c.id) FROM (
+                SELECT p.id FROM persons p JOIN %s r ON r.id = p.id
+                WHERE p.id > ? AND p.blocked = FALSE AND p.deleted = FALSE
+                ORDER BY p.id
+                LIMIT ?
+            ) c
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO person_notifications (person_id, notification_id, is_read, received_at)
+            SELECT p.id, ?, FALSE, CURRENT_TIMESTAMP FROM persons p JOIN %s r ON r.id = p.id
+            WHERE p.id > ? AND p.id <= ? AND p.blocked = FALSE AND p.deleted = FALSE
+            """;
+
+    private static final String BUMP_COUNTERS_SQL = """
+            UPDATE person_notification_counters SET unread_count = unread_count + 1
+            WHERE person_id IN (
+                SELECT p.id FROM persons p JOIN %s r ON r.id = p.id
+                WHERE p.id > ? AND p.id <= ? AND p.blocked = FALSE AND p.deleted = FALSE
+                AND NOT EXISTS (SELECT 1 FROM person_notifications pn WHERE pn.person_id = p.id AND pn.notification_id = ?)
+            )
+            """;
+
+    private static final String SEED_COUNTERS_SQL = """
+            INSERT INTO person_notification_counters (person_id, unread_count)
+            SELECT pn.person_id, COUNT(*) FROM person_notifications pn
+            WHERE pn.person_id > ? AND pn.person_id <= ? AND pn.is_read = FALSE
+            AND pn.person_id IN (SELECT n.person_id FROM person_notifications n WHERE n.notification_id = ? AND n.person_id > ? AND n.person_id <= ?)
+            AND NOT EXISTS (SELECT 1 FROM person_notification_counters c WHERE c.person_id = pn.person_id)
+            GROUP BY pn.person_id
+            """;
+
+    private static final String BUMP_RECIPIENT_COUNTERS_SQL = """
+            UPDATE person_notification_counters SET unread_count = unread_count + 1
+            WHERE person_id IN (:personIds)
+            """;
+
+    private static final String SEED_RECIPIENT_COUNTERS_SQL = """
+            INSERT INTO person_notification_counters (person_id, unread_count)
+            SELECT pn.person_id, COUNT(*) FROM person_notifications pn
+            WHERE pn.person_id IN (:personIds) AND pn.is_read = FALSE
+            AND NOT EXISTS (SELECT 1 FROM person_notification_counters c WHERE c.person_id = pn.person_id)
+            GROUP BY pn.person_id
+            """;
+
+    private static final Map<NotificationTargetType, String> ROLE_TABLES = new EnumMap<>(Map.of(
+            NotificationTargetType.USER, "users",
+            NotificationTargetType.COURIER, "couriers",
+            NotificationTargetType.ADMIN, "admins"
+    ));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public PersonNotificationBroadcastWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public BroadcastChunkResult deliverChunk(Long notificationId, NotificationTargetType type, long afterPersonId, int chunkSize) {
+        String roleTable = ROLE_TABLES.get(type);
+
+        Long upperId = jdbcTemplate.queryForObject(UPPER_BOUND_SQL.formatted(roleTable), Long.class, afterPersonId, chunkSize);
+        if (upperId == null) {
+            return new BroadcastChunkResult(null, 0);
+        }
+
+        jdbcTemplate.update(BUMP_COUNTERS_SQL.formatted(roleTable), afterPersonId, upperId, notificationId);
+        int inserted = jdbcTemplate.update(INSERT_SQL.formatted(roleTable), notificationId, afterPersonId, upperId);
+        if (inserted > 0) {
+            jdbcTemplate.update(SEED_COUNTERS_SQL, afterPersonId, upperId, notificationId, afterPersonId, upperId);
+        }
+        return new BroadcastChunkResult(upperId, inserted);
+    }
+
+    /**
+     * Counts one new unread notification for each recipient whose row is already written:
+     * existing counters are bumped first, then missing ones are seeded from the recipient's
+     * unread rows, which include the new one.
+     */
+    public void countDelivered(Collection<Long> personIds) {
+        if (personIds.isEmpty()) return;
+        MapSqlParameterSource params = new MapSqlParameterSource("personIds", personIds);
+        namedJdbcTemplate.update(BUMP_RECIPIENT_COUNTERS_SQL, params);
+        namedJdbcTemplate.update(SEED_RECIPIENT_COUNTERS_SQL, params);
+    }
+}
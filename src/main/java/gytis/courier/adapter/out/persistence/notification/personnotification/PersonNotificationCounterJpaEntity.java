@@ -0,0 +1,23 @@
+package gytis.courier.adapter.out.persistence.notification.personnotification;
+
+import jakarta.persistence.*;
+
+/**
+ * Maintained unread count per person, so reads never COUNT person_notifications.
+ * Kept in step by PersonNotificationJpaAdapter and repaired by the reconciliation job.
+ */
+@Entity
+@Table(name = "person_notification_counters")
+public class PersonNotificationCounterJpaEntity {
+    @Id
+    @Column(name = "person_id")
+    private Long personId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    protected PersonNotificationCounterJpaEntity() {}
+
+    public Long getPersonId() { return personId; }
+    public long getUnreadCount() { return unreadCount; }
+}
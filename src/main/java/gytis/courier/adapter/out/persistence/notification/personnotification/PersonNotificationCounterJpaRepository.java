@@ -0,0 +1,57 @@
+package gytis.courier.adapter.out.persistence.notification.personnotification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface PersonNotificationCounterJpaRepository extends JpaRepository<PersonNotificationCounterJpaEntity, Long> {
+    @Query("SELECT c.unreadCount FROM PersonNotificationCounterJpaEntity c WHERE c.personId = :personId")
+    Optional<Long> findUnreadCount(@Param("personId") Long personId);
+
+    @Modifying
+    @Query(value = "UPDATE person_notification_counters SET unread_count = GREATEST(unread_count - 1, 0) WHERE person_id = :personId",
+            nativeQuery = true)
+    void decrement(@Param("personId") Long personId);
+
+    @Modifying
+    @Query("UPDATE PersonNotificationCounterJpaEntity c SET c.unreadCount = 0 WHERE c.personId = :personId")
+    void reset(@Param("personId") Long personId);
+
+    /**
+     * Must run before the notification's person_notifications rows are deleted.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE person_notification_counters c
+            JOIN person_notifications pn ON pn.person_id = c.person_id
+            SET c.unread_count = GREATEST(c.unread_count - 1, 0)
+            WHERE pn.notification_id = :nId AND pn.is_read = FALSE
+            """, nativeQuery = true)
+    void decrementUnreadRecipients(@Param("nId") Long notificationId);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM persons", nativeQuery = true)
+    long findMaxPersonId();
+
+    /**
+     * Recounts unread notifications for persons in (fromId, toId] and overwrites their counters.
+     * Returns MySQL affected rows: 0 for counters that were already right.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO person_notification_counters (person_id, unread_count)
+            SELECT actual.person_id, actual.unread FROM (
+                SELECT p.id AS person_id, COUNT(pn.person_id) AS unread
+                FROM persons p
+                LEFT JOIN person_notifications pn ON pn.person_id = p.id AND pn.is_read = FALSE
+                WHERE p.id > :fromId AND p.id <= :toId
+                GROUP BY p.id
+            ) actual
+            ON DUPLICATE KEY UPDATE unread_count = actual.unread
+            """, nativeQuery = true)
+    int reconcileRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -1,17 +1,24 @@
 package gytis.courier.adapter.out.persistence.notification.personnotification;
 
+import gytis.courier.adapter.out.persistence.common.KeysetCursor;
 import gytis.courier.adapter.out.persistence.common.PageResultMapper;
 import gytis.courier.adapter.out.persistence.common.PageableFactory;
 import gytis.courier.adapter.out.persistence.notification.NotificationReaModelMapper;
+import gytis.courier.adapter.out.persistence.notification.projection.PersonNotificationProjection;
 import gytis.courier.application.common.PersonNotificationPageResult;
 import gytis.courier.application.common.PageQuery;
 import gytis.courier.application.port.out.personnotification.PersonNotificationCommandPort;
 import gytis.courier.application.port.out.personnotification.PersonNotificationQueryPort;
+import gytis.courier.application.result.BroadcastChunkResult;
+import gytis.courier.domain.notification.NotificationTargetType;
 import gytis.courier.domain.personnotification.PersonNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,48 +27,115 @@ public class PersonNotificationJpaAdapter implements PersonNotificationCommandPo
     private final PersonNotificationJpaRepository repository;
     private final PersonNotificationEntityMapper entityMapper;
     private final NotificationReaModelMapper reaModelMapper;
-
-    public PersonNotificationJpaAdapter(PersonNotificationJpaRepository repository, PersonNotificationEntityMapper entityMapper, NotificationReaModelMapper reaModelMapper) {
+    private final PersonNotificationBroadcastWriter broadcastWriter;
+    private final PersonNotificationCounterJpaRepository counterRepository;
+    private final UnreadCountCache unreadCountCache;
+    private final int reconcileChunkSize;
+
+    public PersonNotificationJpaAdapter(PersonNotificationJpaRepository repository, PersonNotificationEntityMapper entityMapper, NotificationReaModelMapper reaModelMapper,
+                                        PersonNotificationBroadcastWriter broadcastWriter, PersonNotificationCounterJpaRepository counterRepository, UnreadCountCache unreadCountCache,
+                                        @Value("${notification.unread.reconcile-chunk-size:5000}") int reconcileChunkSize) {
         this.repository = repository;
         this.entityMapper = entityMapper;
         this.reaModelMapper = reaModelMapper;
+        this.broadcastWriter = broadcastWriter;
+        this.counterRepository = counterRepository;
+        this.unreadCountCache = unreadCountCache;
+        this.reconcileChunkSize = reconcileChunkSize;
     }
 
     @Override
+    @Transactional
     public void deliverToRecipients(Long notificationId, List<Long> ids) {
         if (ids.size() < 500) {
             List<PersonNotificationJpaEntity> list = ids.stream()
                     .map(pId -> new PersonNotificationJpaEntity(pId, notificationId))
                     .toList();
-            repository.saveAll(list);
+            repository.saveAllAndFlush(list);
         } else {
             repository.bulkDeliverToRecipients(notificationId, ids);
         }
+
+        broadcastWriter.countDelivered(ids);
+        unreadCountCache.evictAfterCommit(ids);
+    }
+
+    @Override
+    @Transactional
+    public BroadcastChunkResult deliverBroadcastChunk(Long notificationId, NotificationTargetType type, long afterPersonId, int chunkSize) {
+        BroadcastChunkResult chunk = broadcastWriter.deliverChunk(notificationId, type, afterPersonId, chunkSize);
+        if (!chunk.exhausted()) {
+            unreadCountCache.evictRangeAfterCommit(afterPersonId, chunk.lastPersonId());
+        }
+
+        return chunk;
     }
 
     @Override
     public PersonNotificationPageResult getAll(Long personId, PageQuery pageQuery) {
+        if (pageQuery.isKeyset()) {
+            return new PersonNotificationPageResult(
+                    PageResultMapper.fromKeyset(
+                            seek(personId, pageQuery),
+                            pageQuery,
+                            reaModelMapper::toPersonReadModel,
+                            PersonNotificationProjection::getReceivedAt,
+                            PersonNotificationProjection::getNotificationId),
+                    getUnreadCount(personId));
+        }
+
         Pageable pageable = PageableFactory.from(pageQuery);
         var p = repository.findAllByPersonId(personId, pageable);
-        long unreadCount = repository.findUnreadCount(personId);
-
-
+        long unreadCount = getUnreadCount(personId);
 
         return new PersonNotificationPageResult(
                 PageResultMapper.from(p, reaModelMapper::toPersonReadModel),
                 unreadCount);
     }
 
+    /**
+     * Falls back to counting rows for persons whose counter the reconciliation job has not created yet.
+     */
+    @Override
+    public long getUnreadCount(Long personId) {
+        return unreadCountCache.get(personId, id -> counterRepository.findUnreadCount(id)
+                .orElseGet(() -> repository.findUnreadCount(id)));
+    }
+
+    /**
+     * Seeks on (receivedAt, notificationId), always newest first like the offset listing.
+     */
+    private List<PersonNotificationProjection> seek(Long personId, PageQuery pageQuery) {
+        Pageable limit = PageRequest.of(0, PageableFactory.keysetLimit(pageQuery));
+        KeysetCursor cursor = KeysetCursor.from(pageQuery);
+
+        if (cursor == null) {
+            return repository.findFirstSeekPage(personId, limit);
+        }
+
+        return repository.findSeekPageBefore(
+                personId,
+                (LocalDateTime) cursor.valueAs(LocalDateTime.class),
+                cursor.id(),
+                limit
+        );
+    }
+
     @Override
     @Transactional
     public void markAllAsRead(Long personId) {
         repository.markAllAsRead(personId);
+        counterRepository.reset(personId);
+        unreadCountCache.evictAfterCommit(personId);
     }
 
     @Override
     @Transactional
     public void markAsRead(Long id, Long personId) {
-        repository.markAsRead(id, personId);
+        if (repository.markAsRead(id, personId) > 0) {
+            counterRepository.decrement(personId);
+            unreadCountCache.evictAfterCommit(personId);
+        }
     }
 
     @Override
@@ -83,13 +157,20 @@ public class PersonNotificationJpaAdapter implements PersonNotificationCommandPo
     @Override
     @Transactional
     public void ownDelete(Long myId, Long notificationId) {
-        repository.deleteByIdPersonIdAndIdNotificationId(myId, notificationId);
+        if (repository.deleteUnread(myId, notificationId) > 0) {
+            counterRepository.decrement(myId);
+            unreadCountCache.evictAfterCommit(myId);
+        } else {
+            repository.deleteByIdPersonIdAndIdNotificationId(myId, notificationId);
+        }
     }
 
     @Override
     @Transactional
     public void deleteAll(Long myId) {
         repository.deleteAllByIdPersonId(myId);
+        counterRepository.reset(myId);
+        unreadCountCache.evictAfterCommit(myId);
     }
 
     @Override
@@ -98,7 +179,28 @@ public class PersonNotificationJpaAdapter implements PersonNotificationCommandPo
     }
 
     @Override
+    @Transactional
     public int deleteAsAdmin(Long id) {
+        counterRepository.decrementUnreadRecipients(id);
+        unreadCountCache.evictAllAfterCommit();
+
         return repository.deleteByIdNotificationId(id);
     }
+
+    /**
+     * Walks person ids in fixed-width ranges, one transaction per range, so the job never
+     * holds locks on the whole counters table.
+     */
+    @Override
+    public int reconcileUnreadCounts() {
+        long maxPersonId = counterRepository.findMaxPersonId();
+        int affected = 0;
+
+        for (long fromId = 0; fromId < maxPersonId; fromId += reconcileChunkSize) {
+            affected += counterRepository.reconcileRange(fromId, Math.min(fromId + reconcileChunkSize, maxPersonId));
+        }
+
+        unreadCountCache.evictAll();
+        return affected;
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,7 +37,11 @@ public interface PersonNotificationJpaRepository extends JpaRepository<PersonNot
 
     @Modifying
     @Query("UPDATE PersonNotificationJpaEntity pn SET pn.isRead = true, pn.readAt = CURRENT_TIMESTAMP WHERE pn.isRead = false AND pn.id.notificationId = :id AND pn.id.personId = :personId")
-    void markAsRead(@Param("id") Long id, @Param("personId") Long personId);
+    int markAsRead(@Param("id") Long id, @Param("personId") Long personId);
+
+    @Modifying
+    @Query("DELETE FROM PersonNotificationJpaEntity pn WHERE pn.isRead = false AND pn.id.notificationId = :id AND pn.id.personId = :personId")
+    int deleteUnread(@Param("personId") Long personId, @Param("id") Long notificationId);
 
     @Query("SELECT COUNT(pn) FROM PersonNotificationJpaEntity pn WHERE pn.id.personId = :personId AND pn.receivedAt > " +
             "(SELECT pn2.receivedAt FROM PersonNotificationJpaEntity pn2 " +
@@ -59,6 +64,42 @@ public interface PersonNotificationJpaRepository extends JpaRepository<PersonNot
     """)
     Page<PersonNotificationProjection> findAllByPersonId(@Param("personId") Long personId, Pageable pageable);
 
+    @Query("""
+    SELECT
+        pn.id.notificationId AS notificationId,
+        n.title AS title,
+        n.message AS message,
+        pn.isRead AS read,
+        pn.receivedAt AS receivedAt
+    FROM PersonNotificationJpaEntity pn
+    JOIN NotificationJpaEntity n
+        ON n.id = pn.id.notificationId
+    WHERE pn.id.personId = :personId
+    ORDER BY pn.receivedAt desc, pn.id.notificationId desc
+    """)
+    List<PersonNotificationProjection> findFirstSeekPage(@Param("personId") Long personId, Pageable limit);
+
+    @Query("""
+    SELECT
+        pn.id.notificationId AS notificationId,
+        n.title AS title,
+        n.message AS message,
+        pn.isRead AS read,
+        pn.receivedAt AS receivedAt
+    FROM PersonNotificationJpaEntity pn
+    JOIN NotificationJpaEntity n
+        ON n.id = pn.id.notificationId
+    WHERE pn.id.personId = :personId
+      AND (pn.receivedAt < :receivedAt
+           OR (pn.receivedAt = :receivedAt AND pn.id.notificationId < :notificationId))
+    ORDER BY pn.receivedAt desc, pn.id.notificationId desc
+    """)
+    List<PersonNotificationProjection> findSeekPageBefore(
+            @Param("personId") Long personId,
+            @Param("receivedAt") LocalDateTime receivedAt,
+            @Param("notificationId") Long notificationId,
+            Pageable limit);
+
     /**
      * used only by admins
      */
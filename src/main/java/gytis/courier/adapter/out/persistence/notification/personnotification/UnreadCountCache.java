@@ -0,0 +1,59 @@
+package gytis.courier.adapter.out.persistence.notification.personnotification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gytis.courier.application.common.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Unread counts served to the polling frontend. Entries are evicted only after the
+ * transaction that changed the counter commits, so a concurrent read cannot cache a
+ * value the database is about to roll back.
+ */
+@Component
+public class UnreadCountCache {
+    private final Cache<Long, Long> cache;
+
+    public UnreadCountCache(MeterRegistry registry,
+                            @Value("${notification.unread-cache.max-size:50000}") long maxSize,
+                            @Value("${notification.unread-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, "notification.unread");
+    }
+
+    public long get(Long personId, Function<Long, Long> loader) {
+        return cache.get(personId, loader);
+    }
+
+    public void evictAfterCommit(Long personId) {
+        AfterCommit.run(() -> cache.invalidate(personId));
+    }
+
+    public void evictAfterCommit(Collection<Long> personIds) {
+        AfterCommit.run(() -> cache.invalidateAll(personIds));
+    }
+
+    public void evictRangeAfterCommit(long afterPersonId, long upToPersonId) {
+        AfterCommit.run(() -> cache.asMap().keySet().removeIf(id -> id > afterPersonId && id <= upToPersonId));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public void evictAllAfterCommit() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+}
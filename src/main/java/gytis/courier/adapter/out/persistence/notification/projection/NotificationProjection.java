@@ -1,5 +1,7 @@
 package gytis.courier.adapter.out.persistence.notification.projection;
 
+import gytis.courier.domain.notification.NotificationDeliveryStatus;
+
 import java.time.LocalDateTime;
 
 public interface NotificationProjection {
@@ -7,4 +9,6 @@ public interface NotificationProjection {
     String getTitle();
     String getMessage();
     LocalDateTime getCreatedAt();
+    NotificationDeliveryStatus getDeliveryStatus();
+    long getDeliveredCount();
 }
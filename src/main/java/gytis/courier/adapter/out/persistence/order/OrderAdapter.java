@@ -1,7 +1,10 @@
 package gytis.courier.adapter.out.persistence.order;
 
 import gytis.courier.adapter.out.persistence.address.orderaddress.OrderAddressMapper;
+import gytis.courier.adapter.out.persistence.order.dispatch.DispatchBoard;
 import gytis.courier.adapter.out.persistence.parcel.ParcelJpaMapper;
+import gytis.courier.adapter.out.persistence.parcel.TrackingStatusCache;
+import gytis.courier.adapter.out.persistence.person.query.PersonReadCache;
 import gytis.courier.application.port.out.order.OrderCommandPort;
 
 import gytis.courier.domain.order.Order;
@@ -17,12 +20,20 @@ public class OrderAdapter implements OrderCommandPort {
     private final OrderEntityMapper mapper;
     private final ParcelJpaMapper parcelMapper;
     private final OrderAddressMapper addressMapper;
+    private final TrackingStatusCache trackingCache;
+    private final PersonReadCache personCache;
+    private final DispatchBoard dispatchBoard;
 
-    public OrderAdapter(OrderJpaRepository repository, OrderEntityMapper mapper, ParcelJpaMapper parcelMapper, OrderAddressMapper addressMapper) {
+    public OrderAdapter(OrderJpaRepository repository, OrderEntityMapper mapper, ParcelJpaMapper parcelMapper,
+                        OrderAddressMapper addressMapper, TrackingStatusCache trackingCache, PersonReadCache personCache,
+                        DispatchBoard dispatchBoard) {
         this.repository = repository;
         this.mapper = mapper;
         this.parcelMapper = parcelMapper;
         this.addressMapper = addressMapper;
+        this.trackingCache = trackingCache;
+        this.personCache = personCache;
+        this.dispatchBoard = dispatchBoard;
     }
 
     @Transactional
@@ -30,6 +41,8 @@ public class OrderAdapter implements OrderCommandPort {
     public Order insert(Order order) {
         OrderJpaEntity entity = mapper.toEntity(order);
         OrderJpaEntity saved = repository.save(entity);
+        trackingCache.evictAfterCommit(order.getParcel().getTrackingNumber());
+        personCache.evictInfoAfterCommit(order.getUserId());
 
         return order.withId(saved.getId());
     }
@@ -40,8 +53,10 @@ public class OrderAdapter implements OrderCommandPort {
         OrderJpaEntity managed = repository.findWithParcelAndAddressesById(order.getId()).orElseThrow();
         mapper.updateEntityFromDomain(order, managed);
         parcelMapper.updateEntity(order.getParcel(), managed.getParcel());
+        trackingCache.evictAfterCommit(managed.getParcel().getTrackingNumber());
         addressMapper.updateEntity(order.getSenderAddress(), managed.getSenderAddress());
         addressMapper.updateEntity(order.getRecipientAddress(), managed.getRecipientAddress());
+        dispatchBoard.refreshAfterCommit(List.of(managed.getParcel().getId()));
         System.out.println("managed flat after update: " + managed.getSenderAddress().getDetailsJpa().getFlatNumber());
     }
 
@@ -1,7 +1,9 @@
 package gytis.courier.adapter.out.persistence.order;
 
+import gytis.courier.adapter.out.persistence.common.KeysetSpecification;
 import gytis.courier.adapter.out.persistence.common.PageResultMapper;
 import gytis.courier.adapter.out.persistence.common.PageableFactory;
+import gytis.courier.adapter.out.persistence.order.dispatch.DispatchBoard;
 import gytis.courier.adapter.out.persistence.order.projection.*;
 import gytis.courier.adapter.out.persistence.payment.PaymentJpaRepository;
 import gytis.courier.adapter.out.persistence.task.OrderAddressIdsProjection;
@@ -14,11 +16,13 @@ import gytis.courier.application.readmodel.order.OrderUserDetailReadModel;
 import gytis.courier.application.readmodel.order.UserOrderListReadModel;
 import gytis.courier.application.readmodel.order.OrderAdminDetailReadModel;
 import gytis.courier.application.readmodel.order.OrderForTaskReadModel;
+import gytis.courier.application.result.AssignableParcel;
 import gytis.courier.domain.address.AddressType;
 import gytis.courier.domain.order.ParcelStatus;
 import gytis.courier.domain.task.TaskItemCreationSnapshot;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -32,16 +36,25 @@ public class OrderQueryAdapter implements OrderQueryPort {
     private final PaymentJpaRepository paymentJpaRepository;
     private final OrderReadModelMapper readModelMapper;
     private final OrderSnapshotMapper snapshotMapper;
+    private final DispatchBoard dispatchBoard;
 
-    public OrderQueryAdapter(OrderJpaRepository repository, PaymentJpaRepository paymentJpaRepository, OrderReadModelMapper readModelMapper, OrderSnapshotMapper snapshotMapper) {
+    public OrderQueryAdapter(OrderJpaRepository repository, PaymentJpaRepository paymentJpaRepository, OrderReadModelMapper readModelMapper, OrderSnapshotMapper snapshotMapper, DispatchBoard dispatchBoard) {
         this.repository = repository;
         this.paymentJpaRepository = paymentJpaRepository;
         this.readModelMapper = readModelMapper;
         this.snapshotMapper = snapshotMapper;
+        this.dispatchBoard = dispatchBoard;
     }
 
     @Override
     public PageResult<OrderForTaskReadModel> findAllForTask(PageQuery pageQuery, Set<ParcelStatus> statuses, AddressType type) {
+        if (dispatchBoard.supports(pageQuery)) {
+            return dispatchBoard.page(pageQuery, statuses, type);
+        }
+        if (pageQuery.isKeyset()) {
+            throw new IllegalStateException("Keyset pages are served once the dispatch board has loaded");
+        }
+
         Pageable pageable = PageableFactory.from(pageQuery);
 
         Page<OrderForTaskProjection> orders = (type == AddressType.senderAddress)
@@ -54,6 +67,24 @@ public class OrderQueryAdapter implements OrderQueryPort {
         );
     }
 
+    @Override
+    public List<AssignableParcel> findAssignableParcels(Set<ParcelStatus> statuses, AddressType type) {
+        if (dispatchBoard.isReady()) {
+            return dispatchBoard.entries(statuses, type).stream()
+                    .map(e -> new AssignableParcel(e.parcelId(), e.orderId(), e.city(), e.postCode()))
+                    .toList();
+        }
+
+        Pageable pageable = Pageable.unpaged(Sort.by("id"));
+        Page<OrderForTaskProjection> orders = (type == AddressType.senderAddress)
+                ? repository.findAllForPickup(statuses, pageable)
+                : repository.findAllForDelivery(statuses, pageable);
+
+        return orders.stream()
+                .map(o -> new AssignableParcel(o.getParcelId(), o.getId(), o.getCity(), o.getPostCode()))
+                .toList();
+    }
+
     @Override
     public Optional<OrderUserDetailReadModel> findUserOrderDetail(Long orderId, Long userId) {
         return repository.findOrderDetailByIdAndUserId(orderId, userId)
@@ -75,8 +106,18 @@ public class OrderQueryAdapter implements OrderQueryPort {
 
     @Override
     public PageResult<AdminOrderListReadModel> findAdminOrders(PageQuery pageQuery, OrderQuery orderQuery) {
-        Pageable pageable = PageableFactory.from(pageQuery);
         Specification<OrderJpaEntity> specification = OrderSpecificationBuilder.from(orderQuery);
+        if (pageQuery.isKeyset()) {
+            return PageResultMapper.fromKeyset(
+                    seek(specification, pageQuery),
+                    pageQuery,
+                    readModelMapper::toAdminList,
+                    p -> sortValue(p, pageQuery),
+                    OrderListProjection::getId
+            );
+        }
+
+        Pageable pageable = PageableFactory.from(pageQuery);
 
         Page<OrderListProjection> projections = repository.findBy(
                 specification,
@@ -87,12 +128,38 @@ public class OrderQueryAdapter implements OrderQueryPort {
 
     @Override
     public PageResult<UserOrderListReadModel> findUserOrders(PageQuery pageQuery, Long userId) {
+        if (pageQuery.isKeyset()) {
+            return PageResultMapper.fromKeyset(
+                    seek(OrderSpecification.hasUserId(userId), pageQuery),
+                    pageQuery,
+                    readModelMapper::toUserList,
+                    p -> sortValue(p, pageQuery),
+                    OrderListProjection::getId
+            );
+        }
+
         Pageable pageable = PageableFactory.from(pageQuery);
         Page<OrderListProjection> projections = repository.findByUserId(pageable, userId);
 
         return PageResultMapper.from(projections, readModelMapper::toUserList);
     }
 
+    private List<OrderListProjection> seek(Specification<OrderJpaEntity> specification, PageQuery pageQuery) {
+        return repository.findBy(
+                specification.and(KeysetSpecification.after(pageQuery)),
+                q -> q.as(OrderListProjection.class)
+                        .sortBy(PageableFactory.keysetSort(pageQuery))
+                        .limit(PageableFactory.keysetLimit(pageQuery))
+                        .all()
+        );
+    }
+
+    private static Object sortValue(OrderListProjection projection, PageQuery pageQuery) {
+        return "createDate".equals(pageQuery.sortField())
+                ? projection.getCreateDate()
+                : projection.getId();
+    }
+
     public OrderAddressIdsProjection findOrderAddressIdByParcelId(Long parcelId) {
         return repository.findByParcelId(parcelId);
     }
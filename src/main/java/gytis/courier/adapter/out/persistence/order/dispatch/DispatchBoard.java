@@ -0,0 +1,309 @@
+package gytis.courier.adapter.out.persistence.order.dispatch;
+
+import gytis.courier.adapter.out.persistence.common.AddressFormatter;
+import gytis.courier.adapter.out.persistence.common.KeysetCursor;
+import gytis.courier.adapter.out.persistence.common.PageResultMapper;
+import gytis.courier.adapter.out.persistence.common.PageableFactory;
+import gytis.courier.application.common.AfterCommit;
+import gytis.courier.application.common.PageQuery;
+import gytis.courier.application.common.PageQueryDirection;
+import gytis.courier.application.common.PageResult;
+import gytis.courier.application.readmodel.order.OrderForTaskReadModel;
+import gytis.courier.domain.address.AddressType;
+import gytis.courier.domain.order.ParcelStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory dispatch board: every unassigned parcel waiting for a pickup or delivery task, kept
+ * per lane (sender address for pickups, recipient address for deliveries) in order id order, with
+ * a running count per status.
+ *
+ * <p>Writers call {@link #refreshAfterCommit} with the parcel ids they touched; once the
+ * transaction commits those rows are re-read and each parcel is put on or taken off the board.
+ * A keyset page seeks straight to its cursor in the lane, an offset page walks past the earlier
+ * pages in memory, and the available counts are plain lookups.</p>
+ *
+ * <p>{@link #reload()} rebuilds the board from scratch; it runs at startup and periodically to pick
+ * up changes committed through other instances. Parcels refreshed while a reload is reading are
+ * refreshed again after the swap, so the rebuilt board never hides a newer commit.</p>
+ */
+@Component
+public class DispatchBoard {
+    private static final Logger logger = LoggerFactory.getLogger(DispatchBoard.class);
+    private static final Map<ParcelStatus, AddressType> LANES = new EnumMap<>(Map.of(
+            ParcelStatus.PICKING_UP, AddressType.senderAddress,
+            ParcelStatus.FAILED_PICKUP, AddressType.senderAddress,
+            ParcelStatus.PICKED_UP, AddressType.recipientAddress,
+            ParcelStatus.FAILED_DELIVERY, AddressType.recipientAddress
+    ));
+    private static final Set<String> SORT_FIELDS = Set.of("id", "createDate");
+    private static final String SELECT_SQL = """
+            SELECT o.id AS order_id, o.create_date, o.delivery_method_name,
+                   p.id AS parcel_id, p.status, p.assigned, p.contents,
+                   COALESCE(p.failures_count, 0) AS failures_count, p.weight_name, p.dimensions_name,
+                   s.name AS s_name, s.phone_number AS s_phone_number, s.street AS s_street,
+                   s.house_number AS s_house_number, s.flat_number AS s_flat_number,
+                   s.city AS s_city, s.post_code AS s_post_code,
+                   r.name AS r_name, r.phone_number AS r_phone_number, r.street AS r_street,
+                   r.house_number AS r_house_number, r.flat_number AS r_flat_number,
+                   r.city AS r_city, r.post_code AS r_post_code
+            FROM orders o
+            JOIN parcels p ON p.id = o.parcel_id
+            JOIN order_addresses s ON s.id = o.sender_address_id
+            JOIN order_addresses r ON r.id = o.recipient_address_id
+            """;
+    private static final String LOAD_SQL = SELECT_SQL + "WHERE p.assigned = FALSE AND p.status IN (:statuses)";
+    private static final String REFRESH_SQL = SELECT_SQL + "WHERE p.id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> refreshedDuringReload = ConcurrentHashMap.newKeySet();
+    private volatile Board board = new Board();
+    private volatile boolean reloading;
+    private volatile boolean ready;
+
+    public DispatchBoard(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        long started = System.nanoTime();
+        refreshedDuringReload.clear();
+        reloading = true;
+
+        Board fresh = new Board();
+        MapSqlParameterSource params = new MapSqlParameterSource("statuses",
+                LANES.keySet().stream().map(Enum::name).toList());
+        jdbcTemplate.query(LOAD_SQL, params, rs -> {
+            Row row = toRow(rs);
+            if (row.entry() != null) fresh.put(row.entry());
+        });
+
+        lock.writeLock().lock();
+        try {
+            board = fresh;
+            reloading = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!refreshedDuringReload.isEmpty()) {
+            List<Long> ids = new ArrayList<>(refreshedDuringReload);
+            refreshedDuringReload.clear();
+            refresh(ids);
+        }
+        logger.info("Dispatch board loaded {} parcels in {} ms", fresh.byParcelId.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Offset and keyset pages sorted by order id or create date; both follow order id, since
+     * orders are stamped with their create date on insert.
+     */
+    public boolean supports(PageQuery pageQuery) {
+        return ready && (pageQuery.sortField() == null || SORT_FIELDS.contains(pageQuery.sortField()));
+    }
+
+    public PageResult<OrderForTaskReadModel> page(PageQuery pageQuery, Set<ParcelStatus> statuses, AddressType lane) {
+        lock.readLock().lock();
+        try {
+            Board current = board;
+            NavigableMap<Long, DispatchBoardEntry> entries = current.lane(lane);
+            if (pageQuery.direction() == PageQueryDirection.DESC) {
+                entries = entries.descendingMap();
+            }
+
+            if (pageQuery.isKeyset()) {
+                KeysetCursor cursor = KeysetCursor.from(pageQuery);
+                if (cursor != null) {
+                    entries = entries.tailMap(cursor.id(), false);
+                }
+                return PageResultMapper.fromKeyset(
+                        collect(entries, statuses, 0, PageableFactory.keysetLimit(pageQuery)),
+                        pageQuery,
+                        DispatchBoardEntry::order,
+                        entry -> "createDate".equals(pageQuery.sortField()) ? entry.order().createDate() : entry.orderId(),
+                        DispatchBoardEntry::orderId
+                );
+            }
+
+            long total = statuses.stream()
+                    .filter(s -> LANES.get(s) == lane)
+                    .mapToLong(current::count)
+                    .sum();
+            long skip = (long) pageQuery.page() * pageQuery.size();
+            List<OrderForTaskReadModel> data = collect(entries, statuses, skip, pageQuery.size()).stream()
+                    .map(DispatchBoardEntry::order)
+                    .toList();
+
+            int totalPages = (int) ((total + pageQuery.size() - 1) / pageQuery.size());
+            return new PageResult<>(data, pageQuery.page(), total, totalPages);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Snapshot of one lane in order id order, for callers that plan over the whole board.
+     */
+    public List<DispatchBoardEntry> entries(Set<ParcelStatus> statuses, AddressType lane) {
+        lock.readLock().lock();
+        try {
+            return board.lane(lane).values().stream()
+                    .filter(entry -> statuses.contains(entry.order().parcelStatus()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(ParcelStatus status) {
+        lock.readLock().lock();
+        try {
+            return board.count(status);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Re-reads the given parcels once the current transaction commits, or immediately without one.
+     */
+    public void refreshAfterCommit(Collection<Long> parcelIds) {
+        if (parcelIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(parcelIds);
+        AfterCommit.run(() -> refresh(ids));
+    }
+
+    private void refresh(List<Long> parcelIds) {
+        if (reloading) {
+            refreshedDuringReload.addAll(parcelIds);
+        }
+        if (!ready && !reloading) return;
+
+        List<Row> rows = jdbcTemplate.query(REFRESH_SQL, new MapSqlParameterSource("ids", parcelIds),
+                (rs, rowNum) -> toRow(rs));
+
+        lock.writeLock().lock();
+        try {
+            Board current = board;
+            parcelIds.forEach(current::remove);
+            rows.stream()
+                    .filter(row -> row.entry() != null)
+                    .forEach(row -> current.put(row.entry()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<DispatchBoardEntry> collect(NavigableMap<Long, DispatchBoardEntry> entries,
+                                                    Set<ParcelStatus> statuses, long skip, int limit) {
+        List<DispatchBoardEntry> collected = new ArrayList<>(limit);
+        for (DispatchBoardEntry entry : entries.values()) {
+            if (collected.size() == limit) break;
+            if (!statuses.contains(entry.order().parcelStatus())) continue;
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            collected.add(entry);
+        }
+        return collected;
+    }
+
+    private static Row toRow(ResultSet rs) throws SQLException {
+        long parcelId = rs.getLong("parcel_id");
+        String statusName = rs.getString("status");
+        ParcelStatus status = statusName == null ? null : ParcelStatus.valueOf(statusName);
+        AddressType lane = status == null ? null : LANES.get(status);
+        if (lane == null || rs.getBoolean("assigned")) {
+            return new Row(parcelId, null);
+        }
+
+        String prefix = lane == AddressType.senderAddress ? "s_" : "r_";
+        String city = rs.getString(prefix + "city");
+        String postCode = rs.getString(prefix + "post_code");
+        OrderForTaskReadModel order = new OrderForTaskReadModel(
+                rs.getLong("order_id"),
+                parcelId,
+                status,
+                rs.getString("contents"),
+                rs.getInt("failures_count"),
+                rs.getString("delivery_method_name"),
+                rs.getString("weight_name"),
+                rs.getString("dimensions_name"),
+                AddressFormatter.toFullAddress(
+                        rs.getString(prefix + "street"),
+                        rs.getString(prefix + "house_number"),
+                        rs.getString(prefix + "flat_number"),
+                        city,
+                        postCode
+                ),
+                rs.getString(prefix + "name") + " " + rs.getString(prefix + "phone_number"),
+                rs.getTimestamp("create_date").toLocalDateTime()
+        );
+        return new Row(parcelId, new DispatchBoardEntry(order, lane, city, postCode));
+    }
+
+    /**
+     * @param entry {@code null} when the parcel is not assignable and has to leave the board
+     */
+    private record Row(long parcelId, DispatchBoardEntry entry) {}
+
+    /**
+     * Guarded by the enclosing lock once published; built without it during a reload.
+     */
+    private static final class Board {
+        private final Map<AddressType, TreeMap<Long, DispatchBoardEntry>> lanes = new EnumMap<>(AddressType.class);
+        private final Map<Long, DispatchBoardEntry> byParcelId = new HashMap<>();
+        private final Map<ParcelStatus, Long> counts = new EnumMap<>(ParcelStatus.class);
+
+        void put(DispatchBoardEntry entry) {
+            remove(entry.parcelId());
+            lanes.computeIfAbsent(entry.lane(), l -> new TreeMap<>()).put(entry.orderId(), entry);
+            byParcelId.put(entry.parcelId(), entry);
+            counts.merge(entry.order().parcelStatus(), 1L, Long::sum);
+        }
+
+        void remove(Long parcelId) {
+            DispatchBoardEntry previous = byParcelId.remove(parcelId);
+            if (previous == null) return;
+            lanes.get(previous.lane()).remove(previous.orderId());
+            counts.merge(previous.order().parcelStatus(), -1L, Long::sum);
+        }
+
+        NavigableMap<Long, DispatchBoardEntry> lane(AddressType lane) {
+            return lanes.getOrDefault(lane, new TreeMap<>());
+        }
+
+        long count(ParcelStatus status) {
+            return counts.getOrDefault(status, 0L);
+        }
+    }
+}
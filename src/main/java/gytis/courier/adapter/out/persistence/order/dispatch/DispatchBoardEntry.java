@@ -0,0 +1,23 @@
+package gytis.courier.adapter.out.persistence.order.dispatch;
+
+import gytis.courier.application.readmodel.order.OrderForTaskReadModel;
+import gytis.courier.domain.address.AddressType;
+
+/**
+ * One assignable parcel on the dispatch board: the row shown to the dispatcher plus the
+ * city and post code of the address the courier has to visit.
+ */
+public record DispatchBoardEntry(
+        OrderForTaskReadModel order,
+        AddressType lane,
+        String city,
+        String postCode
+) {
+    public Long orderId() {
+        return order.orderId();
+    }
+
+    public Long parcelId() {
+        return order.parcelId();
+    }
+}
@@ -0,0 +1,116 @@
+package gytis.courier.adapter.out.persistence.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gytis.courier.application.port.out.outbox.OutboxEntry;
+import gytis.courier.application.port.out.outbox.OutboxPort;
+import gytis.courier.domain.event.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class OutboxAdapter implements OutboxPort {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxAdapter.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventJpaRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxAdapter(OutboxEventJpaRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional
+    @Override
+    public void append(List<DomainEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventJpaEntity> entities = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            entities.add(new OutboxEventJpaEntity(
+                    UUID.randomUUID().toString(),
+                    event.getClass().getName(),
+                    serialize(event),
+                    now
+            ));
+        }
+        repository.saveAll(entities);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public List<OutboxEntry> claimBatch(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = repository.lockDueIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        repository.lease(ids, now.plus(lease));
+
+        List<OutboxEntry> entries = new ArrayList<>(ids.size());
+        for (OutboxEventJpaEntity entity : repository.findAllByIdOrdered(ids)) {
+            try {
+                entries.add(new OutboxEntry(entity.getId(), entity.getIdempotencyKey(), deserialize(entity), entity.getAttempts()));
+            } catch (RuntimeException ex) {
+                logger.error("Outbox event {} of type {} cannot be read and is parked", entity.getId(), entity.getEventType(), ex);
+                repository.markFailed(entity.getId(), OutboxEventStatus.FAILED, entity.getAttempts() + 1, now, truncate(ex.getMessage()));
+            }
+        }
+        return entries;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public boolean markProcessed(String idempotencyKey) {
+        return repository.markProcessed(idempotencyKey, LocalDateTime.now(), OutboxEventStatus.PROCESSED, OutboxEventStatus.PENDING) > 0;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public void markFailed(Long id, int attempts, boolean exhausted, Duration retryAfter, String error) {
+        OutboxEventStatus status = exhausted ? OutboxEventStatus.FAILED : OutboxEventStatus.PENDING;
+        repository.markFailed(id, status, attempts, LocalDateTime.now().plus(retryAfter), truncate(error));
+    }
+
+    @Transactional
+    @Override
+    public int purgeProcessedBefore(LocalDateTime before) {
+        return repository.deleteProcessedBefore(OutboxEventStatus.PROCESSED, before);
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Domain event " + event.getClass().getSimpleName() + " cannot be serialized", ex);
+        }
+    }
+
+    private DomainEvent deserialize(OutboxEventJpaEntity entity) {
+        try {
+            Class<?> type = Class.forName(entity.getEventType());
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                throw new IllegalStateException("Not a domain event: " + entity.getEventType());
+            }
+            return (DomainEvent) objectMapper.readValue(entity.getPayload(), type);
+        } catch (ClassNotFoundException | JsonProcessingException ex) {
+            throw new IllegalStateException("Outbox payload cannot be read: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
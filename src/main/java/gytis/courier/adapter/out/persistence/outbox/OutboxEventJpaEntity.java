@@ -0,0 +1,69 @@
+package gytis.courier.adapter.out.persistence.outbox;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event waiting to be relayed. Rows are written in the transaction that raised the
+ * event and become visible to the relay only once it commits.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_available", columnList = "status, available_at, id")
+})
+public class OutboxEventJpaEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, updatable = false, length = 36)
+    private String idempotencyKey;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxEventStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    protected OutboxEventJpaEntity() {}
+
+    public OutboxEventJpaEntity(String idempotencyKey, String eventType, String payload, LocalDateTime createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.availableAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public String getEventType() { return eventType; }
+    public String getPayload() { return payload; }
+    public OutboxEventStatus getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public LocalDateTime getAvailableAt() { return availableAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public String getLastError() { return lastError; }
+}
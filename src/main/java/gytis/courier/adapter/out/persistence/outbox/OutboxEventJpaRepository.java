@@ -0,0 +1,57 @@
+package gytis.courier.adapter.out.persistence.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * Locks due rows; SKIP LOCKED lets several application instances claim disjoint batches.
+     */
+    @Query(value = """
+            SELECT id FROM outbox_events
+            WHERE status = 'PENDING' AND available_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query("SELECT e FROM OutboxEventJpaEntity e WHERE e.id IN :ids ORDER BY e.id")
+    List<OutboxEventJpaEntity> findAllByIdOrdered(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.availableAt = :leaseUntil WHERE e.id IN :ids")
+    int lease(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventJpaEntity e SET e.status = :processed, e.processedAt = :now, e.lastError = null
+            WHERE e.idempotencyKey = :key AND e.status = :pending
+            """)
+    int markProcessed(@Param("key") String idempotencyKey,
+                      @Param("now") LocalDateTime now,
+                      @Param("processed") OutboxEventStatus processed,
+                      @Param("pending") OutboxEventStatus pending);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventJpaEntity e
+            SET e.status = :status, e.attempts = :attempts, e.availableAt = :availableAt, e.lastError = :error
+            WHERE e.id = :id
+            """)
+    int markFailed(@Param("id") Long id,
+                   @Param("status") OutboxEventStatus status,
+                   @Param("attempts") int attempts,
+                   @Param("availableAt") LocalDateTime availableAt,
+                   @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.status = :processed AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("processed") OutboxEventStatus processed, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,7 @@
+package gytis.courier.adapter.out.persistence.outbox;
+
+public enum OutboxEventStatus {
+    PENDING,
+    PROCESSED,
+    FAILED
+}
@@ -1,64 +1,80 @@
 package gytis.courier.adapter.out.persistence.parcel;
 
+import gytis.courier.adapter.out.persistence.order.dispatch.DispatchBoard;
 import gytis.courier.application.port.out.parcel.ParcelCommandPort;
+import gytis.courier.application.result.ParcelFailureCount;
 import gytis.courier.domain.order.ParcelStatus;
-import gytis.courier.domain.order.Parcel;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Component
 public class ParcelCommandAdapter implements ParcelCommandPort {
     private final ParcelJpaRepository repository;
-    private final ParcelJpaMapper mapper;
+    private final TrackingStatusCache trackingCache;
+    private final ParcelCompletionWriter completionWriter;
+    private final DispatchBoard dispatchBoard;
 
-    public ParcelCommandAdapter(ParcelJpaRepository repository, ParcelJpaMapper mapper) {
+    public ParcelCommandAdapter(ParcelJpaRepository repository,
+                                TrackingStatusCache trackingCache, ParcelCompletionWriter completionWriter,
+                                DispatchBoard dispatchBoard) {
         this.repository = repository;
-        this.mapper = mapper;
-    }
-
-    @Override
-    public Optional<Parcel> find(Long id) {
-        return repository.findById(id)
-                .map(mapper::toDomain);
-    }
-
-    @Override
-    @Transactional
-    public Parcel update(Parcel parcel) {
-            ParcelJpaEntity managedEntity = repository.findById(parcel.getId()).orElseThrow();
-        mapper.updateEntity(parcel, managedEntity);
-
-        return parcel;
+        this.trackingCache = trackingCache;
+        this.completionWriter = completionWriter;
+        this.dispatchBoard = dispatchBoard;
     }
 
     @Transactional
     @Override
     public int changeStatuses(Map<ParcelStatus, List<Long>> groupedIdsByStatuses) {
         int total = 0;
+        List<Long> changedIds = new ArrayList<>();
         for (Map.Entry<ParcelStatus, List<Long>> entry : groupedIdsByStatuses.entrySet()) {
             total += repository.updateStatusByIds(entry.getKey(), entry.getValue());
+            changedIds.addAll(entry.getValue());
+        }
+        if (!changedIds.isEmpty()) {
+            trackingCache.evictAfterCommit(repository.findTrackingNumbersByIds(changedIds));
+            dispatchBoard.refreshAfterCommit(changedIds);
         }
         return total;
     }
 
+    @Transactional
+    @Override
+    public List<ParcelFailureCount> completeTaskParcels(Map<ParcelStatus, List<Long>> groupedIdsByStatuses, List<Long> failedIds) {
+        ParcelCompletionWriter.Completion completion = completionWriter.complete(groupedIdsByStatuses, failedIds);
+        trackingCache.evictAfterCommit(completion.trackingNumbers());
+        List<Long> completedIds = new ArrayList<>(failedIds);
+        groupedIdsByStatuses.values().forEach(completedIds::addAll);
+        dispatchBoard.refreshAfterCommit(completedIds);
+        return completion.failureCounts();
+    }
+
     @Transactional
     @Override
     public int markAssigned(List<Long> parcelIds) {
-        return repository.markAssigned(parcelIds);
+        int updated = repository.markAssigned(parcelIds);
+        dispatchBoard.refreshAfterCommit(parcelIds);
+        return updated;
     }
 
     @Transactional
     @Override
     public int markUnassigned(List<Long> parcelIds) {
-        return repository.markUnassigned(parcelIds);
+        int updated = repository.markUnassigned(parcelIds);
+        dispatchBoard.refreshAfterCommit(parcelIds);
+        return updated;
     }
 
     @Override
     public int updateStatus(Long parcelId, ParcelStatus parcelStatus) {
-        return repository.updateStatus(parcelId, parcelStatus);
+        int updated = repository.updateStatus(parcelId, parcelStatus);
+        trackingCache.evictAfterCommit(repository.findTrackingNumbersByIds(List.of(parcelId)));
+        dispatchBoard.refreshAfterCommit(List.of(parcelId));
+        return updated;
     }
 }
@@ -0,0 +1,84 @@
+package gytis.courier.adapter.out.persistence.parcel;
+
+import gytis.courier.application.result.ParcelFailureCount;
+import gytis.courier.domain.order.ParcelStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies the parcel side of a completed task in two statements regardless of its size:
+ * one UPDATE that unassigns every parcel, increments the failure count of failed ones and
+ * sets the new status of successful ones, and one SELECT that reads back the counts and
+ * tracking numbers. The status CASE has at most one branch per {@link ParcelStatus}.
+ */
+@Component
+public class ParcelCompletionWriter {
+    private static final String READ_BACK_SQL = """
+            SELECT id, tracking_number, COALESCE(failures_count, 0) AS failures_count
+            FROM parcels WHERE id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ParcelCompletionWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Completion complete(Map<ParcelStatus, List<Long>> statusUpdates, List<Long> failedIds) {
+        Set<Long> ids = new HashSet<>(failedIds);
+        statusUpdates.values().forEach(ids::addAll);
+        if (ids.isEmpty()) {
+            return new Completion(List.of(), List.of());
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        StringBuilder sql = new StringBuilder("UPDATE parcels SET assigned = FALSE");
+
+        if (!failedIds.isEmpty()) {
+            sql.append(", failures_count = COALESCE(failures_count, 0) + CASE WHEN id IN (:failed) THEN 1 ELSE 0 END");
+            params.addValue("failed", failedIds);
+        }
+
+        List<Map.Entry<ParcelStatus, List<Long>>> groups = statusUpdates.entrySet().stream()
+                .filter(e -> !e.getValue().isEmpty())
+                .toList();
+        if (!groups.isEmpty()) {
+            sql.append(", status = CASE");
+            for (int i = 0; i < groups.size(); i++) {
+                sql.append(" WHEN id IN (:s").append(i).append(") THEN :v").append(i);
+                params.addValue("s" + i, groups.get(i).getValue());
+                params.addValue("v" + i, groups.get(i).getKey().name());
+            }
+            sql.append(" ELSE status END");
+        }
+
+        sql.append(" WHERE id IN (:ids)");
+        jdbcTemplate.update(sql.toString(), params);
+
+        Set<Long> failed = new HashSet<>(failedIds);
+        List<String> trackingNumbers = new ArrayList<>(ids.size());
+        List<ParcelFailureCount> failureCounts = new ArrayList<>(failed.size());
+        jdbcTemplate.query(READ_BACK_SQL, params, rs -> {
+            long id = rs.getLong("id");
+            trackingNumbers.add(rs.getString("tracking_number"));
+            if (failed.contains(id)) {
+                failureCounts.add(new ParcelFailureCount(id, rs.getInt("failures_count")));
+            }
+        });
+
+        return new Completion(trackingNumbers, failureCounts);
+    }
+
+    public record Completion(
+            List<String> trackingNumbers,
+            List<ParcelFailureCount> failureCounts
+    ) {
+    }
+}
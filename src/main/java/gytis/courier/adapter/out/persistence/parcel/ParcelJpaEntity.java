@@ -6,10 +6,13 @@ import jakarta.persistence.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "parcels")
+@Table(name = "parcels", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_parcels_tracking_number", columnNames = "tracking_number")
+})
 public class ParcelJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parcels_seq")
+    @SequenceGenerator(name = "parcels_seq", sequenceName = "parcels_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "weight_id")
@@ -6,11 +6,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ParcelJpaRepository extends JpaRepository<ParcelJpaEntity, Long> {
-    Optional<ParcelStatus> findByTrackingNumber(String trackingNumber);
+    @Query("SELECT p.status FROM ParcelJpaEntity p WHERE p.trackingNumber = :trackingNumber")
+    Optional<ParcelStatus> findStatusByTrackingNumber(@Param("trackingNumber") String trackingNumber);
+
+    @Query("SELECT p.trackingNumber FROM ParcelJpaEntity p WHERE p.id IN :ids")
+    List<String> findTrackingNumbersByIds(@Param("ids") Collection<Long> ids);
+
     Long countByStatusAndAssignedFalse(ParcelStatus status);
 
     Long countByAssignedFalseAndStatusIn(List<ParcelStatus> statuses);
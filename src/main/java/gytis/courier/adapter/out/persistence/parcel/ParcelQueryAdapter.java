@@ -1,5 +1,6 @@
 package gytis.courier.adapter.out.persistence.parcel;
 
+import gytis.courier.adapter.out.persistence.order.dispatch.DispatchBoard;
 import gytis.courier.application.port.out.parcel.ParcelQueryPort;
 import gytis.courier.domain.order.ParcelStatus;
 import org.springframework.stereotype.Component;
@@ -10,23 +11,31 @@ import java.util.Optional;
 @Component
 public class ParcelQueryAdapter implements ParcelQueryPort {
     private final ParcelJpaRepository repository;
+    private final TrackingStatusCache trackingCache;
+    private final DispatchBoard dispatchBoard;
 
-    public ParcelQueryAdapter(ParcelJpaRepository repository) {
+    public ParcelQueryAdapter(ParcelJpaRepository repository, TrackingStatusCache trackingCache, DispatchBoard dispatchBoard) {
         this.repository = repository;
+        this.trackingCache = trackingCache;
+        this.dispatchBoard = dispatchBoard;
     }
 
     @Override
     public Optional<ParcelStatus> findStatusByTrackingNumber(String trackingNumber) {
-        return repository.findByTrackingNumber(trackingNumber);
+        return trackingCache.get(trackingNumber, repository::findStatusByTrackingNumber);
     }
 
     @Override
     public Long getCountByStatusAndNotAssigned(ParcelStatus status) {
-        return repository.countByStatusAndAssignedFalse(status);
+        return dispatchBoard.isReady()
+                ? dispatchBoard.count(status)
+                : repository.countByStatusAndAssignedFalse(status);
     }
 
     @Override
     public Long test(List<ParcelStatus> statuses) {
-        return repository.countByAssignedFalseAndStatusIn(statuses);
+        return dispatchBoard.isReady()
+                ? statuses.stream().distinct().mapToLong(dispatchBoard::count).sum()
+                : repository.countByAssignedFalseAndStatusIn(statuses);
     }
 }
@@ -0,0 +1,70 @@
+package gytis.courier.adapter.out.persistence.parcel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import gytis.courier.application.common.AfterCommit;
+import gytis.courier.domain.order.ParcelStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Tracking number to parcel status for the public tracking endpoint. Unknown numbers are
+ * cached as empty with a shorter lifetime, so repeated polls for a mistyped number do not
+ * reach the database. Entries are evicted after the transaction that changed the parcel
+ * commits.
+ */
+@Component
+public class TrackingStatusCache {
+    private final Cache<String, Optional<ParcelStatus>> cache;
+
+    public TrackingStatusCache(MeterRegistry registry,
+                               @Value("${parcel.tracking-cache.max-size:100000}") long maxSize,
+                               @Value("${parcel.tracking-cache.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${parcel.tracking-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new StatusExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, "parcel.tracking");
+    }
+
+    public Optional<ParcelStatus> get(String trackingNumber, Function<String, Optional<ParcelStatus>> loader) {
+        return cache.get(trackingNumber, loader);
+    }
+
+    public void evictAfterCommit(String trackingNumber) {
+        AfterCommit.run(() -> cache.invalidate(trackingNumber));
+    }
+
+    public void evictAfterCommit(Collection<String> trackingNumbers) {
+        if (trackingNumbers.isEmpty()) return;
+        AfterCommit.run(() -> cache.invalidateAll(trackingNumbers));
+    }
+
+    private record StatusExpiry(Duration found, Duration missing) implements Expiry<String, Optional<ParcelStatus>> {
+        @Override
+        public long expireAfterCreate(String key, Optional<ParcelStatus> value, long currentTime) {
+            return (value.isPresent() ? found : missing).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<ParcelStatus> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<ParcelStatus> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
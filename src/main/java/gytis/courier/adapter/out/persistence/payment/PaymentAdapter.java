@@ -1,25 +1,34 @@
 package gytis.courier.adapter.out.persistence.payment;
 
 import gytis.courier.adapter.out.persistence.payment.attempt.PaymentAttemptJpaEntity;
+import gytis.courier.adapter.out.persistence.payment.attempt.PaymentAttemptJpaRepository;
 import gytis.courier.application.port.out.payment.PaymentCommandPort;
 import gytis.courier.application.port.out.payment.PaymentQueryPort;
 import gytis.courier.application.readmodel.payment.UserPaymentSummaryReadModel;
 import gytis.courier.domain.payment.Payment;
 import gytis.courier.domain.payment.PaymentAttempt;
+import gytis.courier.domain.payment.PaymentAttemptStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class PaymentAdapter implements PaymentCommandPort, PaymentQueryPort {
     private final PaymentJpaRepository repository;
     private final PaymentEntityMapper mapper;
+    private final PaymentAttemptJpaRepository attemptRepository;
 
-    public PaymentAdapter(PaymentJpaRepository repository, PaymentEntityMapper mapper) {
+    public PaymentAdapter(PaymentJpaRepository repository, PaymentEntityMapper mapper,
+                          PaymentAttemptJpaRepository attemptRepository) {
         this.repository = repository;
         this.mapper = mapper;
+        this.attemptRepository = attemptRepository;
     }
 
     @Override
@@ -31,7 +40,7 @@ public class PaymentAdapter implements PaymentCommandPort, PaymentQueryPort {
     @Transactional
     @Override
     public void update(Payment payment) {
-        PaymentJpaEntity managed = repository.findByOrderId(payment.getOrderId());
+        PaymentJpaEntity managed = repository.findForUpdateByOrderId(payment.getOrderId());
         mapper.basicUpdate(payment, managed);
 
         syncAttempts(managed, payment.getPaymentAttempts());
@@ -40,10 +49,17 @@ public class PaymentAdapter implements PaymentCommandPort, PaymentQueryPort {
     @Transactional
     @Override
     public void updateBasic(Payment payment) {
-        PaymentJpaEntity managed = repository.findByOrderId(payment.getOrderId());
+        PaymentJpaEntity managed = repository.findForUpdateByOrderId(payment.getOrderId());
         mapper.basicUpdate(payment, managed);
     }
 
+    @Transactional
+    @Override
+    public int failPendingAttemptsCreatedBefore(LocalDateTime cutoff, String reason) {
+        return attemptRepository.failPendingCreatedBefore(cutoff, reason,
+                PaymentAttemptStatus.PENDING, PaymentAttemptStatus.FAILED);
+    }
+
     @Override
     public Payment findByOrderId(Long orderId) {
         return mapper.toDomain(repository.findByOrderId(orderId));
@@ -59,12 +75,28 @@ public class PaymentAdapter implements PaymentCommandPort, PaymentQueryPort {
         return repository.findUserProjectionByOrderId(orderId).map(mapper::toUserPaymentInfoReadModel);
     }
 
+    /**
+     * Inserts new attempts and copies the outcome of completed ones onto their rows, including the
+     * client key an abandoned attempt gives up.
+     */
     private void syncAttempts(PaymentJpaEntity managed, List<PaymentAttempt> domainAttempts) {
+        Map<Long, PaymentAttemptJpaEntity> existing = managed.getAttempts().stream()
+                .collect(Collectors.toMap(PaymentAttemptJpaEntity::getId, Function.identity()));
+
         for (PaymentAttempt domain : domainAttempts) {
             if (domain.getId() == null) {
                 PaymentAttemptJpaEntity entity = mapper.toAttemptEntity(domain);
                 entity.setPayment(managed);
                 managed.getAttempts().add(entity);
+                continue;
+            }
+
+            PaymentAttemptJpaEntity entity = existing.get(domain.getId());
+            if (entity != null && entity.getStatus() != domain.getStatus()) {
+                entity.setStatus(domain.getStatus());
+                entity.setTransactionId(domain.getTransactionId());
+                entity.setFailureReason(domain.getFailureReason());
+                entity.setClientKey(domain.getClientKey());
             }
         }
     }
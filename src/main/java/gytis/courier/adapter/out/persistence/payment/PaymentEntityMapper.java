@@ -32,6 +32,8 @@ public interface PaymentEntityMapper {
                 entity.getProviderType(),
                 entity.getTransactionId(),
                 entity.getFailureReason(),
+                entity.getIdempotencyKey(),
+                entity.getClientKey(),
                 entity.getCreatedAt()
         );
     }
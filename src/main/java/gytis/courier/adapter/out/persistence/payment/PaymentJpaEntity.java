@@ -11,7 +11,8 @@ import java.util.List;
 @Table(name = "payments")
 public class PaymentJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     Long id;
 
     @Column(name = "order_id", nullable = false)
@@ -24,6 +25,10 @@ public class PaymentJpaEntity {
     @Column(nullable = false)
     private PaymentStatus status;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(mappedBy = "payment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PaymentAttemptJpaEntity> attempts;
     
@@ -33,6 +38,7 @@ public class PaymentJpaEntity {
     public Long getOrderId() { return orderId; }
     public BigDecimal getAmount() { return amount; }
     public PaymentStatus getStatus() { return status; }
+    public long getVersion() { return version; }
     public List<PaymentAttemptJpaEntity> getAttempts() { return attempts; }
 
     public void setOrderId(Long orderId) { this.orderId = orderId; }
@@ -2,7 +2,9 @@ package gytis.courier.adapter.out.persistence.payment;
 
 import gytis.courier.adapter.out.persistence.order.projection.PaymentProjection;
 import gytis.courier.adapter.out.persistence.payment.projection.PaymentUserProjection;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,6 +13,14 @@ import java.util.Optional;
 public interface PaymentJpaRepository extends JpaRepository<PaymentJpaEntity, Long> {
     @Query("SELECT p FROM PaymentJpaEntity p LEFT JOIN FETCH p.attempts WHERE p.orderId = :orderId")
     PaymentJpaEntity findByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * Same row as {@link #findByOrderId}, but the version is bumped and checked on commit even when
+     * only attempts change, so two writers that read the same version cannot both commit.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT p FROM PaymentJpaEntity p LEFT JOIN FETCH p.attempts WHERE p.orderId = :orderId")
+    PaymentJpaEntity findForUpdateByOrderId(@Param("orderId") Long orderId);
     Optional<PaymentUserProjection> findUserProjectionByOrderId(Long id);
     PaymentProjection findAdminProjectionByOrderId(Long id);
 }
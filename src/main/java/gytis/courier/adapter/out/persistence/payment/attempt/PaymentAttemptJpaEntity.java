@@ -8,13 +8,15 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payment_attempts")
+@Table(name = "payment_attempts", indexes = {
+        @Index(name = "idx_payment_attempts_status_created", columnList = "status, created_at")
+})
 public class PaymentAttemptJpaEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, updatable = false)
+    @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PaymentAttemptStatus status;
 
@@ -22,12 +24,16 @@ public class PaymentAttemptJpaEntity {
     @Enumerated(EnumType.STRING)
     private ProviderType providerType;
 
-    @Column(updatable = false)
     private String transactionId;
 
-    @Column(updatable = false)
     private String failureReason;
 
+    @Column(length = 64, unique = true, updatable = false)
+    private String idempotencyKey;
+
+    @Column(length = 64)
+    private String clientKey;
+
     @Column(nullable = false, updatable = false, columnDefinition = "DATETIME(0)")
     private LocalDateTime createdAt;
 
@@ -47,6 +53,8 @@ public class PaymentAttemptJpaEntity {
     public ProviderType getProviderType() { return providerType; }
     public String getTransactionId() { return transactionId; }
     public String getFailureReason() { return failureReason; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public String getClientKey() { return clientKey; }
     public LocalDateTime getCreatedAt() { return createdAt; }
 /*    public PaymentJpaEntity getPayment() { return payment; }*/
 
@@ -54,5 +62,7 @@ public class PaymentAttemptJpaEntity {
     public void setProviderType(ProviderType providerType) { this.providerType = providerType; }
     public void setTransactionId(String transactionId) { this.transactionId = transactionId; }
     public void setFailureReason(String failureReason) { this.failureReason = failureReason; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+    public void setClientKey(String clientKey) { this.clientKey = clientKey; }
     public void setPayment(PaymentJpaEntity payment) { this.payment = payment; }
 }
@@ -0,0 +1,22 @@
+package gytis.courier.adapter.out.persistence.payment.attempt;
+
+import gytis.courier.domain.payment.PaymentAttemptStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface PaymentAttemptJpaRepository extends JpaRepository<PaymentAttemptJpaEntity, Long> {
+    @Modifying
+    @Query("""
+        UPDATE PaymentAttemptJpaEntity a
+        SET a.status = :failed, a.failureReason = :reason, a.clientKey = NULL
+        WHERE a.status = :pending AND a.createdAt < :cutoff
+    """)
+    int failPendingCreatedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                 @Param("reason") String reason,
+                                 @Param("pending") PaymentAttemptStatus pending,
+                                 @Param("failed") PaymentAttemptStatus failed);
+}
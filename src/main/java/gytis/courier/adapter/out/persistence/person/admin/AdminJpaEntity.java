@@ -4,6 +4,7 @@ import gytis.courier.adapter.out.persistence.person.common.PersonJpaEntity;
 import jakarta.persistence.*;
 
 @Entity
+@DiscriminatorValue("ADMIN")
 @Table(name = "admins")
 public class AdminJpaEntity extends PersonJpaEntity {
 /*    @OneToMany(mappedBy = "createdBy", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -2,11 +2,9 @@ package gytis.courier.adapter.out.persistence.person.admin;
 
 import gytis.courier.adapter.out.persistence.person.projection.AdminInfoProjection;
 import gytis.courier.adapter.out.persistence.person.projection.AdminViewAdminProjection;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface AdminJpaRepository extends JpaRepository<AdminJpaEntity, Long> {
@@ -19,9 +17,6 @@ public interface AdminJpaRepository extends JpaRepository<AdminJpaEntity, Long>
     """)
     Optional<AdminInfoProjection> getAdminInfo(Long id);
 
-    @Query("SELECT a.id FROM AdminJpaEntity a WHERE a.blocked = false AND a.deleted = false")
-    List<Long> findAllActiveIds(Pageable pageable);
-
     @Query("""
     SELECT a.id AS id,
            a.name AS name,
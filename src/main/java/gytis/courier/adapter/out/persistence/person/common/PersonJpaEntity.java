@@ -16,7 +16,8 @@ import java.util.Objects;
 @Entity
 @SQLRestriction("deleted = false")
 @Inheritance(strategy = InheritanceType.JOINED)
-@Table(name = "persons")
+@DiscriminatorColumn(name = "role", discriminatorType = DiscriminatorType.STRING, length = 16)
+@Table(name = "persons", indexes = @Index(name = "idx_persons_role", columnList = "role"))
 public abstract class PersonJpaEntity implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -15,15 +15,9 @@ public interface PersonJpaRepository extends JpaRepository<PersonJpaEntity, Long
     Page<AdminPersonListProjection> findBy(Specification<PersonJpaEntity> specification, Pageable pageable);
     boolean existsByEmail(String email);
 
-    @Query("""
-    SELECT
-        CASE
-            WHEN TYPE(p) = AdminJpaEntity THEN 'ADMIN'
-            WHEN TYPE(p) = CourierJpaEntity THEN 'COURIER'
-            WHEN TYPE(p) = UserJpaEntity THEN 'USER'
-        END
-    FROM PersonJpaEntity p
-    WHERE p.id = :id
-""")
+    /**
+     * Reads the {@code role} discriminator straight from {@code persons}, without joining the subtype tables.
+     */
+    @Query(value = "SELECT role FROM persons WHERE id = :id AND deleted = false", nativeQuery = true)
     Optional<String> findRoleById(Long id);
 }
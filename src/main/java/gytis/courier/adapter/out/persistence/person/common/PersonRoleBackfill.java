@@ -0,0 +1,49 @@
+package gytis.courier.adapter.out.persistence.person.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Fills the {@code persons.role} discriminator for rows created before the column existed.
+ * On an up-to-date schema every statement matches nothing and the runner is a no-op.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PersonRoleBackfill implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(PersonRoleBackfill.class);
+
+    private static final Map<String, String> ROLE_TABLES = Map.of(
+            "ADMIN", "admins",
+            "COURIER", "couriers",
+            "USER", "users"
+    );
+
+    private static final String BACKFILL_SQL = """
+            UPDATE persons SET role = ?
+            WHERE (role IS NULL OR role = '') AND id IN (SELECT id FROM %s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PersonRoleBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ROLE_TABLES.forEach((role, table) -> {
+            int updated = jdbcTemplate.update(BACKFILL_SQL.formatted(table), role);
+            if (updated > 0) {
+                logger.info("Backfilled role {} for {} persons", role, updated);
+            }
+        });
+    }
+}
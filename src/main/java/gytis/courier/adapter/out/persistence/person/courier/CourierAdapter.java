@@ -1,6 +1,7 @@
 package gytis.courier.adapter.out.persistence.person.courier;
 
 import gytis.courier.adapter.out.persistence.person.PersonEntityMapper;
+import gytis.courier.adapter.out.persistence.person.query.PersonReadCache;
 import gytis.courier.adapter.out.persistence.person.user.PersonInfoReadModelMapper;
 import gytis.courier.application.port.out.person.CourierCommandPort;
 import gytis.courier.application.port.out.person.CourierQueryPort;
@@ -17,11 +18,13 @@ public class CourierAdapter implements CourierQueryPort, CourierCommandPort {
     private final CourierJpaRepository repository;
     private final PersonInfoReadModelMapper mapper;
     private final PersonEntityMapper entityMapper;
+    private final PersonReadCache readCache;
 
-    public CourierAdapter(CourierJpaRepository repository, PersonInfoReadModelMapper mapper, PersonEntityMapper entityMapper) {
+    public CourierAdapter(CourierJpaRepository repository, PersonInfoReadModelMapper mapper, PersonEntityMapper entityMapper, PersonReadCache readCache) {
         this.repository = repository;
         this.mapper = mapper;
         this.entityMapper = entityMapper;
+        this.readCache = readCache;
     }
 
     @Override
@@ -46,5 +49,6 @@ public class CourierAdapter implements CourierQueryPort, CourierCommandPort {
         System.out.println("id: " + courier.getId() + "has active task:  " + courier.getHasActiveTask());
         CourierJpaEntity managed = repository.findById(courier.getId()).orElseThrow();
         entityMapper.updateCourier(courier, managed);
+        readCache.evictInfoAfterCommit(courier.getId());
     }
 }
@@ -4,6 +4,7 @@ import gytis.courier.adapter.out.persistence.person.common.PersonJpaEntity;
 import jakarta.persistence.*;
 
 @Entity
+@DiscriminatorValue("COURIER")
 @Table(name = "couriers")
 public class CourierJpaEntity extends PersonJpaEntity {
 /*    @OneToMany(mappedBy = "courier", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -3,7 +3,6 @@ package gytis.courier.adapter.out.persistence.person.courier;
 import gytis.courier.adapter.out.persistence.person.projection.AdminViewCourierProjection;
 import gytis.courier.adapter.out.persistence.person.projection.CourierInfoProjection;
 import gytis.courier.adapter.out.persistence.person.projection.CourierProjection;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -23,9 +22,6 @@ public interface CourierJpaRepository extends JpaRepository<CourierJpaEntity, Lo
     """)
     Optional<CourierInfoProjection> getCourierInfo(Long id);
 
-    @Query("SELECT c.id FROM CourierJpaEntity c WHERE c.blocked = false AND c.deleted = false")
-    List<Long> findAllActiveIds(Pageable pageable);
-
     @Query("""
     SELECT c.id AS id,
            c.name AS name,
@@ -3,6 +3,9 @@ package gytis.courier.adapter.out.persistence.person.management;
 import gytis.courier.adapter.out.persistence.person.PersonEntityMapper;
 import gytis.courier.adapter.out.persistence.person.common.PersonJpaEntity;
 import gytis.courier.adapter.out.persistence.person.common.PersonJpaRepository;
+import gytis.courier.adapter.out.persistence.person.query.PersonReadCache;
+import gytis.courier.adapter.out.persistence.person.search.PersonSearchDocument;
+import gytis.courier.adapter.out.persistence.person.search.PersonSearchIndex;
 import gytis.courier.application.port.out.person.PersonCommandPort;
 import gytis.courier.domain.person.Person;
 import org.springframework.stereotype.Component;
@@ -14,10 +17,15 @@ import java.util.Optional;
 public class PersonAdapter implements PersonCommandPort {
     private final PersonJpaRepository repository;
     private final PersonEntityMapper mapper;
+    private final PersonReadCache readCache;
+    private final PersonSearchIndex searchIndex;
 
-    public PersonAdapter(PersonJpaRepository repository, PersonEntityMapper mapper) {
+    public PersonAdapter(PersonJpaRepository repository, PersonEntityMapper mapper, PersonReadCache readCache,
+                         PersonSearchIndex searchIndex) {
         this.repository = repository;
         this.mapper = mapper;
+        this.readCache = readCache;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -37,5 +45,12 @@ public class PersonAdapter implements PersonCommandPort {
     public void save(Person person) {
         PersonJpaEntity manage = repository.findById(person.getId()).orElseThrow();
         mapper.updateEntityFromDomain(person, manage);
+        readCache.evictAfterCommit(person.getId());
+
+        if (manage.isDeleted()) {
+            searchIndex.removeAfterCommit(manage.getId());
+        } else {
+            searchIndex.indexAfterCommit(PersonSearchDocument.of(manage));
+        }
     }
 }
@@ -7,21 +7,27 @@ import gytis.courier.adapter.out.persistence.person.common.PersonJpaEntity;
 import gytis.courier.adapter.out.persistence.person.common.PersonJpaRepository;
 import gytis.courier.adapter.out.persistence.person.common.PersonSpecificationBuilder;
 import gytis.courier.adapter.out.persistence.person.courier.CourierJpaRepository;
+import gytis.courier.adapter.out.persistence.person.search.PersonSearchIndex;
 import gytis.courier.adapter.out.persistence.person.user.PersonInfoReadModelMapper;
 import gytis.courier.adapter.out.persistence.person.user.UserJpaRepository;
 import gytis.courier.application.common.PageQuery;
+import gytis.courier.application.common.PageQueryDirection;
 import gytis.courier.application.common.PageResult;
 import gytis.courier.application.port.out.auth.PersonQueryPort;
 import gytis.courier.application.query.filter.PersonQuery;
 import gytis.courier.application.readmodel.person.*;
 import gytis.courier.domain.person.Role;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class PersonQueryAdapter implements PersonQueryPort {
@@ -30,18 +36,26 @@ public class PersonQueryAdapter implements PersonQueryPort {
     private final UserJpaRepository userRepo;
     private final PersonJpaRepository personRepo;
     private final PersonInfoReadModelMapper mapper;
+    private final PersonReadCache cache;
+    private final PersonSearchIndex searchIndex;
 
 
-    public PersonQueryAdapter(AdminJpaRepository adminRepo, CourierJpaRepository courierRepo, UserJpaRepository userRepo, PersonJpaRepository personRepo, PersonInfoReadModelMapper mapper) {
+    public PersonQueryAdapter(AdminJpaRepository adminRepo, CourierJpaRepository courierRepo, UserJpaRepository userRepo, PersonJpaRepository personRepo, PersonInfoReadModelMapper mapper, PersonReadCache cache, PersonSearchIndex searchIndex) {
         this.adminRepo = adminRepo;
         this.courierRepo = courierRepo;
         this.userRepo = userRepo;
         this.personRepo = personRepo;
         this.mapper = mapper;
+        this.cache = cache;
+        this.searchIndex = searchIndex;
     }
 
     @Override
     public Optional<MyInfoReadModel> getMyInfo(Long id, String role) {
+        return cache.info(id, personId -> loadMyInfo(personId, role));
+    }
+
+    private Optional<MyInfoReadModel> loadMyInfo(Long id, String role) {
         return switch (role.toUpperCase()) {
             case "USER" -> userRepo.getUserInfo(id).map(mapper::toReadModel);
             case "ADMIN" -> adminRepo.getAdminInfo(id).map(mapper::toReadModel);
@@ -52,8 +66,14 @@ public class PersonQueryAdapter implements PersonQueryPort {
 
     @Override
     public PageResult<AdminPersonListReadModel> getAll(PersonQuery query, PageQuery pageQuery) {
+        if (query.keyword() != null && !query.keyword().isBlank() && searchIndex.isReady()) {
+            return search(query, pageQuery);
+        }
+
         Specification<PersonJpaEntity> specification = PersonSpecificationBuilder.buildPersonSpecification(query.role(), query.keyword());
-        Pageable pageable = PageableFactory.from(pageQuery);
+        Pageable pageable = PageableFactory.from(PersonSearchIndex.RELEVANCE.equals(pageQuery.sortField())
+                ? new PageQuery(pageQuery.page(), pageQuery.size(), "id", PageQueryDirection.ASC)
+                : pageQuery);
 
         return PageResultMapper.from(
                 personRepo.findAll(specification, pageable),
@@ -61,9 +81,37 @@ public class PersonQueryAdapter implements PersonQueryPort {
         );
     }
 
+    /**
+     * Keyword searches are matched and sorted by the in-memory index; only the requested page is
+     * hydrated, with a single IN query that still applies the {@code deleted = false} restriction.
+     * Relevance sorting only exists here, so the database fallback above orders it by id.
+     */
+    private PageResult<AdminPersonListReadModel> search(PersonQuery query, PageQuery pageQuery) {
+        if (query.role() != null && !query.role().isEmpty()
+                && Arrays.stream(Role.values()).noneMatch(r -> r.name().equalsIgnoreCase(query.role()))) {
+            throw new IllegalArgumentException("Invalid role: " + query.role());
+        }
+        List<Long> ranked = searchIndex.search(query.keyword(), query.role(), pageQuery.sortField(), pageQuery.direction());
+
+        int from = (int) Math.min((long) pageQuery.page() * pageQuery.size(), ranked.size());
+        int to = Math.min(from + pageQuery.size(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+
+        Map<Long, PersonJpaEntity> byId = personRepo.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(PersonJpaEntity::getId, Function.identity()));
+        List<AdminPersonListReadModel> data = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(mapper::toAdminList)
+                .toList();
+
+        int totalPages = (int) Math.ceil((double) ranked.size() / pageQuery.size());
+        return new PageResult<>(data, pageQuery.page(), ranked.size(), totalPages);
+    }
+
     @Override
     public Optional<Role> findPersonRole(Long id) {
-        return personRepo.findRoleById(id).map(Role::valueOf);
+        return cache.role(id, personId -> personRepo.findRoleById(personId).map(Role::valueOf));
     }
 
     @Override
@@ -81,24 +129,6 @@ public class PersonQueryAdapter implements PersonQueryPort {
         return adminRepo.getAdminDetailedById(id).map(mapper::toAdminDetailed);
     }
 
-    @Override
-    public List<Long> getAllActiveUserIds(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return userRepo.findAllActiveIds(pageable);
-    }
-
-    @Override
-    public List<Long> getAllActiveCourierIds(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return courierRepo.findAllActiveIds(pageable);
-    }
-
-    @Override
-    public List<Long> getAllActiveAdminIds(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return adminRepo.findAllActiveIds(pageable);
-    }
-
     @Override
     public boolean existsByEmail(String email) {
         return personRepo.existsByEmail(email);
@@ -0,0 +1,74 @@
+package gytis.courier.adapter.out.persistence.person.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gytis.courier.application.common.AfterCommit;
+import gytis.courier.application.readmodel.person.MyInfoReadModel;
+import gytis.courier.domain.person.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Per-person read models for the header ({@code /me}) and role resolution. Both are read on almost
+ * every page load and change rarely, so they are loaded on first access and evicted after the
+ * transaction that modified the person commits. Counters inside {@link MyInfoReadModel} (orders,
+ * created tasks) are only bounded by the info TTL.
+ *
+ * <p>Missing persons are not cached, so a lookup for a just-created account is never stuck on empty.</p>
+ */
+@Component
+public class PersonReadCache {
+    private final Cache<Long, MyInfoReadModel> infos;
+    private final Cache<Long, Role> roles;
+
+    public PersonReadCache(MeterRegistry registry,
+                           @Value("${person.info-cache.max-size:50000}") long infoMaxSize,
+                           @Value("${person.info-cache.ttl-seconds:60}") long infoTtlSeconds,
+                           @Value("${person.role-cache.max-size:100000}") long roleMaxSize,
+                           @Value("${person.role-cache.ttl-seconds:3600}") long roleTtlSeconds) {
+        this.infos = Caffeine.newBuilder()
+                .maximumSize(infoMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(infoTtlSeconds))
+                .recordStats()
+                .build();
+        this.roles = Caffeine.newBuilder()
+                .maximumSize(roleMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(roleTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, infos, "person.info");
+        CaffeineCacheMetrics.monitor(registry, roles, "person.role");
+    }
+
+    public Optional<MyInfoReadModel> info(Long personId, Function<Long, Optional<MyInfoReadModel>> loader) {
+        return Optional.ofNullable(infos.get(personId, id -> loader.apply(id).orElse(null)));
+    }
+
+    public Optional<Role> role(Long personId, Function<Long, Optional<Role>> loader) {
+        return Optional.ofNullable(roles.get(personId, id -> loader.apply(id).orElse(null)));
+    }
+
+    /**
+     * Drops both entries for the person once the current transaction commits, or immediately without one.
+     */
+    public void evictAfterCommit(Long personId) {
+        AfterCommit.run(() -> {
+            infos.invalidate(personId);
+            roles.invalidate(personId);
+        });
+    }
+
+    /**
+     * Drops only the header read model; the role cannot change through the calling write.
+     */
+    public void evictInfoAfterCommit(Long personId) {
+        AfterCommit.run(() -> infos.invalidate(personId));
+    }
+}
@@ -0,0 +1,36 @@
+package gytis.courier.adapter.out.persistence.person.search;
+
+import gytis.courier.adapter.out.persistence.person.common.PersonJpaEntity;
+
+import java.util.Locale;
+
+/**
+ * Searchable fields of one person, normalized once at indexing time: name and email lower-cased,
+ * phone reduced to its digits.
+ */
+public record PersonSearchDocument(
+        Long id,
+        String role,
+        String name,
+        String email,
+        String phone
+) {
+    public PersonSearchDocument {
+        name = normalize(name);
+        email = normalize(email);
+        phone = phone == null ? "" : phone.replaceAll("\\D", "");
+    }
+
+    public static PersonSearchDocument of(PersonJpaEntity entity) {
+        return new PersonSearchDocument(entity.getId(), entity.getRole(), entity.getName(), entity.getEmail(),
+                entity.getPhoneNumber());
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    String[] fields() {
+        return new String[]{name, email, phone};
+    }
+}
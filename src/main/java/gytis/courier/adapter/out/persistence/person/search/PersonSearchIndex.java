@@ -0,0 +1,306 @@
+package gytis.courier.adapter.out.persistence.person.search;
+
+import gytis.courier.application.common.AfterCommit;
+import gytis.courier.application.common.PageQueryDirection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * In-process trigram index over person name, email and phone for the admin person search.
+ *
+ * <p>Every live person holds a slot; each trigram maps to the sorted slots whose fields contain it.
+ * A query is answered from the posting list of its rarest trigram and every candidate is verified
+ * against the stored fields, since sharing trigrams does not make a substring. Edits move a slot
+ * only between the postings of the trigrams that changed, deletions take it out of all of them and
+ * free it for the next person, so postings never outgrow the live documents. Queries shorter than
+ * a trigram scan the live documents directly.</p>
+ *
+ * <p>Only non-deleted persons are loaded and deletions drop the document, matching the
+ * {@code deleted = false} restriction on {@code PersonJpaEntity}. Until the initial load completes
+ * {@link #isReady()} is false and callers fall back to the database.</p>
+ */
+@Component
+public class PersonSearchIndex {
+    public static final String RELEVANCE = "relevance";
+    private static final Logger logger = LoggerFactory.getLogger(PersonSearchIndex.class);
+    private static final int GRAM = 3;
+    private static final Pattern PHONE_QUERY = Pattern.compile("[\\d\\s+()\\-]+");
+    private static final String LOAD_SQL = """
+            SELECT id, role, name, email, phone_number FROM persons WHERE deleted = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final List<PersonSearchDocument> documents = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private volatile boolean ready;
+
+    public PersonSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Holds the write lock while reading, so index updates from transactions committing meanwhile
+     * wait and are applied on top of the snapshot instead of being overwritten by it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                put(new PersonSearchDocument(rs.getLong("id"), rs.getString("role"), rs.getString("name"),
+                        rs.getString("email"), rs.getString("phone_number")));
+            });
+            ready = true;
+            logger.info("Person search index loaded {} persons, {} postings in {} ms", slotsById.size(),
+                    postingCount(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Slot entries across all posting lists; tracks the live documents' trigrams exactly.
+     */
+    public long postingCount() {
+        lock.readLock().lock();
+        try {
+            return postings.values().stream().mapToLong(p -> p.size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param keyword free text matched against name, email and phone
+     * @param role    optional role filter, case-insensitive
+     * @return matching person ids, best match first: exact field, field prefix, word prefix, substring
+     */
+    public List<Long> search(String keyword, String role) {
+        return search(keyword, role, RELEVANCE, PageQueryDirection.ASC);
+    }
+
+    /**
+     * @param sortField {@link #RELEVANCE}, {@code id}, {@code name} or {@code email}; ties fall back to id
+     * @param direction for relevance, {@code ASC} puts the best match first
+     * @throws IllegalArgumentException for a sort field the index does not hold
+     */
+    public List<Long> search(String keyword, String role, String sortField, PageQueryDirection direction) {
+        Comparator<Match> order = order(sortField);
+        if (direction == PageQueryDirection.DESC) {
+            order = order.reversed();
+        }
+        String text = PersonSearchDocument.normalize(keyword);
+        if (text.isEmpty()) return List.of();
+        String digits = PHONE_QUERY.matcher(text).matches() ? text.replaceAll("\\D", "") : "";
+
+        lock.readLock().lock();
+        try {
+            List<Match> matches = new ArrayList<>();
+            candidates(text, digits).forEach(slot -> {
+                PersonSearchDocument document = documents.get(slot);
+                if (document == null || (role != null && !role.isBlank() && !role.equalsIgnoreCase(document.role()))) {
+                    return;
+                }
+                int rank = rank(document, text, digits);
+                if (rank < Integer.MAX_VALUE) {
+                    matches.add(new Match(document, rank));
+                }
+            });
+
+            return matches.stream()
+                    .sorted(order)
+                    .map(m -> m.document().id())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void indexAfterCommit(PersonSearchDocument document) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                put(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void removeAfterCommit(Long personId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                Integer slot = slotsById.remove(personId);
+                if (slot == null) return;
+                unpost(grams(documents.get(slot)), slot);
+                documents.set(slot, null);
+                freeSlots.push(slot);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void put(PersonSearchDocument document) {
+        Integer slot = slotsById.get(document.id());
+        PersonSearchDocument previous = null;
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? documents.size() : freeSlots.pop();
+            if (slot == documents.size()) {
+                documents.add(document);
+            } else {
+                documents.set(slot, document);
+            }
+            slotsById.put(document.id(), slot);
+        } else {
+            previous = documents.set(slot, document);
+            if (Arrays.equals(previous.fields(), document.fields())) return;
+        }
+
+        Set<String> previousGrams = previous == null ? Set.of() : grams(previous);
+        Set<String> grams = grams(document);
+        Set<String> dropped = new HashSet<>(previousGrams);
+        dropped.removeAll(grams);
+        unpost(dropped, slot);
+
+        int target = slot;
+        grams.stream()
+                .filter(gram -> !previousGrams.contains(gram))
+                .forEach(gram -> postings.computeIfAbsent(gram, g -> new Postings()).add(target));
+    }
+
+    private void unpost(Set<String> grams, int slot) {
+        for (String gram : grams) {
+            Postings current = postings.get(gram);
+            if (current != null && current.remove(slot) && current.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Comparator<Match> order(String sortField) {
+        Comparator<Match> byId = Comparator.comparing(m -> m.document().id());
+        if (sortField == null || sortField.equals(RELEVANCE)) {
+            return Comparator.comparingInt(Match::rank)
+                    .thenComparing(m -> m.document().name())
+                    .thenComparing(byId);
+        }
+        return switch (sortField) {
+            case "id" -> byId;
+            case "name" -> Comparator.comparing((Match m) -> m.document().name()).thenComparing(byId);
+            case "email" -> Comparator.comparing((Match m) -> m.document().email()).thenComparing(byId);
+            default -> throw new IllegalArgumentException("Keyword search cannot sort by " + sortField);
+        };
+    }
+
+    /**
+     * Yields candidate slots: the rarest trigram's postings, or every slot for queries too short to have one.
+     */
+    private IntStream candidates(String text, String digits) {
+        String probe = digits.isEmpty() ? text : digits;
+        if (probe.length() < GRAM) {
+            return IntStream.range(0, documents.size());
+        }
+
+        Postings rarest = null;
+        for (int i = 0; i + GRAM <= probe.length(); i++) {
+            Postings current = postings.get(probe.substring(i, i + GRAM));
+            if (current == null) return IntStream.empty();
+            if (rarest == null || current.size < rarest.size) rarest = current;
+        }
+        return rarest.stream();
+    }
+
+    private static int rank(PersonSearchDocument document, String text, String digits) {
+        int best = Math.min(rank(document.name(), text), rank(document.email(), text));
+        if (!digits.isEmpty()) {
+            best = Math.min(best, rank(document.phone(), digits));
+        }
+        return best;
+    }
+
+    private static int rank(String field, String text) {
+        if (field.isEmpty()) return Integer.MAX_VALUE;
+        if (field.equals(text)) return 0;
+        if (field.startsWith(text)) return 1;
+
+        int index = field.indexOf(text);
+        if (index < 0) return Integer.MAX_VALUE;
+        while (index > 0) {
+            if (!Character.isLetterOrDigit(field.charAt(index - 1))) return 2;
+            index = field.indexOf(text, index + 1);
+        }
+        return 3;
+    }
+
+    private static Set<String> grams(PersonSearchDocument document) {
+        Set<String> grams = new HashSet<>();
+        for (String field : document.fields()) {
+            for (int i = 0; i + GRAM <= field.length(); i++) {
+                grams.add(field.substring(i, i + GRAM));
+            }
+        }
+        return grams;
+    }
+
+    private record Match(PersonSearchDocument document, int rank) {}
+
+    /**
+     * Sorted, duplicate-free int array of slots; changed under the write lock, read under the read lock.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) return;
+            index = -index - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, index, slots, index + 1, size - index);
+            slots[index] = slot;
+            size++;
+        }
+
+        boolean remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) return false;
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        IntStream stream() {
+            return Arrays.stream(slots, 0, size);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import gytis.courier.adapter.out.persistence.paymentmethod.PaymentMethodJpaEntit
 import gytis.courier.adapter.out.persistence.paymentmethod.PaymentMethodJpaRepository;
 import gytis.courier.adapter.out.persistence.paymentmethod.PaymentMethodMapper;
 import gytis.courier.adapter.out.persistence.person.PersonEntityMapper;
+import gytis.courier.adapter.out.persistence.person.query.PersonReadCache;
+import gytis.courier.adapter.out.persistence.person.search.PersonSearchDocument;
+import gytis.courier.adapter.out.persistence.person.search.PersonSearchIndex;
 import gytis.courier.application.port.out.person.UserCommandPort;
 import gytis.courier.domain.person.User;
 import org.springframework.stereotype.Component;
@@ -17,12 +20,16 @@ public class UserAdapter implements UserCommandPort {
     private final PaymentMethodJpaRepository paymentMethodJpaRepository;
     private final PaymentMethodMapper paymentMethodMapper;
     private final PersonEntityMapper mapper;
+    private final PersonReadCache readCache;
+    private final PersonSearchIndex searchIndex;
 
-    public UserAdapter(UserJpaRepository repository, PaymentMethodJpaRepository paymentMethodJpaRepository, PaymentMethodMapper paymentMethodMapper, PersonEntityMapper mapper) {
+    public UserAdapter(UserJpaRepository repository, PaymentMethodJpaRepository paymentMethodJpaRepository, PaymentMethodMapper paymentMethodMapper, PersonEntityMapper mapper, PersonReadCache readCache, PersonSearchIndex searchIndex) {
         this.repository = repository;
         this.paymentMethodJpaRepository = paymentMethodJpaRepository;
         this.paymentMethodMapper = paymentMethodMapper;
         this.mapper = mapper;
+        this.readCache = readCache;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -59,6 +66,8 @@ public class UserAdapter implements UserCommandPort {
     public void save(User user) {
         UserJpaEntity managed = repository.findById(user.getId()).orElseThrow();
         mapper.updateEntityFromDomain(user, managed);
+        readCache.evictInfoAfterCommit(user.getId());
+        searchIndex.indexAfterCommit(PersonSearchDocument.of(managed));
 
         System.out.println("adapter adddrs def " + user.getDefaultAddressId());
     }
@@ -67,7 +76,8 @@ public class UserAdapter implements UserCommandPort {
     @Transactional
     public void create(User user) {
         UserJpaEntity entity = mapper.toJpaEntity(user);
-        repository.save(entity);
+        UserJpaEntity saved = repository.save(entity);
+        searchIndex.indexAfterCommit(PersonSearchDocument.of(saved));
     }
 
     @Override
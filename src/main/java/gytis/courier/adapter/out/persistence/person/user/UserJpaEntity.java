@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DiscriminatorValue("USER")
 @Table(name = "users")
 public class UserJpaEntity extends PersonJpaEntity {
     @Column(name = "default_address_id")
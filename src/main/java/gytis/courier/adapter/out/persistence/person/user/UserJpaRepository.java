@@ -2,12 +2,10 @@ package gytis.courier.adapter.out.persistence.person.user;
 
 import gytis.courier.adapter.out.persistence.person.projection.AdminViewUserProjection;
 import gytis.courier.adapter.out.persistence.person.projection.UserInfoProjection;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
@@ -23,9 +21,6 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
     @EntityGraph(attributePaths = "paymentMethods, addresses, orders")
     Optional<UserJpaEntity> findWithAllDataById(Long id);
 
-    @Query("SELECT u.id FROM UserJpaEntity u WHERE u.blocked = false AND u.deleted = false")
-    List<Long> findAllActiveIds(Pageable pageable);
-
     boolean existsByEmail(String email);
 
     @Query("""
@@ -1,22 +1,33 @@
 package gytis.courier.adapter.out.persistence.task;
 
 import gytis.courier.application.port.out.task.TaskCommandPort;
+import gytis.courier.domain.order.ParcelStatus;
+import gytis.courier.domain.task.DeliveryStatus;
 import gytis.courier.domain.task.Task;
+import gytis.courier.domain.task.TaskItem;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class TaskCommandAdapter implements TaskCommandPort {
     private final TaskEntityMapper taskMapper;
     private final TaskItemEntityMapper itemMapper;
     private final TaskJpaRepository taskRepository;
+    private final TaskItemJpaRepository itemRepository;
 
-    public TaskCommandAdapter(TaskEntityMapper taskMapper, TaskItemEntityMapper itemMapper, TaskJpaRepository taskRepository) {
+    public TaskCommandAdapter(TaskEntityMapper taskMapper, TaskItemEntityMapper itemMapper, TaskJpaRepository taskRepository,
+                              TaskItemJpaRepository itemRepository) {
         this.taskMapper = taskMapper;
         this.itemMapper = itemMapper;
         this.taskRepository = taskRepository;
+        this.itemRepository = itemRepository;
     }
 
     @Override
@@ -37,6 +48,37 @@ public class TaskCommandAdapter implements TaskCommandPort {
         return taskMapper.toDomain(taskEntity);
     }
 
+    @Override
+    public List<Task> createAll(List<Task> tasks) {
+        List<TaskJpaEntity> entities = tasks.stream()
+                .map(taskMapper::toEntity)
+                .toList();
+
+        return taskRepository.saveAll(entities).stream()
+                .map(taskMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public boolean lockTask(Long taskId, Long courierId, DeliveryStatus status) {
+        return taskRepository.findByIdAndCourierIdAndDeliveryStatus(taskId, courierId, status).isPresent();
+    }
+
+    @Override
+    public boolean updateItemStatus(Long taskId, Long itemId, Set<ParcelStatus> allowedFrom, ParcelStatus status) {
+        return itemRepository.updateStatusIfIn(taskId, itemId, allowedFrom, status) == 1;
+    }
+
+    @Override
+    public long countItemsNotIn(Long taskId, Set<ParcelStatus> statuses) {
+        return itemRepository.countByTaskIdAndParcelStatusNotIn(taskId, statuses);
+    }
+
+    @Override
+    public boolean changeDeliveryStatus(Long taskId, DeliveryStatus from, DeliveryStatus to) {
+        return taskRepository.updateDeliveryStatus(taskId, from, to) == 1;
+    }
+
     @Transactional
     @Override
     public void update(Task task) {
@@ -44,22 +86,53 @@ public class TaskCommandAdapter implements TaskCommandPort {
         taskMapper.update(task, managed);
     }
 
+    /**
+     * Applies only what the aggregate recorded as changed. The task was loaded earlier in the
+     * same transaction, so findById resolves from the persistence context instead of refetching.
+     */
     @Transactional
     @Override
     public void updateWithItems(Task task) {
-        TaskJpaEntity managed = taskRepository.findWithItems(task.getId()).orElseThrow();
-        taskMapper.updateWithItems(task, managed);
-
-        task.getTaskItems().forEach(domainItem ->
-                managed.getItems().stream()
-                        .filter(e -> e.getId().equals(domainItem.getId()))
-                        .findFirst()
-                        .ifPresentOrElse(e -> itemMapper.update(domainItem, e),
-                                () -> {
-                            TaskItemJpaEntity itemJpa = itemMapper.toEntity(domainItem);
-                            itemJpa.setTask(managed);
-                            managed.getItems().add(itemJpa);
-                        })
-        );
+        TaskJpaEntity managed = taskRepository.findById(task.getId()).orElseThrow();
+
+        if (task.isHeaderChanged()) {
+            taskMapper.update(task, managed);
+        }
+
+        List<TaskItem> changedItems = task.getChangedItems();
+        if (!changedItems.isEmpty()) {
+            Map<Long, TaskItemJpaEntity> itemsById = managed.getItems().stream()
+                    .filter(e -> e.getId() != null)
+                    .collect(Collectors.toMap(TaskItemJpaEntity::getId, Function.identity()));
+
+            changedItems.forEach(domainItem -> {
+                if (domainItem.isNew()) {
+                    TaskItemJpaEntity itemJpa = itemMapper.toEntity(domainItem);
+                    itemJpa.setTask(managed);
+                    managed.getItems().add(itemJpa);
+                } else {
+                    applyItemChanges(domainItem, itemsById.get(domainItem.getId()));
+                }
+            });
+        }
+
+        task.clearChanges();
+    }
+
+    private void applyItemChanges(TaskItem domainItem, TaskItemJpaEntity entity) {
+        if (entity == null) {
+            throw new IllegalStateException("Task item #" + domainItem.getId() + " does not belong to the task");
+        }
+
+        if (domainItem.isStatusChanged()) {
+            entity.setParcelStatus(domainItem.getParcelStatus());
+        }
+        if (domainItem.isAddressesChanged()) {
+            entity.setSenderAddressId(domainItem.getSenderAddressId());
+            entity.setRecipientAddressId(domainItem.getRecipientAddressId());
+        }
+        if (!domainItem.getAddedNotes().isEmpty()) {
+            entity.getNotes().addAll(domainItem.getAddedNotes());
+        }
     }
 }
@@ -16,11 +16,6 @@ public abstract class TaskEntityMapper {
     @Mapping(target = "items", source = "taskItems")
     public abstract TaskJpaEntity toEntity(Task domain);
 
-    @Mapping(target = "id", ignore = true)
-    @Mapping(target = "courier", ignore = true)
-    @Mapping(target = "items", ignore = true)
-    public abstract void updateWithItems(Task task, @MappingTarget TaskJpaEntity entity);
-
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "items", ignore = true)
     @Mapping(target = "courier", ignore = true)
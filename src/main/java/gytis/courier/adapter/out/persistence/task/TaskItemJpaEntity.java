@@ -4,11 +4,13 @@ import gytis.courier.adapter.out.persistence.address.orderaddress.OrderAddressJp
 import gytis.courier.adapter.out.persistence.parcel.ParcelJpaEntity;
 import gytis.courier.domain.order.ParcelStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@DynamicUpdate
 @Table(name = "delivery_task_items")
 public class TaskItemJpaEntity {
     @Id
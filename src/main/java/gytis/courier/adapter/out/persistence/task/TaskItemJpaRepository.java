@@ -1,9 +1,22 @@
 package gytis.courier.adapter.out.persistence.task;
 
+import gytis.courier.domain.order.ParcelStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface TaskItemJpaRepository extends JpaRepository<TaskItemJpaEntity, Long> {
     Optional<TaskItemJpaEntity> findByTaskIdAndParcelId(Long taskId, Long parcelId);
+
+    @Modifying
+    @Query("UPDATE TaskItemJpaEntity i SET i.parcelStatus = :status " +
+            "WHERE i.id = :itemId AND i.task.id = :taskId AND i.parcelStatus IN :allowedFrom")
+    int updateStatusIfIn(@Param("taskId") Long taskId, @Param("itemId") Long itemId,
+                         @Param("allowedFrom") Collection<ParcelStatus> allowedFrom, @Param("status") ParcelStatus status);
+
+    long countByTaskIdAndParcelStatusNotIn(Long taskId, Collection<ParcelStatus> statuses);
 }
@@ -4,11 +4,13 @@ import gytis.courier.adapter.out.persistence.person.courier.CourierJpaEntity;
 import gytis.courier.domain.task.DeliveryStatus;
 import gytis.courier.domain.task.TaskType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "delivery_tasks")
 public class TaskJpaEntity {
     @Id
@@ -2,14 +2,18 @@ package gytis.courier.adapter.out.persistence.task;
 
 import gytis.courier.adapter.out.persistence.task.projections.*;
 import gytis.courier.domain.task.DeliveryStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -28,6 +32,18 @@ public interface TaskJpaRepository extends JpaRepository<TaskJpaEntity, Long>, J
 
     boolean existsByCourierIdAndDeliveryStatusNotIn(Long courierId, List<DeliveryStatus> statuses);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TaskJpaEntity> findByIdAndCourierIdAndDeliveryStatus(Long id, Long courierId, DeliveryStatus deliveryStatus);
+
+    @Modifying
+    @Query("UPDATE TaskJpaEntity t SET t.deliveryStatus = :to WHERE t.id = :id AND t.deliveryStatus = :from")
+    int updateDeliveryStatus(@Param("id") Long id, @Param("from") DeliveryStatus from, @Param("to") DeliveryStatus to);
+
+    @Query("SELECT DISTINCT t.courierId FROM TaskJpaEntity t " +
+            "WHERE t.courierId IN :courierIds AND t.deliveryStatus NOT IN :statuses")
+    Set<Long> findCourierIdsWithStatusNotIn(@Param("courierIds") Collection<Long> courierIds,
+                                            @Param("statuses") List<DeliveryStatus> statuses);
+
 
     Page<TaskListProjection> findByCourierIdAndDeliveryStatusIn(Long courierId, Set<DeliveryStatus> statuses, Pageable pageable);
 
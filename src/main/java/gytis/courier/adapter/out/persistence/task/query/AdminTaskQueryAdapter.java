@@ -1,5 +1,6 @@
 package gytis.courier.adapter.out.persistence.task.query;
 
+import gytis.courier.adapter.out.persistence.common.KeysetSpecification;
 import gytis.courier.adapter.out.persistence.common.PageResultMapper;
 import gytis.courier.adapter.out.persistence.common.PageableFactory;
 import gytis.courier.adapter.out.persistence.task.TaskJpaEntity;
@@ -20,7 +21,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Component
 public class AdminTaskQueryAdapter implements AdminTaskQueryPort {
@@ -40,10 +43,33 @@ public class AdminTaskQueryAdapter implements AdminTaskQueryPort {
         );
     }
 
+    @Override
+    public Set<Long> findCourierIdsWithActiveTask(Collection<Long> courierIds) {
+        return repository.findCourierIdsWithStatusNotIn(
+                courierIds,
+                List.of(DeliveryStatus.COMPLETED, DeliveryStatus.CANCELED)
+        );
+    }
+
     @Override
     public PageResult<TaskListReadModel> getAll(AdminTaskQueryFilter filter, PageQuery pageQuery) {
-        Pageable pageable = PageableFactory.from(pageQuery);
         Specification<TaskJpaEntity> specification = TaskSpecification.withFilter(filter);
+        if (pageQuery.isKeyset()) {
+            return PageResultMapper.fromKeyset(
+                    repository.findBy(
+                            specification.and(KeysetSpecification.after(pageQuery)),
+                            q -> q.as(TaskListProjection.class)
+                                    .sortBy(PageableFactory.keysetSort(pageQuery))
+                                    .limit(PageableFactory.keysetLimit(pageQuery))
+                                    .all()),
+                    pageQuery,
+                    mapper::toTaskListReadModel,
+                    p -> "createdAt".equals(pageQuery.sortField()) ? p.getCreatedAt() : p.getId(),
+                    TaskListProjection::getId
+            );
+        }
+
+        Pageable pageable = PageableFactory.from(pageQuery);
 
         return PageResultMapper.from(
                 repository.findBy(
@@ -1,5 +1,6 @@
 package gytis.courier.adapter.out.persistence.ticket;
 
+import gytis.courier.adapter.out.persistence.common.KeysetSpecification;
 import gytis.courier.adapter.out.persistence.common.PageResultMapper;
 import gytis.courier.adapter.out.persistence.common.PageableFactory;
 import gytis.courier.adapter.out.persistence.ticket.projection.TicketProjection;
@@ -12,10 +13,12 @@ import gytis.courier.application.readmodel.ticket.TicketReadModel;
 import gytis.courier.domain.ticket.Ticket;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -32,6 +35,17 @@ public class TicketAdapter implements TicketQueryPort, TicketCommandPort {
 
     @Override
     public PageResult<TicketReadModel> myTickets(Long myId, PageQuery pageQuery) {
+        if (pageQuery.isKeyset()) {
+            Specification<TicketJpaEntity> ownedBy = (root, query, cb) -> cb.equal(root.get("createdById"), myId);
+            return PageResultMapper.fromKeyset(
+                    seek(ownedBy, pageQuery),
+                    pageQuery,
+                    queryMapper::toReadModel,
+                    TicketProjection::getCreatedAt,
+                    TicketProjection::getId
+            );
+        }
+
         Pageable pageable = PageableFactory.from(pageQuery);
 
         Page<TicketProjection> list = repository.findAllProjectedByCreatedById(myId, pageable);
@@ -45,6 +59,16 @@ public class TicketAdapter implements TicketQueryPort, TicketCommandPort {
 
     @Override
     public PageResult<AdminTicketReadModel> getAll(PageQuery pageQuery) {
+        if (pageQuery.isKeyset()) {
+            return PageResultMapper.fromKeyset(
+                    seek(Specification.where(null), pageQuery),
+                    pageQuery,
+                    queryMapper::toAdminReadModel,
+                    TicketProjection::getCreatedAt,
+                    TicketProjection::getId
+            );
+        }
+
         Pageable pageable = PageableFactory.from(pageQuery);
 
         return PageResultMapper.from(
@@ -53,6 +77,19 @@ public class TicketAdapter implements TicketQueryPort, TicketCommandPort {
         );
     }
 
+    /**
+     * Only createdAt is seekable for tickets, see TicketPagingPolicy.
+     */
+    private List<TicketProjection> seek(Specification<TicketJpaEntity> specification, PageQuery pageQuery) {
+        return repository.findBy(
+                specification.and(KeysetSpecification.after(pageQuery)),
+                q -> q.as(TicketProjection.class)
+                        .sortBy(PageableFactory.keysetSort(pageQuery))
+                        .limit(PageableFactory.keysetLimit(pageQuery))
+                        .all()
+        );
+    }
+
     @Override
     public Optional<Ticket> findById(Long ticketId) {
         return repository.findById(ticketId).map(mapper::toDomain);
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,7 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
-public interface TicketJpaRepository extends JpaRepository<TicketJpaEntity, Long> {
+public interface TicketJpaRepository extends JpaRepository<TicketJpaEntity, Long>, JpaSpecificationExecutor<TicketJpaEntity> {
     @EntityGraph(attributePaths = "comments")
     Optional<TicketJpaEntity> findWithCommentsById(Long id);
 
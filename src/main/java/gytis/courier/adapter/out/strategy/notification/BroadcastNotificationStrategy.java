@@ -1,22 +1,45 @@
 package gytis.courier.adapter.out.strategy.notification;
 
+import gytis.courier.application.common.AfterCommit;
+import gytis.courier.application.port.out.notification.NotificationCommandPort;
 import gytis.courier.application.port.out.personnotification.PersonNotificationCommandPort;
-import gytis.courier.application.port.out.auth.PersonQueryPort;
+import gytis.courier.application.result.BroadcastChunkResult;
+import gytis.courier.domain.notification.NotificationDeliveryStatus;
 import gytis.courier.domain.notification.NotificationTargetType;
 import gytis.courier.domain.notification.Notification;
 import gytis.courier.domain.notification.NotificationTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
+/**
+ * Broadcasts are fanned out on the notification executor once the notification row is
+ * committed, one INSERT…SELECT chunk per transaction, so the admin request only pays for
+ * the notification insert. Progress is written back to the notification after every chunk.
+ * A fan-out the executor rejects is marked FAILED at once rather than left PENDING.
+ */
 @Component
 public class BroadcastNotificationStrategy implements NotificationDeliveryStrategy {
-    private final PersonQueryPort personQueryPort;
+    private static final Logger logger = LoggerFactory.getLogger(BroadcastNotificationStrategy.class);
+
     private final PersonNotificationCommandPort personNotificationCommandPort;
+    private final NotificationCommandPort notificationCommandPort;
+    private final Executor executor;
+    private final int chunkSize;
 
-    public BroadcastNotificationStrategy(PersonQueryPort personQueryPort, PersonNotificationCommandPort personNotificationCommandPort) {
-        this.personQueryPort = personQueryPort;
+    public BroadcastNotificationStrategy(PersonNotificationCommandPort personNotificationCommandPort,
+                                         NotificationCommandPort notificationCommandPort,
+                                         @Qualifier("notificationExecutor") Executor executor,
+                                         @Value("${notification.broadcast.chunk-size:5000}") int chunkSize) {
         this.personNotificationCommandPort = personNotificationCommandPort;
+        this.notificationCommandPort = notificationCommandPort;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
     }
 
     @Override
@@ -30,22 +53,37 @@ public class BroadcastNotificationStrategy implements NotificationDeliveryStrate
             throw new IllegalStateException("Wrong target type");
         }
 
-        int page = 0;
-        int batchSize = 1000;
-        List<Long> batch;
+        Long notificationId = notification.getId();
+        AfterCommit.run(() -> submit(notificationId, type));
+    }
 
-        do {
-            batch = switch (type) {
-                case USER -> personQueryPort.getAllActiveUserIds(page, batchSize);
-                case COURIER -> personQueryPort.getAllActiveCourierIds(page, batchSize);
-                case ADMIN -> personQueryPort.getAllActiveAdminIds(page, batchSize);
-            };
+    private void submit(Long notificationId, NotificationTargetType type) {
+        try {
+            executor.execute(() -> fanOut(notificationId, type));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Broadcast of notification {} rejected by the notification executor", notificationId);
+            notificationCommandPort.updateDeliveryProgress(notificationId, NotificationDeliveryStatus.FAILED, 0);
+        }
+    }
 
-            if (!batch.isEmpty()) {
-                personNotificationCommandPort.deliverToRecipients(notification.getId(), batch);
+    private void fanOut(Long notificationId, NotificationTargetType type) {
+        long delivered = 0;
+        long afterPersonId = 0;
+
+        try {
+            notificationCommandPort.updateDeliveryProgress(notificationId, NotificationDeliveryStatus.IN_PROGRESS, delivered);
+
+            BroadcastChunkResult chunk;
+            while (!(chunk = personNotificationCommandPort.deliverBroadcastChunk(notificationId, type, afterPersonId, chunkSize)).exhausted()) {
+                delivered += chunk.delivered();
+                afterPersonId = chunk.lastPersonId();
+                notificationCommandPort.updateDeliveryProgress(notificationId, NotificationDeliveryStatus.IN_PROGRESS, delivered);
             }
 
-            page++;
-        } while (batch.size() == batchSize);
+            notificationCommandPort.updateDeliveryProgress(notificationId, NotificationDeliveryStatus.COMPLETED, delivered);
+        } catch (RuntimeException e) {
+            logger.error("Broadcast of notification {} failed after {} recipients", notificationId, delivered, e);
+            notificationCommandPort.updateDeliveryProgress(notificationId, NotificationDeliveryStatus.FAILED, delivered);
+        }
     }
-}
\ No newline at end of file
+}
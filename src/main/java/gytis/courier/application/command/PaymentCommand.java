@@ -5,6 +5,7 @@ public record PaymentCommand(
         Long orderId,
         Long existingMethodId,
         PaymentMethodCommand command,
-        String cvc
+        String cvc,
+        String idempotencyKey
 ) {
 }
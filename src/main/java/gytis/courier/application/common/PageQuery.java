@@ -1,8 +1,22 @@
 package gytis.courier.application.common;
 
+/**
+ * {@code cursor} opts into keyset paging: {@code null} keeps offset paging, an empty string
+ * asks for the first keyset page and any other value is a {@link PageResult#nextCursor()}
+ * returned earlier. In keyset mode {@code page} is ignored.
+ */
 public record PageQuery(
         int page,
         int size,
         String sortField,
-        PageQueryDirection direction) {
+        PageQueryDirection direction,
+        String cursor) {
+
+    public PageQuery(int page, int size, String sortField, PageQueryDirection direction) {
+        this(page, size, sortField, direction, null);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
 }
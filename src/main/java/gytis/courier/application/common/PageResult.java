@@ -2,10 +2,22 @@ package gytis.courier.application.common;
 
 import java.util.List;
 
+/**
+ * Keyset pages skip the count query, so {@code totalItems} and {@code totalPages} are -1
+ * and {@code nextCursor} is {@code null} on the last page.
+ */
 public record PageResult<T>(
         List<T> data,
         int currentPage,
         long totalItems,
-        int totalPages
+        int totalPages,
+        String nextCursor
 ) {
+    public PageResult(List<T> data, int currentPage, long totalItems, int totalPages) {
+        this(data, currentPage, totalItems, totalPages, null);
+    }
+
+    public static <T> PageResult<T> keyset(List<T> data, String nextCursor) {
+        return new PageResult<>(data, 0, -1, -1, nextCursor);
+    }
 }
@@ -1,28 +1,27 @@
 package gytis.courier.application.event;
 
 import gytis.courier.application.command.CreateNotificationCommand;
-import gytis.courier.application.port.in.notification.NotificationCommandUseCase;
+import gytis.courier.application.port.in.notification.NotificationDispatchUseCase;
 import gytis.courier.domain.event.CourierChangeEvent;
 import gytis.courier.domain.notification.NotificationTarget;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 public class CourierChangeHandler {
-    private final NotificationCommandUseCase useCase;
+    private final NotificationDispatchUseCase useCase;
 
-    public CourierChangeHandler(NotificationCommandUseCase useCase) {
+    public CourierChangeHandler(NotificationDispatchUseCase useCase) {
         this.useCase = useCase;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void onCourierChange(CourierChangeEvent event) {
         //sendNotification(event.taskId(), event.newCourier());
     }
 
     private void sendNotification(Long taskId, Long courierId) {
-        useCase.create(
+        useCase.dispatch(
                 new CreateNotificationCommand(
                         "Task assigned",
                         "Task ID: " + taskId + " was assigned to you",
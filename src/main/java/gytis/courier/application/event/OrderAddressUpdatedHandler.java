@@ -1,31 +1,27 @@
 package gytis.courier.application.event;
 
 import gytis.courier.application.command.CreateNotificationCommand;
-import gytis.courier.application.port.in.notification.NotificationCommandUseCase;
+import gytis.courier.application.port.in.notification.NotificationDispatchUseCase;
 import gytis.courier.application.port.in.task.TaskQueryUseCase;
 import gytis.courier.domain.event.OrderAddressUpdatedEvent;
 import gytis.courier.domain.notification.NotificationTarget;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class OrderAddressUpdatedHandler {
     private final TaskQueryUseCase taskUseCase;
-    private final NotificationCommandUseCase notificationUseCase;
+    private final NotificationDispatchUseCase notificationUseCase;
 
-    public OrderAddressUpdatedHandler(TaskQueryUseCase taskUseCase, NotificationCommandUseCase notificationUseCase) {
+    public OrderAddressUpdatedHandler(TaskQueryUseCase taskUseCase, NotificationDispatchUseCase notificationUseCase) {
         this.taskUseCase = taskUseCase;
         this.notificationUseCase = notificationUseCase;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @EventListener
     public void onOrderAddressUpdate(OrderAddressUpdatedEvent event) {
         taskUseCase.findCourierInfoByParcelId(event.parcelId())
-                .ifPresent(info -> notificationUseCase.create(
+                .ifPresent(info -> notificationUseCase.dispatch(
                         new CreateNotificationCommand(
                                 "Order address in your tas was updated",
                                 "Task item " + info.taskItemId() + " " + event.selectedAddress() +
@@ -0,0 +1,41 @@
+package gytis.courier.application.event;
+
+import gytis.courier.application.common.AfterCommit;
+import gytis.courier.application.port.out.DomainEventPublisher;
+import gytis.courier.application.port.out.outbox.OutboxPort;
+import gytis.courier.application.service.outbox.OutboxRelayService;
+import gytis.courier.domain.event.DomainEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes events to the outbox in the caller's transaction instead of dispatching them
+ * in-process, so handlers never run while the caller still holds its row locks. The relay
+ * is nudged after commit; its scheduled poll covers anything the nudge misses.
+ */
+@Component
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+    private final OutboxPort outboxPort;
+    private final OutboxRelayService relay;
+
+    public OutboxDomainEventPublisher(OutboxPort outboxPort, OutboxRelayService relay) {
+        this.outboxPort = outboxPort;
+        this.relay = relay;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        publish(List.of(event));
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        outboxPort.append(events);
+        AfterCommit.run(relay::trigger);
+    }
+}
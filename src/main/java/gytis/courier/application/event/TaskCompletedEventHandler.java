@@ -4,9 +4,8 @@ import gytis.courier.application.port.in.parcel.ParcelCommandUseCase;
 import gytis.courier.domain.event.TaskCompletedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 public class TaskCompletedEventHandler {
@@ -17,13 +16,13 @@ public class TaskCompletedEventHandler {
         this.useCase = useCase;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @EventListener
     public void onCompletedTask(TaskCompletedEvent event) {
         useCase.handleTaskCompleted(event.success(), event.failed());
     }
 
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void logCompletedTask(TaskCompletedEvent event) {
         log.info("Task ID: {} was completed at {}", event.taskId(), event.completedAt());
     }
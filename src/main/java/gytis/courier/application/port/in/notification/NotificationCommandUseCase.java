@@ -2,7 +2,10 @@ package gytis.courier.application.port.in.notification;
 
 import gytis.courier.application.command.CreateNotificationCommand;
 
+import java.util.List;
+
 public interface NotificationCommandUseCase {
     int delete(Long id);
     void create(CreateNotificationCommand command);
+    void createAll(List<CreateNotificationCommand> commands);
 }
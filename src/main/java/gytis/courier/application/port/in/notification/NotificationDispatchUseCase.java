@@ -0,0 +1,11 @@
+package gytis.courier.application.port.in.notification;
+
+import gytis.courier.application.command.CreateNotificationCommand;
+
+public interface NotificationDispatchUseCase {
+    /**
+     * Queues the notification for creation off the calling thread, once the caller's
+     * transaction has committed. Identical commands within the coalescing window are sent once.
+     */
+    void dispatch(CreateNotificationCommand command);
+}
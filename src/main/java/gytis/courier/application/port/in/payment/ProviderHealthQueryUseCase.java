@@ -0,0 +1,9 @@
+package gytis.courier.application.port.in.payment;
+
+import gytis.courier.application.readmodel.payment.ProviderHealthReadModel;
+
+import java.util.List;
+
+public interface ProviderHealthQueryUseCase {
+    List<ProviderHealthReadModel> getProviderHealth();
+}
@@ -6,4 +6,5 @@ public interface PersonNotificationCommandUseCase {
     void markAllAsRead(Long personId);
     void delete(Long id, Long personId);
     void deleteAll(Long personId);
+    int reconcileUnreadCounts();
 }
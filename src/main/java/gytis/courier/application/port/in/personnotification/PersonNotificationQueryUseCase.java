@@ -6,4 +6,5 @@ import gytis.courier.application.common.PersonNotificationPageResult;
 public interface PersonNotificationQueryUseCase {
     PersonNotificationPageResult getAll(PageQuery pageQuery, Long personId);
     PersonNotificationPageResult getPageContainingNotification(Long id, Long personId, int pageSize);
+    long getUnreadCount(Long personId);
 }
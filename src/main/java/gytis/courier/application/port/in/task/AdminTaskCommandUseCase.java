@@ -1,11 +1,13 @@
 package gytis.courier.application.port.in.task;
 
 import gytis.courier.application.command.CreateTaskCommand;
+import gytis.courier.application.result.TaskBatchResult;
 
 import java.util.List;
 
 public interface AdminTaskCommandUseCase {
     void createTask(CreateTaskCommand command);
+    TaskBatchResult createTasks(List<CreateTaskCommand> commands);
     void addItems(Long taskId, List<Long> parcelIds);
     void cancel(Long taskId, Long adminId);
     void complete(Long taskId);
@@ -0,0 +1,8 @@
+package gytis.courier.application.port.in.task;
+
+import gytis.courier.application.result.TaskBatchProposal;
+import gytis.courier.domain.task.TaskType;
+
+public interface TaskBatchPlanningUseCase {
+    TaskBatchProposal propose(TaskType type, Integer maxItemsPerTask);
+}
@@ -1,9 +1,10 @@
 package gytis.courier.application.port.out;
 
 import gytis.courier.application.result.PaymentResult;
+import gytis.courier.domain.payment.ProviderType;
 import gytis.courier.domain.payment.method.PaymentMethod;
 
 public interface PaymentProcessorGateway {
-    boolean supports(PaymentMethod method);
+    ProviderType getSupportedType();
     PaymentResult process(PaymentMethod method, String cvc);
 }
@@ -1,9 +1,12 @@
 package gytis.courier.application.port.out.auth;
 
+import java.time.Instant;
+
 public record JwtClaims(
         Long id,
         String subject,
         String role,
-        String name
+        String name,
+        Instant expiresAt
 ) {
 }
\ No newline at end of file
@@ -6,7 +6,6 @@ import gytis.courier.application.query.filter.PersonQuery;
 import gytis.courier.application.readmodel.person.*;
 import gytis.courier.domain.person.Role;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface PersonQueryPort {
@@ -20,9 +19,5 @@ public interface PersonQueryPort {
     Optional<AdminCourierDetailsReadModel> getAdminCourierDetailed(Long id);
     Optional<AdminAdminDetailsReadModel> getAdminAdminDetailed(Long id);
 
-    List<Long> getAllActiveUserIds(int page, int size);
-    List<Long> getAllActiveCourierIds(int page, int size);
-    List<Long> getAllActiveAdminIds(int page, int size);
-
     boolean existsByEmail(String email);
 }
@@ -2,11 +2,13 @@ package gytis.courier.application.port.out.delivery;
 
 import gytis.courier.domain.delivery.DeliveryOption;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface DeliveryOptionCommandPort {
     DeliveryOption findById(Long id);
     Optional<DeliveryOption> findByName(String name);
+    List<DeliveryOption> findAllOptions();
 
     void save(DeliveryOption deliveryOption);
     void create(DeliveryOption deliveryOption);
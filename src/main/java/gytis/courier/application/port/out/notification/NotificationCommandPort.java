@@ -1,9 +1,11 @@
 package gytis.courier.application.port.out.notification;
 
 import gytis.courier.domain.notification.Notification;
+import gytis.courier.domain.notification.NotificationDeliveryStatus;
 
 public interface NotificationCommandPort {
     void save(Notification notification);
     Notification create(Notification notification);
     void delete(Long id);
+    void updateDeliveryProgress(Long id, NotificationDeliveryStatus status, long deliveredCount);
 }
@@ -8,6 +8,7 @@ import gytis.courier.application.readmodel.order.OrderUserDetailReadModel;
 import gytis.courier.application.readmodel.order.UserOrderListReadModel;
 import gytis.courier.application.readmodel.order.OrderAdminDetailReadModel;
 import gytis.courier.application.readmodel.order.OrderForTaskReadModel;
+import gytis.courier.application.result.AssignableParcel;
 import gytis.courier.domain.address.AddressType;
 import gytis.courier.domain.order.ParcelStatus;
 import gytis.courier.domain.task.TaskItemCreationSnapshot;
@@ -22,6 +23,7 @@ public interface OrderQueryPort {
 
     //command
     List<TaskItemCreationSnapshot> findOrdersByParcelIds(List<Long> parcelIds);
+    List<AssignableParcel> findAssignableParcels(Set<ParcelStatus> statuses, AddressType type);
     boolean userHasActiveOrders(Long userId);
 
     // admin query
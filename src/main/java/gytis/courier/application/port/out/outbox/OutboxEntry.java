@@ -0,0 +1,11 @@
+package gytis.courier.application.port.out.outbox;
+
+import gytis.courier.domain.event.DomainEvent;
+
+public record OutboxEntry(
+        Long id,
+        String idempotencyKey,
+        DomainEvent event,
+        int attempts
+) {
+}
@@ -0,0 +1,29 @@
+package gytis.courier.application.port.out.outbox;
+
+import gytis.courier.domain.event.DomainEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxPort {
+    /**
+     * Stores events in the caller's transaction, each under a fresh idempotency key.
+     */
+    void append(List<DomainEvent> events);
+
+    /**
+     * Claims up to {@code limit} due events, oldest first, hiding them from other relays for
+     * {@code lease}. An entry whose lease runs out before it is processed is claimed again.
+     */
+    List<OutboxEntry> claimBatch(int limit, Duration lease);
+
+    /**
+     * @return false if the event was already processed, in which case it must not be dispatched again
+     */
+    boolean markProcessed(String idempotencyKey);
+
+    void markFailed(Long id, int attempts, boolean exhausted, Duration retryAfter, String error);
+
+    int purgeProcessedBefore(LocalDateTime before);
+}
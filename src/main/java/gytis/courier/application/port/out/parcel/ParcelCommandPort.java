@@ -1,18 +1,23 @@
 package gytis.courier.application.port.out.parcel;
 
+import gytis.courier.application.result.ParcelFailureCount;
 import gytis.courier.domain.order.ParcelStatus;
-import gytis.courier.domain.order.Parcel;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public interface ParcelCommandPort {
     int markAssigned(List<Long> parcelIds);
     int markUnassigned(List<Long> parcelIds);
     int updateStatus(Long parcelId, ParcelStatus parcelStatus);
 
-    Optional<Parcel> find(Long id);
-    Parcel update(Parcel parcel);
     int changeStatuses(Map<ParcelStatus, List<Long>> groupedIdsByStatuses);
+
+    /**
+     * Unassigns all given parcels, applies the grouped status changes and increments the
+     * failure count of failed parcels in a constant number of statements.
+     *
+     * @return failure counts of the failed parcels after the increment
+     */
+    List<ParcelFailureCount> completeTaskParcels(Map<ParcelStatus, List<Long>> groupedIdsByStatuses, List<Long> failedIds);
 }
@@ -1,15 +1,19 @@
 package gytis.courier.application.port.out.personnotification;
 
+import gytis.courier.application.result.BroadcastChunkResult;
+import gytis.courier.domain.notification.NotificationTargetType;
 import gytis.courier.domain.personnotification.PersonNotification;
 
 import java.util.List;
 
 public interface PersonNotificationCommandPort {
     void deliverToRecipients(Long notificationId, List<Long> ids);
+    BroadcastChunkResult deliverBroadcastChunk(Long notificationId, NotificationTargetType type, long afterPersonId, int chunkSize);
     void markAsRead(Long id, Long personId);
     void markAllAsRead(Long personId);
     void save(PersonNotification notification);
     void ownDelete(Long myId, Long notificationId);
     void deleteAll(Long myId);
     int deleteAsAdmin(Long id);
+    int reconcileUnreadCounts();
 }
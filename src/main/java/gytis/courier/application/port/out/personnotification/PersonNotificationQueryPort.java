@@ -10,4 +10,5 @@ public interface PersonNotificationQueryPort {
     PersonNotification findByPersonIdAndNotificationId(Long personId, Long notificationId);
     PersonNotificationPageResult getAll(Long personId, PageQuery query);
     Optional<Integer> findIndex(Long myId, Long notificationId);
+    long getUnreadCount(Long personId);
 }
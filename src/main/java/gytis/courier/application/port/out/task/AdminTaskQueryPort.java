@@ -6,8 +6,12 @@ import gytis.courier.application.query.filter.AdminTaskQueryFilter;
 import gytis.courier.application.readmodel.task.TaskListReadModel;
 import gytis.courier.application.readmodel.task.AdminTaskReadModel;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface AdminTaskQueryPort {
     PageResult<TaskListReadModel> getAll(AdminTaskQueryFilter filter, PageQuery pageQuery);
     AdminTaskReadModel getDetailedTask(Long taskId);
     boolean existsActiveByCourierId(Long courierId);
+    Set<Long> findCourierIdsWithActiveTask(Collection<Long> courierIds);
 }
@@ -1,8 +1,12 @@
 package gytis.courier.application.port.out.task;
 
+import gytis.courier.domain.order.ParcelStatus;
+import gytis.courier.domain.task.DeliveryStatus;
 import gytis.courier.domain.task.Task;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface TaskCommandPort {
     Optional<Task> getById(Long id);
@@ -10,4 +14,11 @@ public interface TaskCommandPort {
     void update(Task task);
     void updateWithItems(Task task);
     Task create(Task task);
+    List<Task> createAll(List<Task> tasks);
+
+    // single item fast path
+    boolean lockTask(Long taskId, Long courierId, DeliveryStatus status);
+    boolean updateItemStatus(Long taskId, Long itemId, Set<ParcelStatus> allowedFrom, ParcelStatus status);
+    long countItemsNotIn(Long taskId, Set<ParcelStatus> statuses);
+    boolean changeDeliveryStatus(Long taskId, DeliveryStatus from, DeliveryStatus to);
 }
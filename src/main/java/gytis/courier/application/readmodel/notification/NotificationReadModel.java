@@ -1,11 +1,15 @@
 package gytis.courier.application.readmodel.notification;
 
+import gytis.courier.domain.notification.NotificationDeliveryStatus;
+
 import java.time.LocalDateTime;
 
 public record NotificationReadModel(
         Long id,
         String title,
         String message,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        NotificationDeliveryStatus deliveryStatus,
+        long deliveredCount
 ) {
 }
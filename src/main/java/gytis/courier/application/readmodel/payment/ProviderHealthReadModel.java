@@ -0,0 +1,17 @@
+package gytis.courier.application.readmodel.payment;
+
+import gytis.courier.domain.payment.ProviderType;
+
+public record ProviderHealthReadModel(
+        ProviderType provider,
+        String circuitState,
+        int availableConcurrentCalls,
+        long calls,
+        long successes,
+        long declines,
+        long failures,
+        long rejected,
+        double p50Ms,
+        double p99Ms
+) {
+}
@@ -0,0 +1,12 @@
+package gytis.courier.application.result;
+
+/**
+ * Unassigned parcel that can be put on a task, located by the address the courier has to visit.
+ */
+public record AssignableParcel(
+        Long parcelId,
+        Long orderId,
+        String city,
+        String postCode
+) {
+}
@@ -0,0 +1,14 @@
+package gytis.courier.application.result;
+
+/**
+ * One keyset chunk of a broadcast fan-out. {@code lastPersonId} is the cursor for the next
+ * chunk and is {@code null} once no recipients are left.
+ */
+public record BroadcastChunkResult(
+        Long lastPersonId,
+        int delivered
+) {
+    public boolean exhausted() {
+        return lastPersonId == null;
+    }
+}
@@ -0,0 +1,7 @@
+package gytis.courier.application.result;
+
+public record ParcelFailureCount(
+        Long parcelId,
+        int failuresCount
+) {
+}
@@ -0,0 +1,23 @@
+package gytis.courier.application.result;
+
+import gytis.courier.domain.task.TaskType;
+
+import java.util.List;
+
+/**
+ * Suggested tasks for the available couriers. Each proposed task has the same shape as a
+ * create-task request and is accepted by posting it to the batch task creation endpoint.
+ */
+public record TaskBatchProposal(
+        TaskType type,
+        List<ProposedTask> tasks,
+        int leftOverParcels
+) {
+    public record ProposedTask(
+            Long courierId,
+            String courierName,
+            List<Long> parcelIds,
+            List<String> areas
+    ) {
+    }
+}
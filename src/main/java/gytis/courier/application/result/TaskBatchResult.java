@@ -0,0 +1,15 @@
+package gytis.courier.application.result;
+
+import java.util.List;
+
+public record TaskBatchResult(
+        List<Long> createdTaskIds,
+        List<Failure> failures
+) {
+    public record Failure(
+            int index,
+            Long courierId,
+            String reason
+    ) {
+    }
+}
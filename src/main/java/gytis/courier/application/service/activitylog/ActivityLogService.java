@@ -1,12 +1,11 @@
 package gytis.courier.application.service.activitylog;
 
+import gytis.courier.application.common.AfterCommit;
 import gytis.courier.application.port.in.activityLog.ActivityLogUseCase;
 import gytis.courier.application.port.out.activitylog.ActivityLogPort;
 import gytis.courier.common.SecurityUtils;
 import gytis.courier.domain.activitylog.ActivityLog;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ActivityLogService implements ActivityLogUseCase {
@@ -20,14 +19,18 @@ public class ActivityLogService implements ActivityLogUseCase {
     public void saveLog(String role, String action, String description) {
         String userEmail = SecurityUtils.getCurrentPersonEmail();
 
-        port.save(new ActivityLog(userEmail, role, action, description));
+        saveAfterCommit(new ActivityLog(userEmail, role, action, description));
     }
 
+    /**
+     * Independent of the surrounding transaction, the entry is buffered right away.
+     */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveLog(String user, String role, String action, String description) {
         port.save(new ActivityLog(user, role, action, description));
     }
 
-
+    private void saveAfterCommit(ActivityLog activityLog) {
+        AfterCommit.run(() -> port.save(activityLog));
+    }
 }
@@ -0,0 +1,64 @@
+package gytis.courier.application.service.delivery;
+
+import gytis.courier.application.common.AfterCommit;
+import gytis.courier.application.port.out.delivery.DeliveryOptionCommandPort;
+import gytis.courier.domain.delivery.DeliveryOption;
+import gytis.courier.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory delivery option catalog. Readers always see one complete snapshot; writers
+ * reload the whole (tiny) table and swap the reference, so order placement and catalog
+ * pages never query delivery options.
+ */
+@Component
+public class DeliveryOptionCatalog {
+    private final DeliveryOptionCommandPort port;
+    private final AtomicReference<DeliveryOptionSnapshot> current = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public DeliveryOptionCatalog(DeliveryOptionCommandPort port) {
+        this.port = port;
+    }
+
+    public DeliveryOptionSnapshot snapshot() {
+        DeliveryOptionSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    public DeliveryOption findById(Long id) {
+        return snapshot().findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Delivery method was not found"));
+    }
+
+    public Optional<DeliveryOption> findByName(String name) {
+        return snapshot().findByName(name);
+    }
+
+    /**
+     * Serialized so two concurrent reloads cannot publish an older load over a newer one.
+     * A lock rather than {@code synchronized}, because the reload does JDBC and would pin
+     * the carrier thread when running on a virtual thread.
+     */
+    public DeliveryOptionSnapshot refresh() {
+        refreshLock.lock();
+        try {
+            DeliveryOptionSnapshot previous = current.get();
+            long version = previous == null ? 1 : previous.version() + 1;
+
+            DeliveryOptionSnapshot next = DeliveryOptionSnapshot.of(version, port.findAllOptions());
+            current.set(next);
+            return next;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public void refreshAfterCommit() {
+        AfterCommit.run(this::refresh);
+    }
+}
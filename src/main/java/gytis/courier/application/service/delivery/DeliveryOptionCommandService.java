@@ -12,10 +12,12 @@ import org.springframework.stereotype.Service;
 public class DeliveryOptionCommandService implements AddDeliveryOptionUseCase, UpdateDeliveryOptionUseCase, DeleteDeliveryOptionUseCase {
     private final DeliveryOptionCommandPort port;
     private final ActivityLogUseCase logUseCase;
+    private final DeliveryOptionCatalog catalog;
 
-    public DeliveryOptionCommandService(DeliveryOptionCommandPort port, ActivityLogUseCase logUseCase) {
+    public DeliveryOptionCommandService(DeliveryOptionCommandPort port, ActivityLogUseCase logUseCase, DeliveryOptionCatalog catalog) {
         this.port = port;
         this.logUseCase = logUseCase;
+        this.catalog = catalog;
     }
 
     @Override
@@ -28,6 +30,7 @@ public class DeliveryOptionCommandService implements AddDeliveryOptionUseCase, U
         }
 
         port.save(updated);
+        catalog.refreshAfterCommit();
 
         logUseCase.saveLog("ADMIN", "option update", "#" + updated.id() + " option updated");
     }
@@ -36,6 +39,7 @@ public class DeliveryOptionCommandService implements AddDeliveryOptionUseCase, U
     public void add(CreateDeliveryOptionCommand command) {
         DeliveryOption newOption = DeliveryOption.create(command);
         port.create(newOption);
+        catalog.refreshAfterCommit();
 
         logUseCase.saveLog("ADMIN", "option added", newOption.name() + " option added");
     }
@@ -43,6 +47,7 @@ public class DeliveryOptionCommandService implements AddDeliveryOptionUseCase, U
     @Override
     public void delete(Long id) {
         port.delete(id);
+        catalog.refreshAfterCommit();
         logUseCase.saveLog("ADMIN", "option delete", "#" + id + " option deleted");
     }
 }
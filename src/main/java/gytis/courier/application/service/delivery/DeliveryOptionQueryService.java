@@ -1,43 +1,36 @@
 package gytis.courier.application.service.delivery;
 
 import gytis.courier.application.port.in.delivery.DeliveryOptionQueryUseCase;
-import gytis.courier.application.port.out.delivery.DeliveryOptionQueryPort;
 import gytis.courier.application.readmodel.deliveryoption.DeliveryOptionReadModel;
 import gytis.courier.domain.delivery.DeliveryGroup;
 import gytis.courier.exception.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class DeliveryOptionQueryService implements DeliveryOptionQueryUseCase {
-    private final DeliveryOptionQueryPort port;
+    private final DeliveryOptionCatalog catalog;
 
-    public DeliveryOptionQueryService(DeliveryOptionQueryPort port) {
-        this.port = port;
+    public DeliveryOptionQueryService(DeliveryOptionCatalog catalog) {
+        this.catalog = catalog;
     }
 
     @Override
     public Map<DeliveryGroup, List<DeliveryOptionReadModel>> getAllCategorized() {
-        return port.findEnabled().stream()
-                .collect(Collectors.groupingBy(d ->
-                                DeliveryGroup.determineGroupFromName(d.name()),
-                        () -> new EnumMap<>(DeliveryGroup.class),
-                        Collectors.toList()
-                ));
+        return catalog.snapshot().enabledByGroup();
     }
 
     @Override
     public List<DeliveryOptionReadModel> getAllNotCategorized() {
-        return port.findAll();
+        return catalog.snapshot().all();
     }
 
     @Override
     public DeliveryOptionReadModel getById(Long id) {
-        return port.findByIdReadModel(id).orElseThrow(
-                () -> new ResourceNotFoundException("Not found"));
+        return catalog.snapshot().findById(id)
+                .map(DeliveryOptionSnapshot::toReadModel)
+                .orElseThrow(() -> new ResourceNotFoundException("Not found"));
     }
 }
@@ -0,0 +1,59 @@
+package gytis.courier.application.service.delivery;
+
+import gytis.courier.application.readmodel.deliveryoption.DeliveryOptionReadModel;
+import gytis.courier.domain.delivery.DeliveryGroup;
+import gytis.courier.domain.delivery.DeliveryOption;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of every delivery option at one catalog version. Names are keyed in lower
+ * case to keep the case-insensitive matching the database collation used to give.
+ */
+public record DeliveryOptionSnapshot(
+        long version,
+        Map<Long, DeliveryOption> byId,
+        Map<String, DeliveryOption> byName,
+        Map<DeliveryGroup, List<DeliveryOptionReadModel>> enabledByGroup,
+        List<DeliveryOptionReadModel> all
+) {
+    public static DeliveryOptionSnapshot of(long version, List<DeliveryOption> options) {
+        List<DeliveryOption> sorted = options.stream()
+                .sorted(Comparator.comparing(DeliveryOption::id))
+                .toList();
+
+        Map<DeliveryGroup, List<DeliveryOptionReadModel>> grouped = sorted.stream()
+                .filter(o -> !o.disabled())
+                .collect(Collectors.groupingBy(
+                        o -> DeliveryGroup.determineGroupFromName(o.name()),
+                        () -> new EnumMap<>(DeliveryGroup.class),
+                        Collectors.mapping(DeliveryOptionSnapshot::toReadModel, Collectors.toUnmodifiableList())
+                ));
+
+        return new DeliveryOptionSnapshot(
+                version,
+                sorted.stream().collect(Collectors.toUnmodifiableMap(DeliveryOption::id, Function.identity())),
+                sorted.stream().collect(Collectors.toUnmodifiableMap(o -> normalize(o.name()), Function.identity(), (a, b) -> a)),
+                Collections.unmodifiableMap(grouped),
+                sorted.stream().map(DeliveryOptionSnapshot::toReadModel).toList()
+        );
+    }
+
+    public Optional<DeliveryOption> findById(Long id) {
+        return Optional.ofNullable(id).map(byId::get);
+    }
+
+    public Optional<DeliveryOption> findByName(String name) {
+        return Optional.ofNullable(name).map(n -> byName.get(normalize(n)));
+    }
+
+    public static DeliveryOptionReadModel toReadModel(DeliveryOption option) {
+        return new DeliveryOptionReadModel(option.id(), option.disabled(), option.name(), option.description(), option.price());
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
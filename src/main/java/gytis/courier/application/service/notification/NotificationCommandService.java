@@ -9,6 +9,8 @@ import gytis.courier.domain.notification.Notification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 public class NotificationCommandService implements NotificationCommandUseCase {
     private final NotificationCommandPort port;
@@ -29,6 +31,12 @@ public class NotificationCommandService implements NotificationCommandUseCase {
         deliveryPort.deliver(saved);
     }
 
+    @Override
+    @Transactional
+    public void createAll(List<CreateNotificationCommand> commands) {
+        commands.forEach(this::create);
+    }
+
     @Override
     @Transactional
     public int delete(Long id) {
@@ -0,0 +1,139 @@
+package gytis.courier.application.service.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gytis.courier.application.command.CreateNotificationCommand;
+import gytis.courier.application.common.AfterCommit;
+import gytis.courier.application.port.in.notification.NotificationCommandUseCase;
+import gytis.courier.application.port.in.notification.NotificationDispatchUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded queue of notification commands drained on {@code notificationExecutor}, one batch
+ * per transaction. A batch that fails is retried command by command so one bad notification
+ * does not drop the rest. When the queue is full the command is created on the caller's
+ * thread, in a new transaction because the caller's has already committed.
+ *
+ * <p>The queue lives in memory: the outbox event that produced a command is marked processed
+ * once the command is queued, so a command that is still queued at shutdown, or whose single
+ * retry fails too, is logged and lost instead of redelivered. Notifications are advisory, so
+ * that is traded for keeping their inserts off the outbox relay.</p>
+ */
+@Service
+public class NotificationDispatchService implements NotificationDispatchUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatchService.class);
+
+    private final NotificationCommandUseCase commandUseCase;
+    private final TransactionTemplate newTransaction;
+    private final Executor executor;
+    private final BlockingQueue<CreateNotificationCommand> queue;
+    private final Cache<CreateNotificationCommand, Boolean> recent;
+    private final int batchSize;
+    private final Counter coalesced;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public NotificationDispatchService(NotificationCommandUseCase commandUseCase,
+                                       PlatformTransactionManager transactionManager,
+                                       @Qualifier("notificationExecutor") Executor executor,
+                                       MeterRegistry registry,
+                                       @Value("${notification.dispatch.queue-capacity:10000}") int queueCapacity,
+                                       @Value("${notification.dispatch.batch-size:50}") int batchSize,
+                                       @Value("${notification.dispatch.coalesce-window-ms:5000}") long coalesceWindowMs) {
+        this.commandUseCase = commandUseCase;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = executor;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(queueCapacity)
+                .expireAfterWrite(Duration.ofMillis(coalesceWindowMs))
+                .build();
+
+        registry.gaugeCollectionSize("notification.dispatch.queue", Tags.empty(), queue);
+        this.coalesced = registry.counter("notification.dispatch.coalesced");
+    }
+
+    @Override
+    public void dispatch(CreateNotificationCommand command) {
+        AfterCommit.run(() -> enqueue(command));
+    }
+
+    private void enqueue(CreateNotificationCommand command) {
+        if (recent.asMap().putIfAbsent(command, Boolean.TRUE) != null) {
+            coalesced.increment();
+            return;
+        }
+
+        if (!queue.offer(command)) {
+            logger.warn("Notification queue is full, creating '{}' on the caller thread", command.title());
+            newTransaction.executeWithoutResult(status -> commandUseCase.create(command));
+            return;
+        }
+
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            running.set(false);
+            logger.warn("Notification drain rejected, {} commands wait for the next dispatch", queue.size());
+        }
+    }
+
+    private void drain() {
+        try {
+            List<CreateNotificationCommand> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                deliver(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            running.set(false);
+        }
+
+        if (!queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void deliver(List<CreateNotificationCommand> batch) {
+        try {
+            commandUseCase.createAll(batch);
+        } catch (RuntimeException batchFailure) {
+            logger.warn("Notification batch of {} failed, retrying one by one", batch.size(), batchFailure);
+            for (CreateNotificationCommand command : batch) {
+                try {
+                    commandUseCase.create(command);
+                } catch (RuntimeException ex) {
+                    logger.error("Notification '{}' for {} was not created", command.title(), command.target(), ex);
+                }
+            }
+        }
+    }
+}
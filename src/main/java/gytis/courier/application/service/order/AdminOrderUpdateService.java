@@ -2,8 +2,8 @@ package gytis.courier.application.service.order;
 
 import gytis.courier.application.port.in.order.AdminOrderUpdateUseCase;
 import gytis.courier.application.port.out.DomainEventPublisher;
-import gytis.courier.application.port.out.delivery.DeliveryOptionCommandPort;
 import gytis.courier.application.port.out.order.OrderCommandPort;
+import gytis.courier.application.service.delivery.DeliveryOptionCatalog;
 import gytis.courier.domain.delivery.DeliveryOption;
 import gytis.courier.domain.order.Order;
 import gytis.courier.domain.order.OrderAddressSectionUpdateCommand;
@@ -15,13 +15,13 @@ import org.springframework.stereotype.Service;
 @Service
 public class AdminOrderUpdateService implements AdminOrderUpdateUseCase {
     private final OrderCommandPort commandPort;
-    private final DeliveryOptionCommandPort deliveryPort;
+    private final DeliveryOptionCatalog deliveryCatalog;
     private final DomainEventPublisher eventPublisher;
 
-    public AdminOrderUpdateService(OrderCommandPort commandPort, DeliveryOptionCommandPort deliveryPort, DomainEventPublisher eventPublisher
+    public AdminOrderUpdateService(OrderCommandPort commandPort, DeliveryOptionCatalog deliveryCatalog, DomainEventPublisher eventPublisher
     ) {
         this.commandPort = commandPort;
-        this.deliveryPort = deliveryPort;
+        this.deliveryCatalog = deliveryCatalog;
         this.eventPublisher = eventPublisher;
     }
 
@@ -37,7 +37,7 @@ public class AdminOrderUpdateService implements AdminOrderUpdateUseCase {
         }
 
         if (command.deliveryMethodName() != null) {
-            DeliveryOption newPreference = deliveryPort.findByName(command.deliveryMethodName())
+            DeliveryOption newPreference = deliveryCatalog.findByName(command.deliveryMethodName())
                     .orElseThrow(() -> new ResourceNotFoundException("Delivery option not found"));
 
             order.updateDeliveryMethodPreference(newPreference);
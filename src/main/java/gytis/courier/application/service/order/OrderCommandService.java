@@ -4,10 +4,10 @@ import gytis.courier.application.port.in.activityLog.ActivityLogUseCase;
 import gytis.courier.application.port.in.order.CancelOrderUseCase;
 import gytis.courier.application.port.in.order.PlaceOrderUseCase;
 import gytis.courier.application.port.in.payment.CreatePaymentUseCase;
-import gytis.courier.application.port.out.delivery.DeliveryOptionCommandPort;
 import gytis.courier.application.port.out.DomainEventPublisher;
 import gytis.courier.application.port.out.order.OrderCommandPort;
 import gytis.courier.application.service.address.AddressResolver;
+import gytis.courier.application.service.delivery.DeliveryOptionCatalog;
 import gytis.courier.domain.delivery.DeliveryOption;
 import gytis.courier.domain.event.OrderCanceledEvent;
 import gytis.courier.domain.order.Order;
@@ -21,30 +21,35 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class OrderCommandService implements PlaceOrderUseCase, CancelOrderUseCase {
     private final AddressResolver addressResolver;
-    private final DeliveryOptionCommandPort deliveryPort;
+    private final DeliveryOptionCatalog deliveryCatalog;
     private final OrderCommandPort commandPort;
     private final CreatePaymentUseCase createPaymentUseCase;
     private final DomainEventPublisher publisher;
     private final ActivityLogUseCase logUseCase;
 
-    public OrderCommandService(AddressResolver addressResolver, DeliveryOptionCommandPort deliveryPort, OrderCommandPort commandPort, CreatePaymentUseCase createPaymentUseCase, DomainEventPublisher publisher, ActivityLogUseCase logUseCase) {
+    public OrderCommandService(AddressResolver addressResolver, DeliveryOptionCatalog deliveryCatalog, OrderCommandPort commandPort, CreatePaymentUseCase createPaymentUseCase, DomainEventPublisher publisher, ActivityLogUseCase logUseCase) {
         this.addressResolver = addressResolver;
-        this.deliveryPort = deliveryPort;
+        this.deliveryCatalog = deliveryCatalog;
         this.commandPort = commandPort;
         this.createPaymentUseCase = createPaymentUseCase;
         this.publisher = publisher;
         this.logUseCase = logUseCase;
     }
 
+    /**
+     * Nothing is written until commit: the order, its addresses, parcel and payment take pooled ids
+     * on persist, so one flush sends them as per-table JDBC batches. Only a newly typed address book
+     * entry still inserts on the spot.
+     */
     @Override
     @Transactional
     public Long placeOrder(PlaceOrderCommand command) {
         OrderAddress sender = addressResolver.resolve(command.senderId(), command.sender(), command.userId());
         OrderAddress recipient = addressResolver.resolve(command.recipientId(), command.recipient(), command.userId());
 
-        DeliveryOption deliveryPreference = deliveryPort.findById(command.preferenceId());
-        DeliveryOption weight = deliveryPort.findById(command.weightId());
-        DeliveryOption size = deliveryPort.findById(command.dimensionsId());
+        DeliveryOption deliveryPreference = deliveryCatalog.findById(command.preferenceId());
+        DeliveryOption weight = deliveryCatalog.findById(command.weightId());
+        DeliveryOption size = deliveryCatalog.findById(command.dimensionsId());
 
         Parcel parcel = new Parcel(weight, size, command.parcelContents());
 
@@ -0,0 +1,180 @@
+package gytis.courier.application.service.outbox;
+
+import gytis.courier.application.port.out.outbox.OutboxEntry;
+import gytis.courier.application.port.out.outbox.OutboxPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dispatches outbox events to the in-process handlers on the outbox executor. Batches are
+ * drained one event at a time in id order; each event runs in its own transaction together
+ * with its processed marker, so handler writes and the marker commit or roll back as one and
+ * a redelivered event is skipped by its idempotency key. Failed events are retried with
+ * exponential backoff until {@code outbox.relay.max-attempts} is reached.
+ *
+ * <p>The relay only drains between lifecycle start and stop. Requests made before start are
+ * drained on start; on shutdown it stops claiming before the context destroys its beans, so
+ * events are not failed by handlers that can no longer be created.</p>
+ */
+@Service
+public class OutboxRelayService implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayService.class);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OutboxPort port;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration retention;
+
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private volatile boolean accepting;
+
+    public OutboxRelayService(OutboxPort port,
+                              ApplicationEventPublisher publisher,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("outboxExecutor") Executor executor,
+                              @Value("${outbox.relay.batch-size:100}") int batchSize,
+                              @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                              @Value("${outbox.relay.lease-seconds:60}") long leaseSeconds,
+                              @Value("${outbox.relay.backoff-ms:1000}") long backoffMs,
+                              @Value("${outbox.retention-hours:72}") long retentionHours) {
+        this.port = port;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.baseBackoff = Duration.ofMillis(backoffMs);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * Requests a drain. At most one drain runs at a time; a request arriving while one is
+     * running makes it loop once more instead of starting a second one.
+     */
+    public void trigger() {
+        requested.set(true);
+        if (!accepting || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            running.set(false);
+            logger.warn("Outbox relay rejected by executor, next poll will retry");
+        }
+    }
+
+    @Override
+    public void start() {
+        accepting = true;
+        if (requested.get()) {
+            trigger();
+        }
+    }
+
+    /**
+     * Stops claiming and waits for the running drain to finish its current event. Events it
+     * had claimed but not dispatched are picked up again once their lease expires.
+     */
+    @Override
+    public void stop() {
+        accepting = false;
+        requested.set(false);
+        try {
+            if (drainLock.tryLock(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                drainLock.unlock();
+            } else {
+                logger.warn("Outbox relay still draining after {}, stopping anyway", STOP_TIMEOUT);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return accepting;
+    }
+
+    public int purgeProcessed() {
+        return port.purgeProcessedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    int relayBatch() {
+        List<OutboxEntry> batch = port.claimBatch(batchSize, lease);
+        for (OutboxEntry entry : batch) {
+            if (!accepting) {
+                return 0;
+            }
+            dispatch(entry);
+        }
+        return batch.size();
+    }
+
+    private void drain() {
+        drainLock.lock();
+        try {
+            while (accepting && requested.getAndSet(false)) {
+                while (relayBatch() == batchSize) {
+                    // keep draining full batches
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Outbox relay stopped, next poll will retry", ex);
+        } finally {
+            drainLock.unlock();
+            running.set(false);
+        }
+
+        if (requested.get()) {
+            trigger();
+        }
+    }
+
+    private void dispatch(OutboxEntry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (port.markProcessed(entry.idempotencyKey())) {
+                    publisher.publishEvent(entry.event());
+                }
+            });
+        } catch (RuntimeException ex) {
+            int attempts = entry.attempts() + 1;
+            boolean exhausted = attempts >= maxAttempts;
+            logger.warn("Outbox event {} ({}) failed, attempt {}/{}",
+                    entry.id(), entry.event().getClass().getSimpleName(), attempts, maxAttempts, ex);
+            port.markFailed(entry.id(), attempts, exhausted, backoff(attempts), ex.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,40 @@
+package gytis.courier.application.service.payment;
+
+import gytis.courier.application.port.out.payment.PaymentCommandPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Resolves payment attempts left PENDING by a gateway call that threw or a process that died
+ * between the two payment transactions. The simulated providers keep no record to reconcile
+ * against, so such attempts are failed and give up their client key, which lets the user retry
+ * the payment, with the same Idempotency-Key too. A provider success that arrives later still
+ * settles the attempt, see {@code Payment.completeAttempt}.
+ */
+@Service
+public class PaymentAttemptSweeper {
+    private static final Logger logger = LoggerFactory.getLogger(PaymentAttemptSweeper.class);
+    private static final String TIMED_OUT = "No response from payment provider";
+
+    private final PaymentCommandPort paymentPort;
+    private final Duration pendingTimeout;
+
+    public PaymentAttemptSweeper(PaymentCommandPort paymentPort,
+                                 @Value("${payment.attempt.pending-timeout-seconds:300}") long pendingTimeoutSeconds) {
+        this.paymentPort = paymentPort;
+        this.pendingTimeout = Duration.ofSeconds(pendingTimeoutSeconds);
+    }
+
+    public int sweep() {
+        int failed = paymentPort.failPendingAttemptsCreatedBefore(LocalDateTime.now().minus(pendingTimeout), TIMED_OUT);
+        if (failed > 0) {
+            logger.warn("Failed {} payment attempts pending for more than {} s", failed, pendingTimeout.toSeconds());
+        }
+        return failed;
+    }
+}
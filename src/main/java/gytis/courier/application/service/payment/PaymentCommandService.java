@@ -11,33 +11,51 @@ import gytis.courier.application.port.out.DomainEventPublisher;
 import gytis.courier.application.port.out.payment.PaymentCommandPort;
 import gytis.courier.application.port.out.person.UserCommandPort;
 import gytis.courier.application.readmodel.payment.PayReadModel;
+import gytis.courier.application.result.PaymentResult;
+import gytis.courier.domain.event.PaymentConfirmedEvent;
 import gytis.courier.domain.payment.Payment;
 import gytis.courier.domain.payment.PaymentAttempt;
+import gytis.courier.domain.payment.PaymentAttemptStatus;
 import gytis.courier.domain.payment.method.PaymentMethod;
 import gytis.courier.domain.person.User;
+import gytis.courier.exception.PaymentInProgressException;
+import gytis.courier.exception.PaymentProviderUnavailableException;
 import gytis.courier.exception.ResourceNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Service
 public class PaymentCommandService implements CreatePaymentUseCase, CancelPaymentUseCase, PayUseCase, PaymentUpdateUseCase {
+    private static final int COMPLETION_ATTEMPTS = 3;
+
     private final PaymentCommandPort paymentPort;
     private final UserCommandPort userPort;
     private final PaymentProcessorFactory processorFactory;
     private final DomainEventPublisher eventPublisher;
     private final PaymentMethodFactory methodFactory;
     private final ActivityLogUseCase logUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentReplayCache replayCache;
 
     public PaymentCommandService(PaymentCommandPort paymentPort, UserCommandPort userPort,
-                                 PaymentProcessorFactory processorFactory, DomainEventPublisher eventPublisher, PaymentMethodFactory methodFactory, ActivityLogUseCase logUseCase) {
+                                 PaymentProcessorFactory processorFactory, DomainEventPublisher eventPublisher, PaymentMethodFactory methodFactory, ActivityLogUseCase logUseCase,
+                                 TransactionTemplate transactionTemplate, PaymentReplayCache replayCache) {
         this.paymentPort = paymentPort;
         this.userPort = userPort;
         this.processorFactory = processorFactory;
         this.eventPublisher = eventPublisher;
         this.methodFactory = methodFactory;
         this.logUseCase = logUseCase;
+        this.transactionTemplate = transactionTemplate;
+        this.replayCache = replayCache;
     }
 
     public void create(Long orderId, BigDecimal amount) {
@@ -45,28 +63,52 @@ public class PaymentCommandService implements CreatePaymentUseCase, CancelPaymen
         paymentPort.create(payment);
     }
 
+    /**
+     * Runs in three steps so no connection or row lock is held while the provider answers: a short
+     * transaction records a PENDING attempt under its idempotency key, the gateway is called with
+     * no transaction open and a second short transaction applies the outcome to that attempt. A
+     * provider that was never reached (open circuit, full bulkhead, rate limit, error) fails the
+     * attempt at once so the user can retry. If the call timed out or the process dies in between,
+     * the attempt stays PENDING until {@link PaymentAttemptSweeper} fails it.
+     *
+     * <p>Requests carrying an {@code Idempotency-Key} are answered from {@link PaymentReplayCache}
+     * when the same key was already seen. The key is also stored on the attempt as its client key,
+     * hashed together with the order id, so a repeat that reaches another instance or outlives the
+     * cache gets the recorded outcome instead of a second charge. Only outcomes the provider gave
+     * are replayed: an attempt failed because the provider was never reached, here or by the
+     * sweeper, releases its client key and a retry with the same key runs again. Duplicates without
+     * a key are stopped by the payment row's version: only one of two concurrent starts commits.</p>
+     */
     @Override
-    @Transactional
     public PayReadModel pay(PaymentCommand command) {
-        User user = userPort.findWithPaymentMethodsById(command.userId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        Payment payment = paymentPort.findByOrderId(command.orderId());
-
-        PaymentMethod method = determinePaymentMethod(command, user);
-        PaymentAttempt attempt = payment.startAttempt(method.providerType());
+        if (command.idempotencyKey() == null) {
+            return process(command);
+        }
+        return replayCache.execute(command.userId(), command.orderId(), command.idempotencyKey(),
+                () -> process(command));
+    }
 
-        var result = processorFactory.getProcessor(method).process(method, command.cvc());
-        var maybeEvent = payment.completeAttempt(attempt, result);
+    private PayReadModel process(PaymentCommand command) {
+        String clientKey = command.idempotencyKey() == null
+                ? null
+                : clientKey(command.orderId(), command.idempotencyKey());
+        StartedAttempt started = transactionTemplate.execute(status -> startAttempt(command, clientKey));
+        if (started.recorded() != null) {
+            return replay(started.recorded());
+        }
 
-        boolean isNewMethod = method.getId() == null;
-        if (isNewMethod && result.savedMethod() && result.success() && result.token() != null) {
-            if (user.maybeSaveMethod(method, result.token())) {
-                userPort.saveWithPaymentMethods(user);
+        PaymentMethod method = started.method();
+        PaymentResult result;
+        try {
+            result = processorFactory.getProcessor(method).process(method, command.cvc());
+        } catch (PaymentProviderUnavailableException e) {
+            if (!e.isOutcomeUnknown()) {
+                complete(command, started, PaymentResult.failure(e.getType(), e.getMessage(), false), false);
             }
+            throw e;
         }
 
-        paymentPort.update(payment);
-        maybeEvent.ifPresent(eventPublisher::publish);
+        Payment payment = complete(command, started, result, true);
 
         if (result.success()) {
             logUseCase.saveLog("USER", "payment succeeded", "Payment #" + payment.getId() + " amount: " + payment.getAmount() + " succeed using " + result.providerType().name());
@@ -98,9 +140,106 @@ public class PaymentCommandService implements CreatePaymentUseCase, CancelPaymen
         paymentPort.update(payment);
     }
 
+    private StartedAttempt startAttempt(PaymentCommand command, String clientKey) {
+        User user = userPort.findWithPaymentMethodsById(command.userId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        Payment payment = paymentPort.findByOrderId(command.orderId());
+
+        Optional<PaymentAttempt> recorded = clientKey == null
+                ? Optional.empty()
+                : payment.findAttemptByClientKey(clientKey);
+        if (recorded.isPresent()) {
+            return new StartedAttempt(null, null, recorded.get());
+        }
+
+        PaymentMethod method = determinePaymentMethod(command, user);
+        PaymentAttempt attempt = payment.startAttempt(method.providerType(), clientKey);
+        paymentPort.update(payment);
+
+        return new StartedAttempt(method, attempt.getIdempotencyKey(), null);
+    }
+
+    private static PayReadModel replay(PaymentAttempt attempt) {
+        if (attempt.isPending()) {
+            throw new PaymentInProgressException("Payment is already being processed");
+        }
+
+        boolean success = attempt.getStatus() == PaymentAttemptStatus.SUCCESS;
+        return new PayReadModel(
+                attempt.getProvider().name(),
+                attempt.getTransactionId(),
+                success,
+                attempt.getFailureReason(),
+                false
+        );
+    }
+
+    /**
+     * Client keys are only unique per order and limited to 64 characters when stored, so the stored
+     * key is the SHA-256 of order id and client key.
+     */
+    private static String clientKey(Long orderId, String clientKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest((orderId + ":" + clientKey).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The provider has already answered, so a version conflict with a concurrent admin update or
+     * cancellation is retried on fresh state rather than dropping the outcome. The payment and user
+     * are reloaded on every try.
+     *
+     * @param answered {@code false} when the provider was never reached and the attempt is abandoned
+     */
+    private Payment complete(PaymentCommand command, StartedAttempt started, PaymentResult result,
+                             boolean answered) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> completeAttempt(command, started, result, answered));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == COMPLETION_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    private Payment completeAttempt(PaymentCommand command, StartedAttempt started, PaymentResult result,
+                                    boolean answered) {
+        Payment payment = paymentPort.findByOrderIdWithAttempts(command.orderId());
+        PaymentAttempt attempt = payment.findAttempt(started.idempotencyKey())
+                .orElseThrow(() -> new IllegalStateException("Payment attempt " + started.idempotencyKey() + " was not found"));
+
+        if (!answered) {
+            payment.abandonAttempt(attempt, result.failureReason());
+            paymentPort.update(payment);
+            return payment;
+        }
+
+        Optional<PaymentConfirmedEvent> maybeEvent = payment.completeAttempt(attempt, result);
+
+        PaymentMethod method = started.method();
+        boolean isNewMethod = method.getId() == null;
+        if (isNewMethod && result.savedMethod() && result.success() && result.token() != null) {
+            User user = userPort.findWithPaymentMethodsById(command.userId())
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+            if (user.maybeSaveMethod(method, result.token())) {
+                userPort.saveWithPaymentMethods(user);
+            }
+        }
+
+        paymentPort.update(payment);
+        maybeEvent.ifPresent(eventPublisher::publish);
+
+        return payment;
+    }
+
     private PaymentMethod determinePaymentMethod(PaymentCommand command, User user) {
         return (command.existingMethodId() != null)
                 ? user.getMethodById(command.existingMethodId())
                 : methodFactory.from(command.command());
     }
+
+    private record StartedAttempt(PaymentMethod method, String idempotencyKey, PaymentAttempt recorded) {}
 }
\ No newline at end of file
@@ -1,23 +1,67 @@
 package gytis.courier.application.service.payment;
 
+import gytis.courier.application.port.in.payment.ProviderHealthQueryUseCase;
 import gytis.courier.application.port.out.PaymentProcessorGateway;
+import gytis.courier.application.readmodel.payment.ProviderHealthReadModel;
+import gytis.courier.application.result.PaymentResult;
+import gytis.courier.domain.payment.ProviderType;
 import gytis.courier.domain.payment.method.PaymentMethod;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Provider to gateway table resolved once at startup; each payment is one map lookup on
+ * {@link PaymentMethod#providerType()}. Two gateways claiming the same provider fail startup.
+ */
 @Component
-public class PaymentProcessorFactory {
-    private final List<PaymentProcessorGateway> processors;
+public class PaymentProcessorFactory implements ProviderHealthQueryUseCase {
+    private final Map<ProviderType, PaymentProcessorGateway> processors;
+    private final PaymentProviderGuard guard;
 
-    public PaymentProcessorFactory(List<PaymentProcessorGateway> processors) {
-        this.processors = processors;
+    public PaymentProcessorFactory(List<PaymentProcessorGateway> processors, PaymentProviderGuard guard) {
+        Map<ProviderType, PaymentProcessorGateway> table = new EnumMap<>(ProviderType.class);
+        for (PaymentProcessorGateway processor : processors) {
+            ProviderType type = processor.getSupportedType();
+            if (table.putIfAbsent(type, new GuardedProcessor(processor, guard)) != null) {
+                throw new IllegalStateException("More than one payment processor for " + type);
+            }
+        }
+        this.processors = Collections.unmodifiableMap(table);
+        this.guard = guard;
     }
 
+    /**
+     * The returned processor runs behind the provider's circuit breaker and bulkhead.
+     */
     public PaymentProcessorGateway getProcessor(PaymentMethod method) {
-        return processors.stream()
-                .filter(p -> p.supports(method))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("No processor found " + method.getClass().getSimpleName()));
+        PaymentProcessorGateway processor = processors.get(method.providerType());
+        if (processor == null) {
+            throw new IllegalArgumentException("No processor found " + method.getClass().getSimpleName());
+        }
+        return processor;
+    }
+
+    @Override
+    public List<ProviderHealthReadModel> getProviderHealth() {
+        return processors.keySet().stream()
+                .map(guard::health)
+                .toList();
+    }
+
+    private record GuardedProcessor(PaymentProcessorGateway delegate,
+                                    PaymentProviderGuard guard) implements PaymentProcessorGateway {
+        @Override
+        public ProviderType getSupportedType() {
+            return delegate.getSupportedType();
+        }
+
+        @Override
+        public PaymentResult process(PaymentMethod method, String cvc) {
+            return guard.call(delegate.getSupportedType(), () -> delegate.process(method, cvc));
+        }
     }
 }
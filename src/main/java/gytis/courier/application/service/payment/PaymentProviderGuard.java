@@ -0,0 +1,153 @@
+package gytis.courier.application.service.payment;
+
+import gytis.courier.application.readmodel.payment.ProviderHealthReadModel;
+import gytis.courier.application.result.PaymentResult;
+import gytis.courier.domain.payment.ProviderType;
+import gytis.courier.exception.PaymentProviderUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker, bulkhead and metrics per provider around every gateway call. An open circuit
+ * fails payments immediately instead of letting them queue behind a dead provider, and the
+ * bulkhead caps how many request threads one slow provider can hold, so the other provider and the
+ * rest of the API keep their capacity. Only {@link PaymentProviderUnavailableException} counts as a
+ * failure; a declined card is a healthy answer.
+ *
+ * <p>Publishes {@code payment.provider.calls} by outcome (success, declined, failure, rejected),
+ * {@code payment.provider.latency} with a percentile histogram and
+ * {@code payment.provider.bulkhead.available}, all tagged with the provider.</p>
+ */
+@Component
+public class PaymentProviderGuard {
+    private final Map<ProviderType, Channel> channels = new EnumMap<>(ProviderType.class);
+    private final long maxWaitMs;
+
+    public PaymentProviderGuard(MeterRegistry registry,
+                                @Value("${payment.provider.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+                                @Value("${payment.provider.bulkhead.max-wait-ms:100}") long maxWaitMs,
+                                @Value("${payment.provider.circuit.window-size:50}") int windowSize,
+                                @Value("${payment.provider.circuit.minimum-calls:20}") int minimumCalls,
+                                @Value("${payment.provider.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+                                @Value("${payment.provider.circuit.open-ms:10000}") long openMs) {
+        this.maxWaitMs = maxWaitMs;
+        for (ProviderType type : ProviderType.values()) {
+            ProviderCircuitBreaker breaker = new ProviderCircuitBreaker(windowSize, minimumCalls,
+                    failureRateThreshold, TimeUnit.MILLISECONDS.toNanos(openMs), System::nanoTime);
+            channels.put(type, new Channel(registry, type, breaker, new Semaphore(maxConcurrentCalls)));
+        }
+    }
+
+    public PaymentResult call(ProviderType type, Supplier<PaymentResult> call) {
+        Channel channel = channels.get(type);
+        ProviderCircuitBreaker.Permit permit = channel.breaker().tryAcquire();
+        if (!permit.granted()) {
+            channel.rejected().increment();
+            throw new PaymentProviderUnavailableException("Payment provider is temporarily unavailable", type, false);
+        }
+
+        if (!acquire(channel.bulkhead())) {
+            channel.breaker().onIgnored(permit);
+            channel.rejected().increment();
+            throw new PaymentProviderUnavailableException("Payment provider is busy, please retry", type, false);
+        }
+
+        long started = System.nanoTime();
+        try {
+            PaymentResult result = call.get();
+            channel.breaker().onSuccess(permit);
+            (result.success() ? channel.successes() : channel.declines()).increment();
+            return result;
+        } catch (PaymentProviderUnavailableException e) {
+            channel.breaker().onFailure(permit);
+            channel.failures().increment();
+            throw e;
+        } catch (RuntimeException e) {
+            channel.breaker().onIgnored(permit);
+            throw e;
+        } finally {
+            channel.latency().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            channel.bulkhead().release();
+        }
+    }
+
+    public ProviderHealthReadModel health(ProviderType type) {
+        Channel channel = channels.get(type);
+        long successes = (long) channel.successes().count();
+        long declines = (long) channel.declines().count();
+        long failures = (long) channel.failures().count();
+
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile value : channel.latency().takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.5) p50 = value.value(TimeUnit.MILLISECONDS);
+            if (value.percentile() == 0.99) p99 = value.value(TimeUnit.MILLISECONDS);
+        }
+
+        return new ProviderHealthReadModel(
+                type,
+                channel.breaker().state().name(),
+                channel.bulkhead().availablePermits(),
+                successes + declines + failures,
+                successes,
+                declines,
+                failures,
+                (long) channel.rejected().count(),
+                p50,
+                p99
+        );
+    }
+
+    private boolean acquire(Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Channel(
+            ProviderCircuitBreaker breaker,
+            Semaphore bulkhead,
+            Counter successes,
+            Counter declines,
+            Counter failures,
+            Counter rejected,
+            Timer latency
+    ) {
+        Channel(MeterRegistry registry, ProviderType type, ProviderCircuitBreaker breaker, Semaphore bulkhead) {
+            this(breaker, bulkhead,
+                    calls(registry, type, "success"),
+                    calls(registry, type, "declined"),
+                    calls(registry, type, "failure"),
+                    calls(registry, type, "rejected"),
+                    Timer.builder("payment.provider.latency")
+                            .tag("provider", type.name())
+                            .publishPercentiles(0.5, 0.99)
+                            .publishPercentileHistogram()
+                            .register(registry));
+            Gauge.builder("payment.provider.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                    .tag("provider", type.name())
+                    .register(registry);
+        }
+
+        private static Counter calls(MeterRegistry registry, ProviderType type, String outcome) {
+            return Counter.builder("payment.provider.calls")
+                    .tag("provider", type.name())
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package gytis.courier.application.service.payment;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gytis.courier.application.readmodel.payment.PayReadModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived answers to {@code Idempotency-Key} pay requests. The first request for a key
+ * registers an in-flight future and runs the payment; duplicates arriving meanwhile wait on that
+ * future and later ones get the finished answer, so a double-click or network retry neither
+ * reaches the provider twice nor queues on the payment row. Failures are not remembered, a
+ * retry after an error runs again.
+ */
+@Component
+public class PaymentReplayCache {
+    static final int MAX_KEY_LENGTH = 64;
+
+    private final AsyncCache<String, PayReadModel> cache;
+
+    public PaymentReplayCache(MeterRegistry registry,
+                              @Value("${payment.replay-cache.max-size:10000}") long maxSize,
+                              @Value("${payment.replay-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "payment.replay");
+    }
+
+    /**
+     * Keys are scoped to the user and order, so a key reused by another client or for another
+     * order never returns someone else's answer.
+     */
+    public PayReadModel execute(Long userId, Long orderId, String idempotencyKey, Supplier<PayReadModel> payment) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String key = userId + ":" + orderId + ":" + idempotencyKey;
+        CompletableFuture<PayReadModel> mine = new CompletableFuture<>();
+        CompletableFuture<PayReadModel> inFlight = cache.asMap().putIfAbsent(key, mine);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            PayReadModel result = payment.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static PayReadModel await(CompletableFuture<PayReadModel> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package gytis.courier.application.service.payment;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker for one payment provider. It opens when at least
+ * {@code failureRateThreshold} of the last {@code windowSize} calls failed, provided
+ * {@code minimumCalls} have been recorded. After {@code openNanos} one trial call is let through:
+ * success closes the circuit with a clean window, failure opens it again.
+ *
+ * <p>Every outcome is reported with the permit its call was given. Only the trial decides a
+ * half-open circuit; calls let through while the circuit was still closed and finishing after it
+ * opened are not counted.</p>
+ */
+public class ProviderCircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public enum Permit {
+        DENIED, CALL, TRIAL;
+
+        public boolean granted() {
+            return this != DENIED;
+        }
+    }
+
+    private final boolean[] failed;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public ProviderCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos,
+                                  LongSupplier clock) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("Circuit breaker needs 1 <= minimumCalls <= windowSize");
+        }
+        this.failed = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * @return {@link Permit#DENIED} while open, or while half-open and the trial call is still running
+     */
+    public Permit tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (clock.getAsLong() - openedAt < openNanos) return Permit.DENIED;
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) return Permit.DENIED;
+                trialInFlight = true;
+                return Permit.TRIAL;
+            }
+            return Permit.CALL;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess(Permit permit) {
+        lock.lock();
+        try {
+            if (isTrial(permit)) {
+                close();
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure(Permit permit) {
+        lock.lock();
+        try {
+            if (isTrial(permit)) {
+                open();
+                return;
+            }
+            if (state != State.CLOSED) return;
+            record(true);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The permitted call ended without telling anything about the provider's health.
+     */
+    public void onIgnored(Permit permit) {
+        lock.lock();
+        try {
+            if (isTrial(permit)) {
+                trialInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isTrial(Permit permit) {
+        return permit == Permit.TRIAL && state == State.HALF_OPEN;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == failed.length) {
+            if (failed[next]) failures--;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        if (failure) failures++;
+        next = (next + 1) % failed.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        trialInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        trialInFlight = false;
+    }
+}
@@ -31,4 +31,9 @@ public class PersonNotificationCommandService implements PersonNotificationComma
     public void deleteAll(Long personId) {
         port.deleteAll(personId);
     }
+
+    @Override
+    public int reconcileUnreadCounts() {
+        return port.reconcileUnreadCounts();
+    }
 }
@@ -21,6 +21,11 @@ public class PersonNotificationQueryService implements PersonNotificationQueryUs
         return queryPort.getAll(personId, pageQuery);
     }
 
+    @Override
+    public long getUnreadCount(Long personId) {
+        return queryPort.getUnreadCount(personId);
+    }
+
     @Override
     public PersonNotificationPageResult getPageContainingNotification(Long nId, Long personId, int pageSize) {
         int index = queryPort.findIndex(personId, nId)
@@ -4,6 +4,9 @@ import gytis.courier.application.port.out.task.AdminTaskQueryPort;
 import gytis.courier.domain.task.TaskAssignmentPolicy;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Component
 public class TaskAssignmentPolicyImpl implements TaskAssignmentPolicy {
     private final AdminTaskQueryPort queryPort;
@@ -19,4 +22,12 @@ public class TaskAssignmentPolicyImpl implements TaskAssignmentPolicy {
         }
     }
 
+    @Override
+    public Set<Long> findUnavailableCouriers(Collection<Long> courierIds) {
+        if (courierIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return queryPort.findCourierIdsWithActiveTask(courierIds);
+    }
 }
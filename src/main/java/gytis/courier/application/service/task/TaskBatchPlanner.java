@@ -0,0 +1,108 @@
+package gytis.courier.application.service.task;
+
+import gytis.courier.application.port.in.person.CourierQueryUseCase;
+import gytis.courier.application.port.in.task.TaskBatchPlanningUseCase;
+import gytis.courier.application.port.out.order.OrderQueryPort;
+import gytis.courier.application.readmodel.person.CourierReadModel;
+import gytis.courier.application.result.AssignableParcel;
+import gytis.courier.application.result.TaskBatchProposal;
+import gytis.courier.domain.address.AddressType;
+import gytis.courier.domain.order.ParcelStatus;
+import gytis.courier.domain.task.TaskType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits the assignable parcels of one task type into balanced batches, one per available courier.
+ *
+ * <p>Parcels are ordered into area cells by city and post code of the address the courier visits,
+ * then cut into consecutive runs whose sizes differ by at most one, so every batch covers as few
+ * neighbouring cells as the balance allows. When the couriers cannot take every parcel within
+ * the per-task limit the oldest orders are planned first and the rest are reported as left over.</p>
+ *
+ * <p>Nothing is written here: the proposal is accepted through the regular batch task creation,
+ * which re-validates courier availability and parcel state, so only parcels in the statuses
+ * {@link ParcelAssignmentValidator} accepts are planned.</p>
+ */
+@Service
+public class TaskBatchPlanner implements TaskBatchPlanningUseCase {
+    private static final Comparator<AssignableParcel> BY_AREA = Comparator
+            .comparing(AssignableParcel::city, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(AssignableParcel::postCode, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(AssignableParcel::orderId);
+
+    private final OrderQueryPort orderQueryPort;
+    private final CourierQueryUseCase courierQueryUseCase;
+    private final int defaultMaxItemsPerTask;
+
+    public TaskBatchPlanner(OrderQueryPort orderQueryPort, CourierQueryUseCase courierQueryUseCase,
+                            @Value("${task.batch.max-items-per-task:25}") int defaultMaxItemsPerTask) {
+        this.orderQueryPort = orderQueryPort;
+        this.courierQueryUseCase = courierQueryUseCase;
+        this.defaultMaxItemsPerTask = defaultMaxItemsPerTask;
+    }
+
+    @Override
+    public TaskBatchProposal propose(TaskType type, Integer maxItemsPerTask) {
+        int maxItems = maxItemsPerTask == null ? defaultMaxItemsPerTask : maxItemsPerTask;
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("Max items per task must be positive");
+        }
+
+        Set<ParcelStatus> statuses = switch (type) {
+            case PICKUP -> ParcelAssignmentValidator.ELIGIBLE_STATUSES_FOR_PICKUP;
+            case DELIVERY -> ParcelAssignmentValidator.ELIGIBLE_STATUSES_FOR_DELIVERY;
+        };
+        AddressType addressType = type == TaskType.PICKUP ? AddressType.senderAddress : AddressType.recipientAddress;
+
+        List<CourierReadModel> couriers = courierQueryUseCase.getAvailableCouriers().stream()
+                .filter(c -> !c.isBlocked())
+                .sorted(Comparator.comparing(CourierReadModel::id))
+                .toList();
+        List<AssignableParcel> parcels = orderQueryPort.findAssignableParcels(statuses, addressType);
+        if (couriers.isEmpty() || parcels.isEmpty()) {
+            return new TaskBatchProposal(type, List.of(), parcels.size());
+        }
+
+        long capacity = (long) couriers.size() * maxItems;
+        List<AssignableParcel> planned = parcels.stream()
+                .sorted(Comparator.comparing(AssignableParcel::orderId))
+                .limit(capacity)
+                .sorted(BY_AREA)
+                .toList();
+
+        int taskCount = Math.min(couriers.size(), planned.size());
+        int baseSize = planned.size() / taskCount;
+        int largerTasks = planned.size() % taskCount;
+
+        List<TaskBatchProposal.ProposedTask> tasks = new ArrayList<>(taskCount);
+        int from = 0;
+        for (int i = 0; i < taskCount; i++) {
+            int to = from + baseSize + (i < largerTasks ? 1 : 0);
+            List<AssignableParcel> batch = planned.subList(from, to);
+            CourierReadModel courier = couriers.get(i);
+
+            tasks.add(new TaskBatchProposal.ProposedTask(
+                    courier.id(),
+                    courier.name(),
+                    batch.stream().map(AssignableParcel::parcelId).toList(),
+                    areasOf(batch)
+            ));
+            from = to;
+        }
+
+        return new TaskBatchProposal(type, tasks, parcels.size() - planned.size());
+    }
+
+    private static List<String> areasOf(List<AssignableParcel> batch) {
+        Set<String> areas = new LinkedHashSet<>();
+        batch.forEach(p -> areas.add(p.city() + " " + p.postCode()));
+        return List.copyOf(areas);
+    }
+}
@@ -8,14 +8,20 @@ import gytis.courier.application.port.in.task.ParcelAssignmentFacade;
 import gytis.courier.application.port.out.DomainEventPublisher;
 import gytis.courier.application.port.out.order.OrderQueryPort;
 import gytis.courier.application.port.out.task.TaskCommandPort;
+import gytis.courier.application.result.TaskBatchResult;
 import gytis.courier.application.service.activitylog.ActivityLogService;
 import gytis.courier.application.service.person.CourierCommandService;
+import gytis.courier.domain.event.CourierReturningEvent;
+import gytis.courier.domain.order.ParcelStatus;
 import gytis.courier.domain.task.*;
 import gytis.courier.exception.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TaskCommandService implements AdminTaskCommandUseCase, CourierTaskCommandUseCase {
@@ -67,6 +73,69 @@ public class TaskCommandService implements AdminTaskCommandUseCase, CourierTaskC
         logService.saveLog("ADMIN", "task created", "Task #" + taskWithId.getId() + " with " + task.getTaskItems().size() + " items, created and assigned to courier #" + taskWithId.getCourierId());
     }
 
+    @Override
+    @Transactional
+    public TaskBatchResult createTasks(List<CreateTaskCommand> commands) {
+        Set<Long> unavailableCouriers = assignmentPolicy.findUnavailableCouriers(commands.stream()
+                .map(CreateTaskCommand::courierId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        Map<Long, TaskItemCreationSnapshot> snapshotsByParcelId = orderQueryPort.findOrdersByParcelIds(commands.stream()
+                        .map(CreateTaskCommand::parcelIds)
+                        .filter(Objects::nonNull)
+                        .flatMap(List::stream)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(TaskItemCreationSnapshot::parcelId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>();
+        List<TaskBatchResult.Failure> failures = new ArrayList<>();
+        Set<Long> claimedCouriers = new HashSet<>();
+        Set<Long> claimedParcels = new HashSet<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            CreateTaskCommand command = commands.get(i);
+            try {
+                validateBatchCommand(command, unavailableCouriers, claimedCouriers, claimedParcels);
+
+                List<TaskItemCreationSnapshot> snapshots = command.parcelIds().stream()
+                        .map(snapshotsByParcelId::get)
+                        .filter(Objects::nonNull)
+                        .toList();
+                ParcelAssignmentValidator.validate(command.parcelIds(), snapshots, command.taskType());
+
+                tasks.add(Task.create(snapshots, command.courierId(), command.adminId(), command.taskType()));
+                claimedCouriers.add(command.courierId());
+                claimedParcels.addAll(command.parcelIds());
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                failures.add(new TaskBatchResult.Failure(i, command.courierId(), e.getMessage()));
+            }
+        }
+
+        if (tasks.isEmpty()) {
+            return new TaskBatchResult(List.of(), failures);
+        }
+
+        parcelAssignmentFacade.assignParcels(parcelIdsOf(tasks.stream()));
+
+        List<Long> deliveringParcelIds = parcelIdsOf(tasks.stream()
+                .filter(t -> t.getTaskType() == TaskType.DELIVERY));
+        if (!deliveringParcelIds.isEmpty()) {
+            parcelAssignmentFacade.markParcelsDelivering(deliveringParcelIds);
+        }
+
+        List<Long> createdTaskIds = commandPort.createAll(tasks).stream()
+                .map(Task::getId)
+                .toList();
+        tasks.forEach(t -> publisher.publish(t.pullEvents()));
+
+        logService.saveLog("ADMIN", "tasks created", createdTaskIds.size() + " tasks created in batch: " + createdTaskIds);
+
+        return new TaskBatchResult(createdTaskIds, failures);
+    }
+
     @Override
     @Transactional
     public void addItems(Long taskId, List<Long> parcelIds) {
@@ -93,9 +162,34 @@ public class TaskCommandService implements AdminTaskCommandUseCase, CourierTaskC
         logService.saveLog("ADMIN", "cancel", "Task #" + task.getId() + " canceled");
     }
 
+    /**
+     * Fast path: locks the task row, flips the single item with a guarded UPDATE and only moves the task
+     * when no non-final items remain. Anything the guards reject falls back to the full aggregate,
+     * which also produces the proper validation error.
+     */
     @Override
     @Transactional
     public void updateItemStatus(UpdateItemStatusCommand command) {
+        Set<ParcelStatus> allowedFrom = ParcelStatus.taskItemSourcesFor(command.status());
+
+        boolean updated = !allowedFrom.isEmpty()
+                && commandPort.lockTask(command.taskId(), command.myId(), DeliveryStatus.IN_PROGRESS)
+                && commandPort.updateItemStatus(command.taskId(), command.taskItemId(), allowedFrom, command.status());
+
+        if (!updated) {
+            updateItemStatusOnAggregate(command);
+            return;
+        }
+
+        if (commandPort.countItemsNotIn(command.taskId(), ParcelStatus.itemFinalStates()) == 0
+                && commandPort.changeDeliveryStatus(command.taskId(), DeliveryStatus.IN_PROGRESS, DeliveryStatus.RETURNING_TO_STATION)) {
+            publisher.publish(new CourierReturningEvent(command.taskId(), command.myId()));
+        }
+
+        logService.saveLog("COURIER", "update item", "Task Item #" + command.taskItemId() + " status in Task #" + command.taskId() + " was updated to " + command.status());
+    }
+
+    private void updateItemStatusOnAggregate(UpdateItemStatusCommand command) {
         Task task = findWithItemsById(command.taskId());
 
         task.validateCourierOwnership(command.myId());
@@ -175,6 +269,29 @@ public class TaskCommandService implements AdminTaskCommandUseCase, CourierTaskC
         logService.saveLog("COURIER", "check-in", "Courier #" + task.getCourierId() + " checked in with Task #" + task.getId() + " size of " + task.getTaskItems().size());
     }
 
+    private void validateBatchCommand(CreateTaskCommand command, Set<Long> unavailableCouriers,
+                                      Set<Long> claimedCouriers, Set<Long> claimedParcels) {
+        if (command.courierId() == null || command.adminId() == null || command.taskType() == null
+                || command.parcelIds() == null || command.parcelIds().isEmpty()) {
+            throw new IllegalArgumentException("Courier, task type and parcels are required");
+        }
+
+        if (unavailableCouriers.contains(command.courierId()) || claimedCouriers.contains(command.courierId())) {
+            throw new IllegalStateException("Courier already has an active task");
+        }
+
+        if (command.parcelIds().stream().anyMatch(claimedParcels::contains)) {
+            throw new IllegalStateException("Parcel already used by another task in this batch");
+        }
+    }
+
+    private List<Long> parcelIdsOf(Stream<Task> tasks) {
+        return tasks
+                .flatMap(t -> t.getTaskItems().stream())
+                .map(TaskItem::getParcelId)
+                .toList();
+    }
+
     private Task findWithItemsById(Long id) {
         return commandPort.getWithItemsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
@@ -1,20 +1,50 @@
 package gytis.courier.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    /**
+     * With {@code spring.threads.virtual.enabled} the notification work runs on virtual threads.
+     * A semaphore taken inside each task replaces the pool size, so notification bursts cannot
+     * take more than their share of Hikari connections. The executor's own concurrency limit is
+     * not used: it would block the submitting thread, and tasks are submitted from afterCommit
+     * on request threads.
+     */
     @Bean(name = "notificationExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(Environment environment,
+                                 @Value("${notification.executor.max-concurrency:10}") int maxConcurrency) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            Semaphore permits = new Semaphore(maxConcurrency);
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Notification-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(task -> () -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(10);
+        executor.setMaxPoolSize(maxConcurrency);
         executor.setQueueCapacity(500);
         executor.setThreadNamePrefix("Notification-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -23,4 +53,24 @@ public class AsyncConfig {
 
         return executor;
     }
+
+    /**
+     * Runs the outbox relay. A single thread keeps events dispatched in the order they were
+     * written; the relay itself never queues more than one drain. It stays a platform thread
+     * in virtual-thread mode: a throttled virtual executor would block the relay when it
+     * re-submits itself from its own thread.
+     */
+    @Bean(name = "outboxExecutor")
+    public Executor outboxExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("Outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
 }
@@ -1,7 +1,7 @@
 package gytis.courier.config;
 
 import gytis.courier.adapter.in.security.AuthenticatedPerson;
-import gytis.courier.adapter.out.jwt.JwtService;
+import gytis.courier.adapter.out.jwt.JwtClaimsCache;
 import gytis.courier.application.port.out.auth.JwtClaims;
 import gytis.courier.common.CookieUtil;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -26,11 +26,11 @@ import java.util.*;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtService jwtService;
+    private final JwtClaimsCache claimsCache;
     private final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
-        this.jwtService = jwtService;
+    public JwtAuthenticationFilter(JwtClaimsCache claimsCache) {
+        this.claimsCache = claimsCache;
     }
 
     @Override
@@ -45,8 +45,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(token)) {
             try {
-                logger.info("validating JWT");
-                authenticatePerson(jwtService.validateToken(token));
+                authenticatePerson(claimsCache.validate(token));
             } catch (SignatureException e) {
                 handleJwtException(response, "Invalid JWT signature: " + e.getMessage());
                 return;
@@ -75,7 +74,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         );
 
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        logger.info("Authenticated user: {}", claims.subject());
+        logger.debug("Authenticated user: {}", claims.subject());
     }
 
     private void handleJwtException(HttpServletResponse response, String errorMessage) throws IOException {
@@ -7,6 +7,8 @@ public class Notification {
     private final String title;
     private final String message;
     private final NotificationTarget target;
+    private final NotificationDeliveryStatus deliveryStatus;
+    private final long deliveredCount;
 
     public Notification(String title, String message, NotificationTarget target) {
         validateTitle(title);
@@ -15,6 +17,10 @@ public class Notification {
         this.title = title;
         this.message = message;
         this.target = target;
+
+        boolean broadcast = target instanceof NotificationTarget.Broadcast;
+        this.deliveryStatus = broadcast ? NotificationDeliveryStatus.PENDING : NotificationDeliveryStatus.COMPLETED;
+        this.deliveredCount = broadcast ? 0 : 1;
     }
 
     public Notification withId(Long id) {
@@ -26,6 +32,8 @@ public class Notification {
     public String getTitle() { return title; }
     public String getMessage() { return message; }
     public NotificationTarget getTarget() { return target; }
+    public NotificationDeliveryStatus getDeliveryStatus() { return deliveryStatus; }
+    public long getDeliveredCount() { return deliveredCount; }
 
     private void validateTitle(String title) {
         Objects.requireNonNull(title);
@@ -0,0 +1,10 @@
+package gytis.courier.domain.notification;
+
+/**
+ * Progress of fanning a notification out to its recipients. Individual notifications are
+ * delivered in the creating transaction and start as {@code COMPLETED}; broadcasts move
+ * through {@code PENDING} and {@code IN_PROGRESS} on the notification executor.
+ */
+public enum NotificationDeliveryStatus {
+    PENDING, IN_PROGRESS, COMPLETED, FAILED
+}
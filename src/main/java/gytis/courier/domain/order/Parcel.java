@@ -9,6 +9,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 public class Parcel {
@@ -127,9 +128,18 @@ public class Parcel {
 
     public void failedDeliveryAttemptAdd() {
         this.failuresCount++;
-        if (this.failuresCount >= MAX_FAILURE_COUNT) {
-            events.add(new ParcelMaxFailuresReachedEvent(this.id, this.failuresCount));
+        maxFailuresReached(this.id, this.failuresCount).ifPresent(events::add);
+    }
+
+    /**
+     * Same rule as {@link #failedDeliveryAttemptAdd()} for counts incremented in bulk
+     * without loading the parcel.
+     */
+    public static Optional<ParcelMaxFailuresReachedEvent> maxFailuresReached(Long parcelId, int failuresCount) {
+        if (failuresCount >= MAX_FAILURE_COUNT) {
+            return Optional.of(new ParcelMaxFailuresReachedEvent(parcelId, failuresCount));
         }
+        return Optional.empty();
     }
 
     public BigDecimal calculatePrice() {
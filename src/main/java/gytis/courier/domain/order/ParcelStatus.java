@@ -2,7 +2,10 @@ package gytis.courier.domain.order;
 
 import gytis.courier.domain.task.TaskType;
 
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Preserves a lifecycle states of parcel.
@@ -127,4 +130,23 @@ public enum ParcelStatus {
     public boolean itemIsInFinalState() {
         return ITEM_FINAL_STATE.contains(this);
     }
+
+    /**
+     * @return statuses in which a task item no longer waits for courier action
+     */
+    public static Set<ParcelStatus> itemFinalStates() {
+        return ITEM_FINAL_STATE;
+    }
+
+    /**
+     * Resolves task item statuses from which a transition to the given status is valid.
+     *
+     * @param newStatus target task item status
+     * @return allowed source statuses, empty if the target cannot be reached by a courier
+     */
+    public static Set<ParcelStatus> taskItemSourcesFor(ParcelStatus newStatus) {
+        return Arrays.stream(values())
+                .filter(s -> s.isValidTaskItemTransition(newStatus))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ParcelStatus.class)));
+    }
 }
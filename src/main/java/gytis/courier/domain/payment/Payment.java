@@ -3,6 +3,7 @@ package gytis.courier.domain.payment;
 import gytis.courier.application.result.PaymentResult;
 import gytis.courier.domain.event.PaymentConfirmedEvent;
 import gytis.courier.exception.InvalidStateTransitionException;
+import gytis.courier.exception.PaymentInProgressException;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -55,27 +56,78 @@ public class Payment {
     public List<PaymentAttempt> getPaymentAttempts() { return Collections.unmodifiableList(paymentAttempts); }
 
     public PaymentAttempt startAttempt(ProviderType providerType) {
+        return startAttempt(providerType, null);
+    }
+
+    /**
+     * Opens a PENDING attempt under a fresh idempotency key. Only one attempt may be in flight at
+     * a time; a stuck one is failed by the attempt sweeper before the payment can be retried.
+     *
+     * @param clientKey the caller's key for replaying this attempt, or {@code null}
+     * @throws IllegalStateException if the payment is not payable
+     * @throws PaymentInProgressException if another attempt is pending
+     */
+    public PaymentAttempt startAttempt(ProviderType providerType, String clientKey) {
         if (this.status != PaymentStatus.NOT_PAID) {
             throw new IllegalStateException("Payment already processed");
         }
+        if (paymentAttempts.stream().anyMatch(PaymentAttempt::isPending)) {
+            throw new PaymentInProgressException("Payment is already being processed");
+        }
 
-        PaymentAttempt attempt = PaymentAttempt.pending(providerType);
+        PaymentAttempt attempt = PaymentAttempt.pending(providerType, UUID.randomUUID().toString(), clientKey);
         this.addAttempt(attempt);
 
         return attempt;
     }
 
+    public Optional<PaymentAttempt> findAttempt(String idempotencyKey) {
+        return paymentAttempts.stream()
+                .filter(a -> idempotencyKey.equals(a.getIdempotencyKey()))
+                .findFirst();
+    }
+
+    /**
+     * The attempt to replay for a client key: pending, or answered by the provider. Attempts the
+     * provider never answered have released their key.
+     */
+    public Optional<PaymentAttempt> findAttemptByClientKey(String clientKey) {
+        return paymentAttempts.stream()
+                .filter(a -> clientKey.equals(a.getClientKey()))
+                .findFirst();
+    }
+
+    /**
+     * Fails a still pending attempt whose provider was never reached, leaving its key free for a retry.
+     */
+    public void abandonAttempt(PaymentAttempt attempt, String reason) {
+        Objects.requireNonNull(attempt);
+
+        if (attempt.isPending()) {
+            attempt.markAbandoned(reason);
+        }
+    }
+
+    /**
+     * Applies the provider outcome. A failure only settles a still pending attempt, while a success
+     * is always recorded, even on an attempt the sweeper already gave up on, because the money was
+     * taken. The payment is marked paid only while it is still unpaid.
+     */
     public Optional<PaymentConfirmedEvent> completeAttempt(PaymentAttempt attempt, PaymentResult result) {
         Objects.requireNonNull(attempt);
         Objects.requireNonNull(result);
 
         if (result.success()) {
             attempt.markSuccess(result.transactionId());
-            return Optional.of(markAsPaid());
-        } else {
+            return status == PaymentStatus.NOT_PAID
+                    ? Optional.of(markAsPaid())
+                    : Optional.empty();
+        }
+
+        if (attempt.isPending()) {
             attempt.markFailure(result.failureReason());
-            return Optional.empty();
         }
+        return Optional.empty();
     }
 
     public void changeStatus(PaymentStatus newStatus) {
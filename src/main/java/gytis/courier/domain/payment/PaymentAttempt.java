@@ -1,6 +1,7 @@
 package gytis.courier.domain.payment;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 public class PaymentAttempt {
     private Long id;
@@ -8,15 +9,24 @@ public class PaymentAttempt {
     private ProviderType provider;
     private String transactionId;
     private String failureReason;
+    private String idempotencyKey;
+    private String clientKey;
     private LocalDateTime createdAt;
 
     protected PaymentAttempt() {}
 
-    public static PaymentAttempt pending(ProviderType provider) {
+    /**
+     * @param clientKey the caller's idempotency key, {@code null} when the request carried none
+     */
+    public static PaymentAttempt pending(ProviderType provider, String idempotencyKey, String clientKey) {
+        Objects.requireNonNull(idempotencyKey);
+
         PaymentAttempt attempt = new PaymentAttempt();
         attempt.status = PaymentAttemptStatus.PENDING;
         attempt.provider = provider;
         attempt.transactionId = "";
+        attempt.idempotencyKey = idempotencyKey;
+        attempt.clientKey = clientKey;
         return attempt;
     }
 
@@ -26,6 +36,8 @@ public class PaymentAttempt {
             ProviderType provider,
             String transactionId,
             String failureReason,
+            String idempotencyKey,
+            String clientKey,
             LocalDateTime createdAt
     ) {
         PaymentAttempt attempt = new PaymentAttempt();
@@ -34,6 +46,8 @@ public class PaymentAttempt {
         attempt.provider = provider;
         attempt.transactionId = transactionId;
         attempt.failureReason = failureReason;
+        attempt.idempotencyKey = idempotencyKey;
+        attempt.clientKey = clientKey;
         attempt.createdAt = createdAt;
         return attempt;
     }
@@ -48,10 +62,25 @@ public class PaymentAttempt {
         this.failureReason = reason;
     }
 
+    /**
+     * Fails an attempt the provider never answered and releases its client key, so a retry with
+     * the same key starts a new attempt instead of replaying this one.
+     */
+    public void markAbandoned(String reason) {
+        markFailure(reason);
+        this.clientKey = null;
+    }
+
+    public boolean isPending() {
+        return status == PaymentAttemptStatus.PENDING;
+    }
+
     public Long getId() { return id; }
     public PaymentAttemptStatus getStatus() { return status; }
     public ProviderType getProvider() { return provider; }
     public String getTransactionId() { return transactionId; }
     public String getFailureReason() { return failureReason; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public String getClientKey() { return clientKey; }
     public LocalDateTime getCreatedAt() { return createdAt; }
 }
@@ -18,6 +18,7 @@ public class Task {
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
     private final List<DomainEvent> events = new ArrayList<>();
+    private boolean headerChanged;
 
     protected Task() {}
 
@@ -31,6 +32,19 @@ public class Task {
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getCompletedAt() { return completedAt; }
 
+    public boolean isHeaderChanged() { return headerChanged; }
+
+    public List<TaskItem> getChangedItems() {
+        return taskItems.stream()
+                .filter(TaskItem::hasChanges)
+                .toList();
+    }
+
+    public void clearChanges() {
+        headerChanged = false;
+        taskItems.forEach(TaskItem::clearChanges);
+    }
+
     private TaskItem findByItemId(Long id) {
         return taskItems.stream()
                 .filter(i -> i.getId().equals(id))
@@ -88,6 +102,7 @@ public class Task {
 
         Long oldCourier = this.courierId;
         this.courierId = newCourier;
+        this.headerChanged = true;
 
         return Optional.of(new CourierChangeEvent(this.id, oldCourier, newCourier));
     }
@@ -107,6 +122,7 @@ public class Task {
                 .toList();
 
         deliveryStatus = DeliveryStatus.CANCELED;
+        headerChanged = true;
         events.add(new TaskCanceledEvent(this.id, adminId));
 
         return parcelIds;
@@ -140,6 +156,7 @@ public class Task {
 
         this.deliveryStatus = DeliveryStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
+        this.headerChanged = true;
 
         events.add(
                 new TaskCompletedEvent(
@@ -169,6 +186,7 @@ public class Task {
 
         this.deliveryStatus = DeliveryStatus.AT_CHECKPOINT;
         this.completedAt = LocalDateTime.now();
+        this.headerChanged = true;
 
         events.add(new CourierCheckedInEvent(id, courierId));
     }
@@ -185,6 +203,7 @@ public class Task {
         if (this.taskItems.stream().allMatch(i -> i.getParcelStatus().isAlreadyCanceledOrRemoved())) {
             this.canceledByAdminId = adminId;
             this.deliveryStatus = DeliveryStatus.CANCELED;
+            this.headerChanged = true;
 
             events.add(new TaskCanceledEvent(this.id, adminId));
         }
@@ -211,6 +230,7 @@ public class Task {
     private void updateStatusIfAllItemsFinal() {
         if (this.taskItems.stream().allMatch(taskItem -> taskItem.getParcelStatus().itemIsInFinalState())) {
             this.deliveryStatus = DeliveryStatus.RETURNING_TO_STATION;
+            this.headerChanged = true;
 
             events.add(new CourierReturningEvent(id, courierId));
         }
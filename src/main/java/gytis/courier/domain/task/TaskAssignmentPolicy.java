@@ -1,5 +1,9 @@
 package gytis.courier.domain.task;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface TaskAssignmentPolicy {
     void ensureCourierIsAvailable(Long courierId);
+    Set<Long> findUnavailableCouriers(Collection<Long> courierIds);
 }
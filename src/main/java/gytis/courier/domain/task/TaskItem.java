@@ -14,6 +14,10 @@ public class TaskItem {
     private String contents;
     private final Set<String> notes = new HashSet<>();
 
+    private boolean statusChanged;
+    private boolean addressesChanged;
+    private final Set<String> addedNotes = new HashSet<>();
+
     protected TaskItem() {}
 
     public Long getId() { return id; }
@@ -25,6 +29,21 @@ public class TaskItem {
     public String getContents() { return contents; }
     public Set<String> getNotes() { return notes; }
 
+    public boolean isNew() { return id == null; }
+    public boolean isStatusChanged() { return statusChanged; }
+    public boolean isAddressesChanged() { return addressesChanged; }
+    public Set<String> getAddedNotes() { return Collections.unmodifiableSet(addedNotes); }
+
+    public boolean hasChanges() {
+        return isNew() || statusChanged || addressesChanged || !addedNotes.isEmpty();
+    }
+
+    public void clearChanges() {
+        statusChanged = false;
+        addressesChanged = false;
+        addedNotes.clear();
+    }
+
     public static Builder restore() {
         return new Builder();
     }
@@ -57,14 +76,17 @@ public class TaskItem {
         }
 
         this.parcelStatus = ParcelStatus.CANCELED;
+        this.statusChanged = true;
     }
 
     public void setSenderAddressId(Long id) {
-        this.recipientAddressId = id;
+        this.senderAddressId = id;
+        this.addressesChanged = true;
     }
 
     public void setRecipientAddressId(Long id) {
         this.recipientAddressId = id;
+        this.addressesChanged = true;
     }
 
     public void updateStatus(ParcelStatus status) {
@@ -73,18 +95,22 @@ public class TaskItem {
         }
 
         this.parcelStatus = status;
+        this.statusChanged = true;
     }
 
     public void addNote(String note) {
         Objects.requireNonNull(note);
 
         validateIfItemIsNotInFinalState();
-        this.notes.add(note);
+        if (this.notes.add(note)) {
+            this.addedNotes.add(note);
+        }
     }
 
     public void remove() {
         validateIfItemIsNotInFinalState();
         this.parcelStatus = ParcelStatus.REMOVED_FROM_THE_LIST;
+        this.statusChanged = true;
     }
 
     private void validateIfItemIsNotInFinalState() {
@@ -6,6 +6,7 @@ import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -46,6 +47,12 @@ public class GlobalExceptionHandler {
         return errorResponse(ex.getMessage(), HttpStatus.CONFLICT, "error");
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+        return errorResponse("The resource was modified by another request, please retry", HttpStatus.CONFLICT, "error");
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ApiResponse> handleValidationException(ValidationException ex) {
         logger.warn("Validation error: {}", ex.getMessage(), ex);
@@ -165,6 +172,18 @@ public class GlobalExceptionHandler {
         return errorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, "error");
     }
 
+    @ExceptionHandler(PaymentProviderUnavailableException.class)
+    public ResponseEntity<ApiResponse> handlePaymentProviderUnavailable(PaymentProviderUnavailableException ex) {
+        logger.warn("Payment provider {} unavailable: {}", ex.getType(), ex.getMessage());
+        return errorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, "error");
+    }
+
+    @ExceptionHandler(PaymentInProgressException.class)
+    public ResponseEntity<ApiResponse> handlePaymentInProgress(PaymentInProgressException ex) {
+        logger.warn("Payment conflict: {}", ex.getMessage());
+        return errorResponse(ex.getMessage(), HttpStatus.CONFLICT, "error");
+    }
+
     @ExceptionHandler(PaymentHandlerNotFoundException.class)
     public ResponseEntity<ApiResponse> handlePaymentHandlerNotFound(PaymentHandlerNotFoundException ex) {
         return errorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, "error");
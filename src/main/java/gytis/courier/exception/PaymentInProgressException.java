@@ -0,0 +1,7 @@
+package gytis.courier.exception;
+
+public class PaymentInProgressException extends RuntimeException {
+    public PaymentInProgressException(String message) {
+        super(message);
+    }
+}
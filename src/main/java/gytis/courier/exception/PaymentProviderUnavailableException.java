@@ -0,0 +1,27 @@
+package gytis.courier.exception;
+
+import gytis.courier.domain.payment.ProviderType;
+
+/**
+ * The payment provider could not be asked or did not answer. {@code outcomeUnknown} is set when
+ * the request may have reached the provider (a timeout), so the attempt must not be treated as
+ * declined.
+ */
+public class PaymentProviderUnavailableException extends RuntimeException {
+    private final ProviderType type;
+    private final boolean outcomeUnknown;
+
+    public PaymentProviderUnavailableException(String message, ProviderType type, boolean outcomeUnknown) {
+        super(message);
+        this.type = type;
+        this.outcomeUnknown = outcomeUnknown;
+    }
+
+    public ProviderType getType() {
+        return type;
+    }
+
+    public boolean isOutcomeUnknown() {
+        return outcomeUnknown;
+    }
+}
@@ -0,0 +1,106 @@
+package gytis.courier;
+
+import gytis.courier.adapter.out.persistence.activitylog.ActivityLogBuffer;
+import gytis.courier.adapter.out.persistence.activitylog.ActivityLogJdbcWriter;
+import gytis.courier.domain.activitylog.ActivityLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActivityLogBufferTest {
+    private final RecordingWriter writer = new RecordingWriter();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ActivityLogBuffer buffer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (buffer != null) {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    void fullBatchIsFlushedWithoutWaitingForTheInterval() {
+        buffer = new ActivityLogBuffer(writer, registry, 100, 3, 60_000, 50, 5_000);
+        buffer.start();
+
+        for (int i = 0; i < 3; i++) {
+            buffer.offer(log("action " + i));
+        }
+
+        awaitTrue(() -> writer.batches.size() == 1);
+        assertEquals(3, writer.batches.get(0).size());
+    }
+
+    @Test
+    void partialBatchIsFlushedOnTheInterval() {
+        buffer = new ActivityLogBuffer(writer, registry, 100, 50, 50, 50, 5_000);
+        buffer.start();
+
+        buffer.offer(log("order created"));
+
+        awaitTrue(() -> writer.batches.size() == 1);
+        assertEquals("order created", writer.batches.get(0).get(0).getAction());
+    }
+
+    @Test
+    void remainingEntriesAreFlushedOnShutdown() throws InterruptedException {
+        buffer = new ActivityLogBuffer(writer, registry, 100, 50, 60_000, 50, 5_000);
+        buffer.start();
+        buffer.offer(log("order created"));
+        buffer.offer(log("order canceled"));
+
+        buffer.shutdown();
+
+        assertEquals(2, writer.batches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void entryIsDroppedWhenTheBufferStaysFull() throws InterruptedException {
+        buffer = new ActivityLogBuffer(writer, registry, 2, 50, 60_000, 10, 5_000);
+
+        buffer.offer(log("first"));
+        buffer.offer(log("second"));
+        buffer.offer(log("third"));
+
+        assertEquals(1, registry.counter("activitylog.dropped").count());
+        assertEquals(2, registry.get("activitylog.buffer.size").gauge().value());
+
+        buffer.start();
+        buffer.shutdown();
+        assertEquals(List.of("first", "second"),
+                writer.batches.stream().flatMap(List::stream).map(ActivityLog::getAction).toList());
+    }
+
+    private static ActivityLog log(String action) {
+        return new ActivityLog("me@example.com", "USER", action, "description");
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5 seconds");
+            LockSupport.parkNanos(1_000_000L);
+        }
+    }
+
+    private static final class RecordingWriter extends ActivityLogJdbcWriter {
+        private final List<List<ActivityLog>> batches = new CopyOnWriteArrayList<>();
+
+        RecordingWriter() {
+            super(null);
+        }
+
+        @Override
+        public void insertAll(List<ActivityLog> logs) {
+            batches.add(List.copyOf(logs));
+        }
+    }
+}
@@ -1,74 +1,87 @@
 package gytis.courier;
 
 import gytis.courier.adapter.out.strategy.notification.BroadcastNotificationStrategy;
-import gytis.courier.application.port.out.auth.PersonQueryPort;
+import gytis.courier.application.port.out.notification.NotificationCommandPort;
 import gytis.courier.application.port.out.personnotification.PersonNotificationCommandPort;
+import gytis.courier.application.result.BroadcastChunkResult;
 import gytis.courier.domain.notification.Notification;
+import gytis.courier.domain.notification.NotificationDeliveryStatus;
 import gytis.courier.domain.notification.NotificationTarget;
 import gytis.courier.domain.notification.NotificationTargetType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class BroadcastNotificationStrategyTest {
+    private static final int CHUNK_SIZE = 1000;
+
     private Notification notification;
 
     @Mock
-    private PersonQueryPort personQueryPort;
+    private PersonNotificationCommandPort personNotificationCommandPort;
     @Mock
-    private PersonNotificationCommandPort notificationCommandPort;
+    private NotificationCommandPort notificationCommandPort;
 
-    @InjectMocks
     private BroadcastNotificationStrategy broadcastNotificationStrategy;
 
     @BeforeEach
     void setUp() {
         notification = new Notification("title", "message", new NotificationTarget.Broadcast(NotificationTargetType.USER));
         notification.withId(99L);
+        broadcastNotificationStrategy = new BroadcastNotificationStrategy(
+                personNotificationCommandPort, notificationCommandPort, Runnable::run, CHUNK_SIZE);
     }
 
     @Test
-    void successOnDeliveringNoMoreThanNotifications() {
-        List<Long> ids = simulatePersonIds(500);
-
-        when(personQueryPort.getAllActiveUserIds(0, 1000)).thenReturn(ids);
+    void successOnDeliveringChunksUntilRecipientsExhausted() {
+        when(personNotificationCommandPort.deliverBroadcastChunk(99L, NotificationTargetType.USER, 0, CHUNK_SIZE))
+                .thenReturn(new BroadcastChunkResult(1500L, 1000));
+        when(personNotificationCommandPort.deliverBroadcastChunk(99L, NotificationTargetType.USER, 1500L, CHUNK_SIZE))
+                .thenReturn(new BroadcastChunkResult(1700L, 200));
+        when(personNotificationCommandPort.deliverBroadcastChunk(99L, NotificationTargetType.USER, 1700L, CHUNK_SIZE))
+                .thenReturn(new BroadcastChunkResult(null, 0));
 
         broadcastNotificationStrategy.deliver(notification);
 
-        verify(notificationCommandPort, times(1)).deliverToRecipients(notification.getId(), ids);
+        InOrder inOrder = inOrder(notificationCommandPort);
+        inOrder.verify(notificationCommandPort).updateDeliveryProgress(99L, NotificationDeliveryStatus.IN_PROGRESS, 0);
+        inOrder.verify(notificationCommandPort).updateDeliveryProgress(99L, NotificationDeliveryStatus.IN_PROGRESS, 1000);
+        inOrder.verify(notificationCommandPort).updateDeliveryProgress(99L, NotificationDeliveryStatus.IN_PROGRESS, 1200);
+        inOrder.verify(notificationCommandPort).updateDeliveryProgress(99L, NotificationDeliveryStatus.COMPLETED, 1200);
+        verify(personNotificationCommandPort, never()).deliverToRecipients(anyLong(), anyList());
     }
 
     @Test
-    void successOnDeliveringMoreThan1000() {
-        List<Long> first1000 = simulatePersonIds(1000);
-        List<Long> second1000 = simulatePersonIds(1000);
-        List<Long> last = simulatePersonIds(1);
-
-        when(personQueryPort.getAllActiveUserIds(0, 1000)).thenReturn(first1000);
-        when(personQueryPort.getAllActiveUserIds(1, 1000)).thenReturn(second1000);
-        when(personQueryPort.getAllActiveUserIds(2, 1000)).thenReturn(last);
+    void failedChunkMarksNotificationFailedWithProgressSoFar() {
+        when(personNotificationCommandPort.deliverBroadcastChunk(99L, NotificationTargetType.USER, 0, CHUNK_SIZE))
+                .thenReturn(new BroadcastChunkResult(1000L, 1000));
+        when(personNotificationCommandPort.deliverBroadcastChunk(99L, NotificationTargetType.USER, 1000L, CHUNK_SIZE))
+                .thenThrow(new IllegalStateException("connection lost"));
 
         broadcastNotificationStrategy.deliver(notification);
 
-        verify(notificationCommandPort, times(3)).deliverToRecipients(anyLong(), anyList());
+        verify(notificationCommandPort).updateDeliveryProgress(99L, NotificationDeliveryStatus.FAILED, 1000);
+        verify(notificationCommandPort, never()).updateDeliveryProgress(eq(99L), eq(NotificationDeliveryStatus.COMPLETED), anyLong());
     }
 
-    private List<Long> simulatePersonIds(int idsCount) {
-        List<Long> list = new ArrayList<>();
+    @Test
+    void rejectedFanOutMarksNotificationFailed() {
+        broadcastNotificationStrategy = new BroadcastNotificationStrategy(
+                personNotificationCommandPort, notificationCommandPort, task -> {
+                    throw new RejectedExecutionException("saturated");
+                }, CHUNK_SIZE);
 
-        for (int i = 1; i <= idsCount; i++) {
-            list.add((long) i);
-        }
+        broadcastNotificationStrategy.deliver(notification);
 
-        return list;
+        verify(notificationCommandPort).updateDeliveryProgress(99L, NotificationDeliveryStatus.FAILED, 0);
+        verifyNoInteractions(personNotificationCommandPort);
     }
 }
@@ -0,0 +1,61 @@
+package gytis.courier;
+
+import gytis.courier.application.port.out.delivery.DeliveryOptionCommandPort;
+import gytis.courier.application.service.delivery.DeliveryOptionCatalog;
+import gytis.courier.application.service.delivery.DeliveryOptionSnapshot;
+import gytis.courier.domain.delivery.DeliveryGroup;
+import gytis.courier.domain.delivery.DeliveryOption;
+import gytis.courier.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DeliveryOptionCatalogTest {
+    private final DeliveryOption size = new DeliveryOption(1L, "medium_size", "max 1mx1mx1m", BigDecimal.valueOf(1), false);
+    private final DeliveryOption weight = new DeliveryOption(2L, "heavy_weight", "max 30kg", BigDecimal.valueOf(7), true);
+    private final DeliveryOption preference = new DeliveryOption(3L, "standard", "1-3 days delivery", BigDecimal.valueOf(5), false);
+
+    @Mock
+    private DeliveryOptionCommandPort port;
+
+    @InjectMocks
+    private DeliveryOptionCatalog catalog;
+
+    @Test
+    void snapshotIsLoadedOnceAndGroupsOnlyEnabledOptions() {
+        when(port.findAllOptions()).thenReturn(List.of(preference, weight, size));
+
+        DeliveryOptionSnapshot snapshot = catalog.snapshot();
+        catalog.findById(3L);
+        catalog.findByName("STANDARD");
+
+        verify(port, times(1)).findAllOptions();
+        assertEquals(3, snapshot.all().size());
+        assertEquals(1L, snapshot.enabledByGroup().get(DeliveryGroup.SIZE).get(0).id());
+        assertNull(snapshot.enabledByGroup().get(DeliveryGroup.WEIGHT));
+        assertEquals(preference, catalog.findByName("STANDARD").orElseThrow());
+    }
+
+    @Test
+    void refreshSwapsInNewVersion() {
+        when(port.findAllOptions()).thenReturn(List.of(size), List.of(size, preference));
+
+        DeliveryOptionSnapshot first = catalog.snapshot();
+        catalog.refreshAfterCommit();
+        DeliveryOptionSnapshot second = catalog.snapshot();
+
+        assertEquals(first.version() + 1, second.version());
+        assertTrue(first.findById(3L).isEmpty());
+        assertEquals(preference, catalog.findById(3L));
+        assertThrows(ResourceNotFoundException.class, () -> catalog.findById(99L));
+    }
+}
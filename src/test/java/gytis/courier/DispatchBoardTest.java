@@ -0,0 +1,141 @@
+package gytis.courier;
+
+import gytis.courier.adapter.out.persistence.order.dispatch.DispatchBoard;
+import gytis.courier.application.common.PageQuery;
+import gytis.courier.application.common.PageQueryDirection;
+import gytis.courier.application.common.PageResult;
+import gytis.courier.application.readmodel.order.OrderForTaskReadModel;
+import gytis.courier.domain.address.AddressType;
+import gytis.courier.domain.order.ParcelStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DispatchBoardTest {
+    private static final Set<ParcelStatus> PICKUP = Set.of(ParcelStatus.PICKING_UP, ParcelStatus.FAILED_PICKUP);
+
+    private EmbeddedDatabase database;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private DispatchBoard board;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        update("""
+                CREATE TABLE order_addresses (id BIGINT PRIMARY KEY, city VARCHAR(255), flat_number VARCHAR(255),
+                    house_number VARCHAR(255), name VARCHAR(255), phone_number VARCHAR(255),
+                    post_code VARCHAR(255), street VARCHAR(255))
+                """);
+        update("""
+                CREATE TABLE parcels (id BIGINT PRIMARY KEY, assigned BOOLEAN NOT NULL, contents VARCHAR(255),
+                    dimensions_name VARCHAR(255), failures_count INT, status VARCHAR(32), weight_name VARCHAR(255))
+                """);
+        update("""
+                CREATE TABLE orders (id BIGINT PRIMARY KEY, create_date TIMESTAMP NOT NULL,
+                    delivery_method_name VARCHAR(255), parcel_id BIGINT, recipient_address_id BIGINT,
+                    sender_address_id BIGINT)
+                """);
+        for (long id = 1; id <= 4; id++) {
+            insertOrder(id, id <= 3 ? "PICKING_UP" : "PICKED_UP");
+        }
+
+        board = new DispatchBoard(jdbcTemplate);
+        board.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void pagesLaneInOrderWithStatusCounts() {
+        PageResult<OrderForTaskReadModel> page = board.page(
+                new PageQuery(1, 2, "id", PageQueryDirection.ASC), PICKUP, AddressType.senderAddress);
+
+        assertEquals(List.of(3L), page.data().stream().map(OrderForTaskReadModel::orderId).toList());
+        assertEquals(3, page.totalItems());
+        assertEquals(2, page.totalPages());
+        assertEquals("Street 3, Vilnius 01003", page.data().get(0).fullAddress());
+        assertEquals(3, board.count(ParcelStatus.PICKING_UP));
+        assertEquals(1, board.count(ParcelStatus.PICKED_UP));
+    }
+
+    @Test
+    void refreshMovesParcelsOnAndOffTheBoard() {
+        update("UPDATE parcels SET assigned = TRUE WHERE id = 1");
+        update("UPDATE parcels SET status = 'FAILED_DELIVERY' WHERE id = 2");
+        board.refreshAfterCommit(List.of(1L, 2L));
+
+        assertEquals(List.of(3L), board.page(new PageQuery(0, 10, "id", PageQueryDirection.DESC), PICKUP,
+                AddressType.senderAddress).data().stream().map(OrderForTaskReadModel::orderId).toList());
+        assertEquals(1, board.count(ParcelStatus.PICKING_UP));
+        assertEquals(1, board.count(ParcelStatus.FAILED_DELIVERY));
+
+        update("UPDATE parcels SET assigned = FALSE WHERE id = 1");
+        board.refreshAfterCommit(List.of(1L));
+
+        assertEquals(2, board.count(ParcelStatus.PICKING_UP));
+    }
+
+    @Test
+    void keysetPagesSeekPastTheCursor() {
+        PageResult<OrderForTaskReadModel> first = board.page(
+                new PageQuery(0, 2, "id", PageQueryDirection.ASC, ""), PICKUP, AddressType.senderAddress);
+
+        assertEquals(List.of(1L, 2L), first.data().stream().map(OrderForTaskReadModel::orderId).toList());
+        assertEquals(-1, first.totalItems());
+        assertNotNull(first.nextCursor());
+
+        update("UPDATE parcels SET assigned = TRUE WHERE id = 2");
+        board.refreshAfterCommit(List.of(2L));
+
+        PageResult<OrderForTaskReadModel> second = board.page(
+                new PageQuery(0, 2, "id", PageQueryDirection.ASC, first.nextCursor()), PICKUP, AddressType.senderAddress);
+
+        assertEquals(List.of(3L), second.data().stream().map(OrderForTaskReadModel::orderId).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void keysetPagesFollowDescendingOrder() {
+        PageResult<OrderForTaskReadModel> first = board.page(
+                new PageQuery(0, 2, "createDate", PageQueryDirection.DESC, ""), PICKUP, AddressType.senderAddress);
+        PageResult<OrderForTaskReadModel> second = board.page(
+                new PageQuery(0, 2, "createDate", PageQueryDirection.DESC, first.nextCursor()), PICKUP, AddressType.senderAddress);
+
+        assertEquals(List.of(3L, 2L), first.data().stream().map(OrderForTaskReadModel::orderId).toList());
+        assertEquals(List.of(1L), second.data().stream().map(OrderForTaskReadModel::orderId).toList());
+        assertThrows(IllegalArgumentException.class, () -> board.page(
+                new PageQuery(0, 2, "id", PageQueryDirection.DESC, first.nextCursor()), PICKUP, AddressType.senderAddress));
+    }
+
+    private void insertOrder(long id, String status) {
+        update("INSERT INTO order_addresses VALUES (" + (2 * id - 1) + ", 'Vilnius', NULL, '" + id
+                + "', 'Sender', '600', '0100" + id + "', 'Street')");
+        update("INSERT INTO order_addresses VALUES (" + 2 * id + ", 'Kaunas', NULL, '" + id
+                + "', 'Recipient', '700', '0200" + id + "', 'Road')");
+        update("INSERT INTO parcels VALUES (" + id + ", FALSE, 'books', 'small_size', 0, '" + status
+                + "', 'light_weight')");
+        update("INSERT INTO orders VALUES (" + id + ", CURRENT_TIMESTAMP, 'standard', " + id + ", "
+                + 2 * id + ", " + (2 * id - 1) + ")");
+    }
+
+    private void update(String sql) {
+        jdbcTemplate.update(sql, Map.of());
+    }
+}
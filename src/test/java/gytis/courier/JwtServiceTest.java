@@ -1,8 +1,10 @@
 package gytis.courier;
 
+import gytis.courier.adapter.out.jwt.JwtClaimsCache;
 import gytis.courier.adapter.out.jwt.JwtService;
 import gytis.courier.application.port.out.auth.JwtClaims;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +33,24 @@ public class JwtServiceTest {
         assertEquals("me@example.com", claims.subject());
     }
 
+    @Test
+    void cachedClaimsMatchValidatedClaims() {
+        JwtClaimsCache cache = new JwtClaimsCache(jwtService, new SimpleMeterRegistry(), 10);
+
+        JwtClaims first = cache.validate(accessToken);
+        JwtClaims second = cache.validate(accessToken);
+
+        assertSame(first, second);
+        assertEquals(jwtService.validateToken(accessToken), first);
+    }
+
+    @Test
+    void cacheDoesNotAcceptInvalidToken() {
+        JwtClaimsCache cache = new JwtClaimsCache(jwtService, new SimpleMeterRegistry(), 10);
+
+        assertThrows(JwtException.class, () -> cache.validate(refreshToken));
+    }
+
     @Test
     void successValidateRefreshToken() {
         Long userId = jwtService.validateRefreshToken(refreshToken);
@@ -0,0 +1,62 @@
+package gytis.courier;
+
+import gytis.courier.adapter.in.pagination.PageQueryAssembler;
+import gytis.courier.adapter.in.rest.ticket.TicketPagingPolicy;
+import gytis.courier.adapter.out.persistence.common.KeysetCursor;
+import gytis.courier.adapter.out.persistence.common.PageResultMapper;
+import gytis.courier.application.common.PageQuery;
+import gytis.courier.application.common.PageQueryDirection;
+import gytis.courier.application.common.PageResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetPaginationTest {
+
+    @Test
+    void cursorRoundTripsSortValueAndId() {
+        PageQuery first = new PageQuery(0, 2, "createdAt", PageQueryDirection.DESC, "");
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123000);
+
+        String encoded = KeysetCursor.encode(first, createdAt, 42L);
+        KeysetCursor cursor = KeysetCursor.from(new PageQuery(0, 2, "createdAt", PageQueryDirection.DESC, encoded));
+
+        assertEquals(42L, cursor.id());
+        assertEquals(createdAt, cursor.valueAs(LocalDateTime.class));
+        assertNull(KeysetCursor.from(first));
+    }
+
+    @Test
+    void cursorFromAnotherSortOrderIsRejected() {
+        String encoded = KeysetCursor.encode(new PageQuery(0, 2, "createdAt", PageQueryDirection.DESC, ""), LocalDateTime.now(), 1L);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.from(new PageQuery(0, 2, "createdAt", PageQueryDirection.ASC, encoded)));
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.from(new PageQuery(0, 2, "createdAt", PageQueryDirection.ASC, "not a cursor")));
+    }
+
+    @Test
+    void extraRowProducesNextCursorWithoutTotals() {
+        PageQuery query = new PageQuery(0, 2, "id", PageQueryDirection.ASC, "");
+
+        PageResult<Long> page = PageResultMapper.fromKeyset(List.of(1L, 2L, 3L), query, Function.identity(), id -> id, id -> id);
+        PageResult<Long> last = PageResultMapper.fromKeyset(List.of(3L), query, Function.identity(), id -> id, id -> id);
+
+        assertEquals(List.of(1L, 2L), page.data());
+        assertEquals(-1, page.totalItems());
+        assertEquals(2L, KeysetCursor.from(new PageQuery(0, 2, "id", PageQueryDirection.ASC, page.nextCursor())).id());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void onlySeekableFieldsAcceptCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PageQueryAssembler.from(0, 10, "updatedAt", "DESC", "", TicketPagingPolicy.INSTANCE));
+        assertTrue(PageQueryAssembler.from(0, 10, "createdAt", "DESC", "", TicketPagingPolicy.INSTANCE).isKeyset());
+    }
+}
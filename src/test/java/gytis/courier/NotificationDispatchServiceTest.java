@@ -0,0 +1,75 @@
+package gytis.courier;
+
+import gytis.courier.application.command.CreateNotificationCommand;
+import gytis.courier.application.port.in.notification.NotificationCommandUseCase;
+import gytis.courier.application.service.notification.NotificationDispatchService;
+import gytis.courier.domain.notification.NotificationTarget;
+import gytis.courier.domain.notification.NotificationTargetType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationDispatchServiceTest {
+    private final CreateNotificationCommand returning = new CreateNotificationCommand(
+            "Courier 2 returning", "Courier 2 finished task 7",
+            new NotificationTarget.Broadcast(NotificationTargetType.ADMIN));
+    private final CreateNotificationCommand assigned = new CreateNotificationCommand(
+            "Task was assigned", "Task was assigned to you",
+            new NotificationTarget.Individual(2L));
+
+    @Mock
+    private NotificationCommandUseCase commandUseCase;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationDispatchService service() {
+        return new NotificationDispatchService(commandUseCase, transactionManager, Runnable::run, new SimpleMeterRegistry(), 100, 50, 60_000);
+    }
+
+    @Test
+    void duplicateWithinWindowIsCoalesced() {
+        NotificationDispatchService service = service();
+
+        service.dispatch(returning);
+        service.dispatch(returning);
+        service.dispatch(assigned);
+
+        verify(commandUseCase).createAll(List.of(returning));
+        verify(commandUseCase).createAll(List.of(assigned));
+        verifyNoMoreInteractions(commandUseCase);
+    }
+
+    @Test
+    void failedBatchFallsBackToSingleCreates() {
+        doThrow(new IllegalStateException("batch failed")).when(commandUseCase).createAll(anyList());
+
+        service().dispatch(assigned);
+
+        verify(commandUseCase).create(assigned);
+    }
+
+    @Test
+    void fullQueueCreatesInNewTransactionOnCallerThread() {
+        NotificationDispatchService service = new NotificationDispatchService(
+                commandUseCase, transactionManager, task -> { }, new SimpleMeterRegistry(), 1, 50, 60_000);
+
+        service.dispatch(returning);
+        service.dispatch(assigned);
+
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(commandUseCase).create(assigned);
+        verifyNoMoreInteractions(commandUseCase);
+    }
+}
@@ -3,9 +3,9 @@ package gytis.courier;
 import gytis.courier.application.port.in.activityLog.ActivityLogUseCase;
 import gytis.courier.application.port.in.payment.CreatePaymentUseCase;
 import gytis.courier.application.port.out.DomainEventPublisher;
-import gytis.courier.application.port.out.delivery.DeliveryOptionCommandPort;
 import gytis.courier.application.port.out.order.OrderCommandPort;
 import gytis.courier.application.service.address.AddressResolver;
+import gytis.courier.application.service.delivery.DeliveryOptionCatalog;
 import gytis.courier.application.service.order.AddressInput;
 import gytis.courier.application.service.order.OrderCommandService;
 import gytis.courier.domain.address.AddressDetails;
@@ -43,7 +43,7 @@ public class OrderCommandServiceTest {
     @Mock
     private AddressResolver addressResolver;
     @Mock
-    private DeliveryOptionCommandPort deliveryOptionCommandPort;
+    private DeliveryOptionCatalog deliveryOptionCatalog;
     @Mock
     private OrderCommandPort orderCommandPort;
     @Mock
@@ -65,9 +65,9 @@ public class OrderCommandServiceTest {
 
         when(addressResolver.resolve(command.senderId(), command.sender(), command.userId())).thenReturn(orderAddress);
         when(addressResolver.resolve(command.recipientId(), command.recipient(), command.userId())).thenReturn(orderAddress);
-        when(deliveryOptionCommandPort.findById(1L)).thenReturn(size);
-        when(deliveryOptionCommandPort.findById(2L)).thenReturn(weight);
-        when(deliveryOptionCommandPort.findById(3L)).thenReturn(preference);
+        when(deliveryOptionCatalog.findById(1L)).thenReturn(size);
+        when(deliveryOptionCatalog.findById(2L)).thenReturn(weight);
+        when(deliveryOptionCatalog.findById(3L)).thenReturn(preference);
         when(orderCommandPort.insert(any())).thenReturn(orderWithId);
 
         Long orderId = orderCommandService.placeOrder(command);
@@ -83,7 +83,7 @@ public class OrderCommandServiceTest {
         when(addressResolver.resolve(command.senderId(), command.sender(), command.userId())).thenReturn(orderAddress);
         when(addressResolver.resolve(command.recipientId(), command.recipient(), command.userId())).thenReturn(orderAddress);
 
-        when(deliveryOptionCommandPort.findById(3L)).thenThrow(new ResourceNotFoundException("Delivery method was not found!"));
+        when(deliveryOptionCatalog.findById(3L)).thenThrow(new ResourceNotFoundException("Delivery method was not found!"));
 
         assertThrows(ResourceNotFoundException.class, () -> orderCommandService.placeOrder(command));
     }
@@ -0,0 +1,91 @@
+package gytis.courier;
+
+import gytis.courier.application.port.out.outbox.OutboxEntry;
+import gytis.courier.application.port.out.outbox.OutboxPort;
+import gytis.courier.application.service.outbox.OutboxRelayService;
+import gytis.courier.domain.event.OrderCanceledEvent;
+import gytis.courier.domain.event.PaymentConfirmedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayServiceTest {
+    @Mock
+    private OutboxPort port;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelayService relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelayService(port, publisher, new TransactionTemplate(transactionManager), Runnable::run,
+                10, 3, 60, 1000, 72);
+        relay.start();
+    }
+
+    @Test
+    void dispatchesClaimedEventsAndSkipsAlreadyProcessedOnes() {
+        OutboxEntry paid = new OutboxEntry(1L, "key-1", new PaymentConfirmedEvent(5L), 0);
+        OutboxEntry duplicate = new OutboxEntry(2L, "key-2", new OrderCanceledEvent(6L), 0);
+        when(port.claimBatch(eq(10), any(Duration.class))).thenReturn(List.of(paid, duplicate));
+        when(port.markProcessed("key-1")).thenReturn(true);
+        when(port.markProcessed("key-2")).thenReturn(false);
+
+        relay.trigger();
+
+        verify(publisher).publishEvent(paid.event());
+        verify(publisher, never()).publishEvent(duplicate.event());
+        verify(port, never()).markFailed(any(), anyInt(), anyBoolean(), any(), any());
+    }
+
+    @Test
+    void failedHandlerSchedulesRetryUntilAttemptsAreExhausted() {
+        OutboxEntry retried = new OutboxEntry(1L, "key-1", new PaymentConfirmedEvent(5L), 0);
+        OutboxEntry lastAttempt = new OutboxEntry(2L, "key-2", new PaymentConfirmedEvent(6L), 2);
+        when(port.claimBatch(eq(10), any(Duration.class))).thenReturn(List.of(retried, lastAttempt));
+        when(port.markProcessed(anyString())).thenReturn(true);
+        doThrow(new IllegalStateException("handler failed")).when(publisher).publishEvent(any(Object.class));
+
+        relay.trigger();
+
+        verify(port).markFailed(1L, 1, false, Duration.ofSeconds(1), "handler failed");
+        verify(port).markFailed(2L, 3, true, Duration.ofSeconds(4), "handler failed");
+    }
+
+    @Test
+    void drainsOnlyWhileStarted() {
+        OutboxRelayService stopped = new OutboxRelayService(port, publisher, new TransactionTemplate(transactionManager), Runnable::run,
+                10, 3, 60, 1000, 72);
+
+        stopped.trigger();
+        verify(port, never()).claimBatch(anyInt(), any());
+
+        when(port.claimBatch(eq(10), any(Duration.class))).thenReturn(List.of());
+        stopped.start();
+        verify(port).claimBatch(eq(10), any(Duration.class));
+
+        stopped.stop();
+        stopped.trigger();
+        verify(port, times(1)).claimBatch(anyInt(), any());
+    }
+}
@@ -0,0 +1,47 @@
+package gytis.courier;
+
+import gytis.courier.application.port.out.DomainEventPublisher;
+import gytis.courier.application.port.out.parcel.ParcelCommandPort;
+import gytis.courier.application.result.ParcelFailureCount;
+import gytis.courier.application.service.parcel.ParcelCommandService;
+import gytis.courier.domain.event.ParcelMaxFailuresReachedEvent;
+import gytis.courier.domain.order.ParcelStatus;
+import gytis.courier.domain.task.ParcelStatusUpdate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ParcelCommandServiceTest {
+    @Mock
+    private ParcelCommandPort port;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ParcelCommandService service;
+
+    @Test
+    void taskCompletionIsOneBulkCallAndPublishesOnlyParcelsOverLimit() {
+        List<ParcelStatusUpdate> successes = List.of(
+                new ParcelStatusUpdate(1L, ParcelStatus.PICKED_UP),
+                new ParcelStatusUpdate(2L, ParcelStatus.PICKED_UP)
+        );
+        List<Long> failures = List.of(3L, 4L);
+        when(port.completeTaskParcels(Map.of(ParcelStatus.PICKED_UP, List.of(1L, 2L)), failures))
+                .thenReturn(List.of(new ParcelFailureCount(3L, 1), new ParcelFailureCount(4L, 3)));
+
+        service.handleTaskCompleted(successes, failures);
+
+        verify(eventPublisher).publish(new ParcelMaxFailuresReachedEvent(4L, 3));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+}
@@ -12,31 +12,44 @@ import gytis.courier.application.result.PaymentResult;
 import gytis.courier.application.service.payment.PaymentCommandService;
 import gytis.courier.application.service.payment.PaymentMethodFactory;
 import gytis.courier.application.service.payment.PaymentProcessorFactory;
+import gytis.courier.application.service.payment.PaymentReplayCache;
 import gytis.courier.domain.event.PaymentConfirmedEvent;
 import gytis.courier.domain.payment.*;
 import gytis.courier.domain.payment.method.CreditCard;
 import gytis.courier.domain.person.Email;
 import gytis.courier.domain.person.User;
+import gytis.courier.exception.PaymentProviderUnavailableException;
 import gytis.courier.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class PaymentCommandServiceTest {
     private final PaymentCommand paymentCommand = new PaymentCommand(1L, 3L, null,
-            new CreditCardCommand("1234000012340000", "me", "12/29", true), "111");
+            new CreditCardCommand("1234000012340000", "me", "12/29", true), "111", null);
 
     @Mock
     private PaymentCommandPort paymentCommandPort;
@@ -52,10 +65,20 @@ public class PaymentCommandServiceTest {
     private PaymentProcessorGateway paymentProcessorGateway;
     @Mock
     private ActivityLogUseCase logUseCase;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private PaymentReplayCache replayCache;
 
     @InjectMocks
     private PaymentCommandService paymentCommandService;
 
+    @BeforeEach
+    void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus()));
+    }
+
     @Test
     void successPay() {
         User user = new User(1L, "me", new Email("me@example.com"), "encodedPass");
@@ -65,6 +88,7 @@ public class PaymentCommandServiceTest {
 
         when(userCommandPort.findWithPaymentMethodsById(paymentCommand.userId())).thenReturn(Optional.of(user));
         when(paymentCommandPort.findByOrderId(paymentCommand.orderId())).thenReturn(payment);
+        when(paymentCommandPort.findByOrderIdWithAttempts(paymentCommand.orderId())).thenReturn(payment);
         when(paymentMethodFactory.from(paymentCommand.command())).thenReturn(ccMethod);
         when(processorFactory.getProcessor(any())).thenReturn(paymentProcessorGateway);
         when(paymentProcessorGateway.process(any(), any())).thenReturn(result);
@@ -72,10 +96,11 @@ public class PaymentCommandServiceTest {
         PayReadModel payReadModel = paymentCommandService.pay(paymentCommand);
         assertNotNull(payReadModel);
 
-        verify(paymentCommandPort).update(payment);
+        verify(paymentCommandPort, times(2)).update(payment);
         verify(eventPublisher).publish(any(PaymentConfirmedEvent.class));
 
         assertEquals(result.transactionId(), payReadModel.transactionId());
+        assertEquals(PaymentAttemptStatus.SUCCESS, payment.getPaymentAttempts().get(0).getStatus());
     }
 
     @Test
@@ -84,4 +109,131 @@ public class PaymentCommandServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> paymentCommandService.pay(paymentCommand));
     }
+
+    @Test
+    void repeatedClientKeyReplaysRecordedAttempt() {
+        PaymentCommand keyed = new PaymentCommand(1L, 3L, null,
+                new CreditCardCommand("1234000012340000", "me", "12/29", false), "111", "key-1");
+        User user = new User(1L, "me", new Email("me@example.com"), "encodedPass");
+        Payment payment = Payment.restore(2L, 3L, BigDecimal.valueOf(21), PaymentStatus.NOT_PAID, List.of());
+        CreditCard ccMethod = CreditCard.recover(4L, true, "tok_123123", "1234", "12/29", "me");
+
+        when(replayCache.execute(eq(1L), eq(3L), eq("key-1"), any())).thenAnswer(invocation ->
+                invocation.<Supplier<PayReadModel>>getArgument(3).get());
+        when(userCommandPort.findWithPaymentMethodsById(keyed.userId())).thenReturn(Optional.of(user));
+        when(paymentCommandPort.findByOrderId(keyed.orderId())).thenReturn(payment);
+        when(paymentCommandPort.findByOrderIdWithAttempts(keyed.orderId())).thenReturn(payment);
+        when(paymentMethodFactory.from(keyed.command())).thenReturn(ccMethod);
+        when(processorFactory.getProcessor(any())).thenReturn(paymentProcessorGateway);
+        when(paymentProcessorGateway.process(any(), any()))
+                .thenReturn(PaymentResult.success(ProviderType.CREDIT_CARD, "tx_1", false, null));
+
+        PayReadModel first = paymentCommandService.pay(keyed);
+        PayReadModel repeated = paymentCommandService.pay(keyed);
+
+        verify(paymentProcessorGateway).process(any(), any());
+        assertEquals(1, payment.getPaymentAttempts().size());
+        assertNotEquals("key-1", payment.getPaymentAttempts().get(0).getIdempotencyKey());
+        assertNotNull(payment.getPaymentAttempts().get(0).getClientKey());
+        assertNotEquals("key-1", payment.getPaymentAttempts().get(0).getClientKey());
+        assertTrue(repeated.success());
+        assertEquals(first.transactionId(), repeated.transactionId());
+    }
+
+    @Test
+    void completionRetryReloadsUserBeforeSavingMethod() {
+        User stale = new User(1L, "me", new Email("me@example.com"), "encodedPass");
+        User fresh = new User(1L, "me", new Email("me@example.com"), "encodedPass");
+        Payment payment = Payment.restore(2L, 3L, BigDecimal.valueOf(21), PaymentStatus.NOT_PAID, List.of());
+        CreditCard newCard = CreditCard.create("1234000012340000", "me", "12/29", true);
+        PaymentResult result = new PaymentResult(ProviderType.CREDIT_CARD, "tx_id_123", true, null, true, "tok_321");
+
+        when(userCommandPort.findWithPaymentMethodsById(paymentCommand.userId()))
+                .thenReturn(Optional.of(stale), Optional.of(stale), Optional.of(fresh));
+        when(paymentCommandPort.findByOrderId(paymentCommand.orderId())).thenReturn(payment);
+        when(paymentCommandPort.findByOrderIdWithAttempts(paymentCommand.orderId())).thenReturn(payment);
+        when(paymentMethodFactory.from(paymentCommand.command())).thenReturn(newCard);
+        when(processorFactory.getProcessor(any())).thenReturn(paymentProcessorGateway);
+        when(paymentProcessorGateway.process(any(), any())).thenReturn(result);
+        doNothing()
+                .doThrow(new OptimisticLockingFailureException("payment changed"))
+                .doNothing()
+                .when(paymentCommandPort).update(payment);
+
+        paymentCommandService.pay(paymentCommand);
+
+        verify(userCommandPort).saveWithPaymentMethods(stale);
+        verify(userCommandPort).saveWithPaymentMethods(fresh);
+        assertEquals(1, fresh.getPaymentMethods().size());
+    }
+
+    @Test
+    void unreachableProviderFailsTheAttempt() {
+        Payment payment = stubStartedAttempt();
+        when(paymentCommandPort.findByOrderIdWithAttempts(paymentCommand.orderId())).thenReturn(payment);
+        when(paymentProcessorGateway.process(any(), any())).thenThrow(new PaymentProviderUnavailableException(
+                "Payment provider is temporarily unavailable", ProviderType.CREDIT_CARD, false));
+
+        assertThrows(PaymentProviderUnavailableException.class, () -> paymentCommandService.pay(paymentCommand));
+
+        PaymentAttempt attempt = payment.getPaymentAttempts().get(0);
+        assertEquals(PaymentAttemptStatus.FAILED, attempt.getStatus());
+        assertEquals("Payment provider is temporarily unavailable", attempt.getFailureReason());
+        assertEquals(PaymentStatus.NOT_PAID, payment.getStatus());
+    }
+
+    @Test
+    void retryWithSameKeyAfterUnreachableProviderRunsAgain() {
+        PaymentCommand keyed = new PaymentCommand(1L, 3L, null,
+                new CreditCardCommand("1234000012340000", "me", "12/29", false), "111", "key-1");
+        User user = new User(1L, "me", new Email("me@example.com"), "encodedPass");
+        Payment payment = Payment.restore(2L, 3L, BigDecimal.valueOf(21), PaymentStatus.NOT_PAID, List.of());
+        CreditCard ccMethod = CreditCard.recover(4L, true, "tok_123123", "1234", "12/29", "me");
+
+        when(replayCache.execute(eq(1L), eq(3L), eq("key-1"), any())).thenAnswer(invocation ->
+                invocation.<Supplier<PayReadModel>>getArgument(3).get());
+        when(userCommandPort.findWithPaymentMethodsById(keyed.userId())).thenReturn(Optional.of(user));
+        when(paymentCommandPort.findByOrderId(keyed.orderId())).thenReturn(payment);
+        when(paymentCommandPort.findByOrderIdWithAttempts(keyed.orderId())).thenReturn(payment);
+        when(paymentMethodFactory.from(keyed.command())).thenReturn(ccMethod);
+        when(processorFactory.getProcessor(any())).thenReturn(paymentProcessorGateway);
+        when(paymentProcessorGateway.process(any(), any()))
+                .thenThrow(new PaymentProviderUnavailableException("Payment provider is temporarily unavailable", ProviderType.CREDIT_CARD, false))
+                .thenReturn(PaymentResult.success(ProviderType.CREDIT_CARD, "tx_1", false, null));
+
+        assertThrows(PaymentProviderUnavailableException.class, () -> paymentCommandService.pay(keyed));
+        PayReadModel retried = paymentCommandService.pay(keyed);
+
+        verify(paymentProcessorGateway, times(2)).process(any(), any());
+        assertTrue(retried.success());
+        assertEquals(2, payment.getPaymentAttempts().size());
+        PaymentAttempt abandoned = payment.getPaymentAttempts().get(0);
+        assertEquals(PaymentAttemptStatus.FAILED, abandoned.getStatus());
+        assertNull(abandoned.getClientKey());
+        assertEquals(PaymentAttemptStatus.SUCCESS, payment.getPaymentAttempts().get(1).getStatus());
+    }
+
+    @Test
+    void timedOutProviderLeavesTheAttemptPending() {
+        Payment payment = stubStartedAttempt();
+        when(paymentProcessorGateway.process(any(), any())).thenThrow(new PaymentProviderUnavailableException(
+                "Payment provider timed out", ProviderType.CREDIT_CARD, true));
+
+        assertThrows(PaymentProviderUnavailableException.class, () -> paymentCommandService.pay(paymentCommand));
+
+        assertEquals(PaymentAttemptStatus.PENDING, payment.getPaymentAttempts().get(0).getStatus());
+        verify(paymentCommandPort, never()).findByOrderIdWithAttempts(any());
+    }
+
+    private Payment stubStartedAttempt() {
+        User user = new User(1L, "me", new Email("me@example.com"), "encodedPass");
+        Payment payment = Payment.restore(2L, 3L, BigDecimal.valueOf(21), PaymentStatus.NOT_PAID, List.of());
+        CreditCard ccMethod = CreditCard.recover(4L, true, "tok_123123", "1234", "12/29", "me");
+
+        when(userCommandPort.findWithPaymentMethodsById(paymentCommand.userId())).thenReturn(Optional.of(user));
+        when(paymentCommandPort.findByOrderId(paymentCommand.orderId())).thenReturn(payment);
+        when(paymentMethodFactory.from(paymentCommand.command())).thenReturn(ccMethod);
+        when(processorFactory.getProcessor(any())).thenReturn(paymentProcessorGateway);
+        return payment;
+    }
 }
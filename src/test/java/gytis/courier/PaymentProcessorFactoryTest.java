@@ -0,0 +1,89 @@
+package gytis.courier;
+
+import gytis.courier.application.port.out.PaymentProcessorGateway;
+import gytis.courier.application.readmodel.payment.ProviderHealthReadModel;
+import gytis.courier.application.result.PaymentResult;
+import gytis.courier.application.service.payment.PaymentProcessorFactory;
+import gytis.courier.application.service.payment.PaymentProviderGuard;
+import gytis.courier.domain.payment.ProviderType;
+import gytis.courier.domain.payment.method.CreditCard;
+import gytis.courier.domain.payment.method.Paypal;
+import gytis.courier.exception.PaymentProviderUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentProcessorFactoryTest {
+    @Mock
+    private PaymentProcessorGateway cardGateway;
+    @Mock
+    private PaymentProcessorGateway paypalGateway;
+
+    private PaymentProviderGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        when(cardGateway.getSupportedType()).thenReturn(ProviderType.CREDIT_CARD);
+        guard = new PaymentProviderGuard(new SimpleMeterRegistry(), 10, 10, 4, 2, 0.5, 60_000);
+    }
+
+    @Test
+    void dispatchesByProviderTypeAndCountsOutcomes() {
+        when(paypalGateway.getSupportedType()).thenReturn(ProviderType.PAYPAL);
+        CreditCard card = CreditCard.recover(4L, true, "tok_1", "1234", "12/29", "me");
+        when(cardGateway.process(any(), any()))
+                .thenReturn(PaymentResult.success(ProviderType.CREDIT_CARD, "tx_1", false, null))
+                .thenReturn(PaymentResult.failure(ProviderType.CREDIT_CARD, "Declined", false))
+                .thenThrow(new PaymentProviderUnavailableException("Payment provider timed out", ProviderType.CREDIT_CARD, true));
+        PaymentProcessorFactory factory = new PaymentProcessorFactory(List.of(cardGateway, paypalGateway), guard);
+
+        factory.getProcessor(card).process(card, "111");
+        factory.getProcessor(card).process(card, "111");
+        assertThrows(PaymentProviderUnavailableException.class, () -> factory.getProcessor(card).process(card, "111"));
+
+        ProviderHealthReadModel health = factory.getProviderHealth().get(0);
+        assertEquals(ProviderType.CREDIT_CARD, health.provider());
+        assertEquals(3, health.calls());
+        assertEquals(1, health.successes());
+        assertEquals(1, health.declines());
+        assertEquals(1, health.failures());
+        assertEquals("CLOSED", health.circuitState());
+        assertEquals(ProviderType.PAYPAL, factory.getProviderHealth().get(1).provider());
+    }
+
+    @Test
+    void openCircuitRejectsWithoutCallingTheProvider() {
+        CreditCard card = CreditCard.recover(4L, true, "tok_1", "1234", "12/29", "me");
+        when(cardGateway.process(any(), any()))
+                .thenThrow(new PaymentProviderUnavailableException("Payment provider returned an error", ProviderType.CREDIT_CARD, false));
+        PaymentProcessorFactory factory = new PaymentProcessorFactory(List.of(cardGateway), guard);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(PaymentProviderUnavailableException.class, () -> factory.getProcessor(card).process(card, "111"));
+        }
+
+        verify(cardGateway, times(2)).process(any(), any());
+        ProviderHealthReadModel health = factory.getProviderHealth().get(0);
+        assertEquals("OPEN", health.circuitState());
+        assertEquals(1, health.rejected());
+    }
+
+    @Test
+    void rejectsUnknownProviderAndDuplicateRegistrations() {
+        PaymentProcessorFactory factory = new PaymentProcessorFactory(List.of(cardGateway), guard);
+        Paypal paypal = Paypal.create("me@example.com", false);
+
+        assertThrows(IllegalArgumentException.class, () -> factory.getProcessor(paypal));
+        assertThrows(IllegalStateException.class, () -> new PaymentProcessorFactory(List.of(cardGateway, cardGateway), guard));
+    }
+}
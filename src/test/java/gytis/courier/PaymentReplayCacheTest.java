@@ -0,0 +1,79 @@
+package gytis.courier;
+
+import gytis.courier.application.readmodel.payment.PayReadModel;
+import gytis.courier.application.service.payment.PaymentReplayCache;
+import gytis.courier.exception.PaymentInProgressException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PaymentReplayCacheTest {
+    private final PayReadModel paid = new PayReadModel("CREDIT_CARD", "tx_1", true, null, false);
+
+    private PaymentReplayCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PaymentReplayCache(new SimpleMeterRegistry(), 100, 60);
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForTheFirstRequest() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<PayReadModel> first = CompletableFuture.supplyAsync(() ->
+                cache.execute(1L, 3L, "key-1", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return paid;
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<PayReadModel> duplicate = CompletableFuture.supplyAsync(() ->
+                cache.execute(1L, 3L, "key-1", () -> {
+                    calls.incrementAndGet();
+                    return null;
+                }));
+        release.countDown();
+
+        assertSame(paid, first.get(5, TimeUnit.SECONDS));
+        assertSame(paid, duplicate.get(5, TimeUnit.SECONDS));
+        assertSame(paid, cache.execute(1L, 3L, "key-1", () -> null));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void failuresAreNotReplayedAndKeysAreScopedToUserAndOrder() {
+        assertThrows(PaymentInProgressException.class, () -> cache.execute(1L, 3L, "key-1", () -> {
+            throw new PaymentInProgressException("Payment is already being processed");
+        }));
+
+        assertSame(paid, cache.execute(1L, 3L, "key-1", () -> paid));
+        PayReadModel declined = new PayReadModel("CREDIT_CARD", null, false, "Card declined", false);
+        assertSame(declined, cache.execute(2L, 3L, "key-1", () -> declined));
+    }
+
+    @Test
+    void rejectsBlankOrOversizedKeys() {
+        assertThrows(IllegalArgumentException.class, () -> cache.execute(1L, 3L, " ", () -> paid));
+        assertThrows(IllegalArgumentException.class, () -> cache.execute(1L, 3L, "k".repeat(65), () -> paid));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
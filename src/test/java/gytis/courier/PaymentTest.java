@@ -4,6 +4,7 @@ import gytis.courier.application.result.PaymentResult;
 import gytis.courier.domain.event.PaymentConfirmedEvent;
 import gytis.courier.domain.payment.*;
 import gytis.courier.exception.InvalidStateTransitionException;
+import gytis.courier.exception.PaymentInProgressException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +57,33 @@ public class PaymentTest {
         assertTrue(event.isPresent());
     }
 
+    @Test
+    void pendingAttemptBlocksRetryButLateSuccessStillSettles() {
+        PaymentAttempt attempt = payment.startAttempt(ProviderType.CREDIT_CARD, "key-1");
+
+        assertThrows(PaymentInProgressException.class, () -> payment.startAttempt(ProviderType.CREDIT_CARD, "key-2"));
+
+        attempt.markFailure("No response from payment provider");
+        PaymentResult late = new PaymentResult(ProviderType.CREDIT_CARD, "tx_late", true, null, false, null);
+
+        assertTrue(payment.completeAttempt(payment.findAttempt(attempt.getIdempotencyKey()).orElseThrow(), late).isPresent());
+        assertEquals(PaymentAttemptStatus.SUCCESS, attempt.getStatus());
+        assertEquals(PaymentStatus.PAID, payment.getStatus());
+    }
+
+    @Test
+    void abandonedAttemptReleasesItsClientKey() {
+        PaymentAttempt attempt = payment.startAttempt(ProviderType.CREDIT_CARD, "client-1");
+        assertEquals(Optional.of(attempt), payment.findAttemptByClientKey("client-1"));
+
+        payment.abandonAttempt(attempt, "Payment provider is temporarily unavailable");
+
+        assertEquals(PaymentAttemptStatus.FAILED, attempt.getStatus());
+        assertTrue(payment.findAttemptByClientKey("client-1").isEmpty());
+        PaymentAttempt retry = payment.startAttempt(ProviderType.CREDIT_CARD, "client-1");
+        assertEquals(Optional.of(retry), payment.findAttemptByClientKey("client-1"));
+    }
+
     @Test
     void throwOnStatusChangeStatusInFinalState() {
         payment.changeStatus(PaymentStatus.CANCELED);
@@ -0,0 +1,113 @@
+package gytis.courier;
+
+import gytis.courier.adapter.out.persistence.notification.personnotification.PersonNotificationBroadcastWriter;
+import gytis.courier.application.result.BroadcastChunkResult;
+import gytis.courier.domain.notification.NotificationTargetType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersonNotificationBroadcastWriterTest {
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private PersonNotificationBroadcastWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(UUID.randomUUID() + ";MODE=MySQL")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE persons (id BIGINT PRIMARY KEY, blocked BOOLEAN NOT NULL, deleted BOOLEAN NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("""
+                CREATE TABLE person_notifications (person_id BIGINT NOT NULL, notification_id BIGINT NOT NULL,
+                    is_read BOOLEAN NOT NULL, read_at TIMESTAMP, received_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (person_id, notification_id))
+                """);
+        jdbcTemplate.execute("CREATE TABLE person_notification_counters (person_id BIGINT PRIMARY KEY, unread_count BIGINT NOT NULL)");
+        for (long id = 1; id <= 4; id++) {
+            jdbcTemplate.update("INSERT INTO persons (id, blocked, deleted) VALUES (?, ?, FALSE)", id, id == 3);
+            jdbcTemplate.update("INSERT INTO users (id) VALUES (?)", id);
+        }
+
+        writer = new PersonNotificationBroadcastWriter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void deliversChunkAndBumpsCountersOfNewRecipients() {
+        jdbcTemplate.update("INSERT INTO person_notification_counters (person_id, unread_count) VALUES (1, 4)");
+
+        BroadcastChunkResult first = writer.deliverChunk(10L, NotificationTargetType.USER, 0, 2);
+        BroadcastChunkResult second = writer.deliverChunk(10L, NotificationTargetType.USER, first.lastPersonId(), 2);
+        BroadcastChunkResult last = writer.deliverChunk(10L, NotificationTargetType.USER, second.lastPersonId(), 2);
+
+        assertEquals(2L, first.lastPersonId());
+        assertEquals(2, first.delivered());
+        assertEquals(4L, second.lastPersonId());
+        assertEquals(1, second.delivered());
+        assertTrue(last.exhausted());
+        assertEquals(5L, counter(1));
+        assertEquals(1L, counter(2));
+        assertNull(counter(3));
+        assertEquals(1L, counter(4));
+    }
+
+    @Test
+    void rerunLeavesCountersOfExistingRecipientsAlone() {
+        writer.deliverChunk(10L, NotificationTargetType.USER, 0, 10);
+        jdbcTemplate.update("DELETE FROM person_notifications WHERE person_id = 2");
+
+        BroadcastChunkResult rerun = writer.deliverChunk(10L, NotificationTargetType.USER, 0, 10);
+
+        assertEquals(1, rerun.delivered());
+        assertEquals(1L, counter(1));
+        assertEquals(2L, counter(2));
+        assertEquals(1L, counter(4));
+    }
+
+    @Test
+    void seedsMissingCounterFromUnreadRows() {
+        jdbcTemplate.update("INSERT INTO person_notifications (person_id, notification_id, is_read, received_at) VALUES (1, 7, FALSE, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO person_notifications (person_id, notification_id, is_read, received_at) VALUES (1, 8, TRUE, CURRENT_TIMESTAMP)");
+
+        writer.deliverChunk(10L, NotificationTargetType.USER, 0, 10);
+
+        assertEquals(2L, counter(1));
+        assertEquals(1L, counter(2));
+    }
+
+    @Test
+    void countsIndividualDeliveryFromUnreadRowsWhenCounterIsMissing() {
+        jdbcTemplate.update("INSERT INTO person_notifications (person_id, notification_id, is_read, received_at) VALUES (1, 7, FALSE, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO person_notifications (person_id, notification_id, is_read, received_at) VALUES (1, 8, FALSE, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO person_notification_counters (person_id, unread_count) VALUES (2, 3)");
+        jdbcTemplate.update("INSERT INTO person_notifications (person_id, notification_id, is_read, received_at) VALUES (1, 10, FALSE, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO person_notifications (person_id, notification_id, is_read, received_at) VALUES (2, 10, FALSE, CURRENT_TIMESTAMP)");
+
+        writer.countDelivered(List.of(1L, 2L));
+
+        assertEquals(3L, counter(1));
+        assertEquals(4L, counter(2));
+    }
+
+    private Long counter(long personId) {
+        return jdbcTemplate.query("SELECT unread_count FROM person_notification_counters WHERE person_id = ?",
+                rs -> rs.next() ? rs.getLong(1) : null, personId);
+    }
+}
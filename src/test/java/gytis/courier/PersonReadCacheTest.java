@@ -0,0 +1,83 @@
+package gytis.courier;
+
+import gytis.courier.adapter.out.persistence.person.admin.AdminJpaRepository;
+import gytis.courier.adapter.out.persistence.person.common.PersonJpaRepository;
+import gytis.courier.adapter.out.persistence.person.courier.CourierJpaRepository;
+import gytis.courier.adapter.out.persistence.person.projection.CourierInfoProjection;
+import gytis.courier.adapter.out.persistence.person.query.PersonQueryAdapter;
+import gytis.courier.adapter.out.persistence.person.query.PersonReadCache;
+import gytis.courier.adapter.out.persistence.person.search.PersonSearchIndex;
+import gytis.courier.adapter.out.persistence.person.user.PersonInfoReadModelMapper;
+import gytis.courier.adapter.out.persistence.person.user.UserJpaRepository;
+import gytis.courier.application.readmodel.person.MyCourierInfoReadModel;
+import gytis.courier.application.readmodel.person.MyInfoReadModel;
+import gytis.courier.domain.person.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonReadCacheTest {
+    @Mock
+    private AdminJpaRepository adminRepo;
+    @Mock
+    private CourierJpaRepository courierRepo;
+    @Mock
+    private UserJpaRepository userRepo;
+    @Mock
+    private PersonJpaRepository personRepo;
+    @Mock
+    private PersonInfoReadModelMapper mapper;
+    @Mock
+    private PersonSearchIndex searchIndex;
+
+    private PersonReadCache cache;
+    private PersonQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PersonReadCache(new SimpleMeterRegistry(), 100, 60, 100, 3600);
+        adapter = new PersonQueryAdapter(adminRepo, courierRepo, userRepo, personRepo, mapper, cache, searchIndex);
+    }
+
+    @Test
+    void myInfoIsLoadedOnceUntilEvicted() {
+        CourierInfoProjection projection = mock(CourierInfoProjection.class);
+        MyCourierInfoReadModel readModel = new MyCourierInfoReadModel("Courier X", "courier@example.com", false);
+        when(courierRepo.getCourierInfo(2L)).thenReturn(Optional.of(projection));
+        when(mapper.toReadModel(projection)).thenReturn(readModel);
+
+        adapter.getMyInfo(2L, "COURIER");
+        Optional<MyInfoReadModel> cached = adapter.getMyInfo(2L, "COURIER");
+
+        assertEquals(Optional.of(readModel), cached);
+        verify(courierRepo, times(1)).getCourierInfo(2L);
+
+        cache.evictInfoAfterCommit(2L);
+        adapter.getMyInfo(2L, "COURIER");
+
+        verify(courierRepo, times(2)).getCourierInfo(2L);
+    }
+
+    @Test
+    void roleIsResolvedOnceAndMissingPersonIsNotCached() {
+        when(personRepo.findRoleById(1L)).thenReturn(Optional.of("ADMIN"));
+        when(personRepo.findRoleById(9L)).thenReturn(Optional.empty());
+
+        adapter.findPersonRole(1L);
+        assertEquals(Optional.of(Role.ADMIN), adapter.findPersonRole(1L));
+        verify(personRepo, times(1)).findRoleById(1L);
+
+        adapter.findPersonRole(9L);
+        assertTrue(adapter.findPersonRole(9L).isEmpty());
+        verify(personRepo, times(2)).findRoleById(9L);
+    }
+}
@@ -0,0 +1,75 @@
+package gytis.courier;
+
+import gytis.courier.adapter.out.persistence.person.search.PersonSearchDocument;
+import gytis.courier.adapter.out.persistence.person.search.PersonSearchIndex;
+import gytis.courier.application.common.PageQueryDirection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class PersonSearchIndexTest {
+    private PersonSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PersonSearchIndex(mock(JdbcTemplate.class));
+        index.indexAfterCommit(new PersonSearchDocument(1L, "USER", "Anna Smith", "anna@example.com", "61234567"));
+        index.indexAfterCommit(new PersonSearchDocument(2L, "COURIER", "Hanna Jones", "hjones@example.com", "67654321"));
+        index.indexAfterCommit(new PersonSearchDocument(3L, "USER", "Joanna Ann", "joanna@example.com", null));
+    }
+
+    @Test
+    void ranksFieldPrefixBeforeWordPrefixBeforeSubstring() {
+        assertEquals(List.of(1L, 3L, 2L), index.search("ann", null));
+    }
+
+    @Test
+    void filtersByRoleAndMatchesPhoneDigits() {
+        assertEquals(List.of(2L), index.search("anna", "courier"));
+        assertEquals(List.of(1L), index.search("612 345", null));
+    }
+
+    @Test
+    void editsAndDeletionsAreReflected() {
+        index.indexAfterCommit(new PersonSearchDocument(1L, "USER", "Maria Smith", "maria@example.com", "61234567"));
+        index.removeAfterCommit(3L);
+
+        assertEquals(List.of(2L), index.search("anna", null));
+        assertEquals(List.of(1L), index.search("maria", null));
+    }
+
+    @Test
+    void sortsByTheRequestedFieldAndRejectsOthers() {
+        assertEquals(List.of(1L, 2L, 3L), index.search("ann", null, "id", PageQueryDirection.ASC));
+        assertEquals(List.of(3L, 2L, 1L), index.search("ann", null, "email", PageQueryDirection.DESC));
+        assertEquals(List.of(2L, 3L, 1L), index.search("ann", null, PersonSearchIndex.RELEVANCE, PageQueryDirection.DESC));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.search("ann", null, "createDate", PageQueryDirection.ASC));
+    }
+
+    @Test
+    void renamesAndDeletionsPruneTheirPostings() {
+        long initial = index.postingCount();
+        PersonSearchIndex empty = new PersonSearchIndex(mock(JdbcTemplate.class));
+        empty.indexAfterCommit(new PersonSearchDocument(4L, "USER", "Maria Smith", "maria@example.com", "61234567"));
+        long renamed = empty.postingCount();
+
+        index.indexAfterCommit(new PersonSearchDocument(1L, "USER", "Maria Smith", "maria@example.com", "61234567"));
+        index.indexAfterCommit(new PersonSearchDocument(1L, "USER", "Anna Smith", "anna@example.com", "61234567"));
+        assertEquals(initial, index.postingCount());
+
+        index.removeAfterCommit(1L);
+        index.removeAfterCommit(2L);
+        index.removeAfterCommit(3L);
+        assertEquals(0, index.postingCount());
+
+        index.indexAfterCommit(new PersonSearchDocument(4L, "USER", "Maria Smith", "maria@example.com", "61234567"));
+        assertEquals(renamed, index.postingCount());
+        assertEquals(List.of(4L), index.search("smith", null));
+    }
+}
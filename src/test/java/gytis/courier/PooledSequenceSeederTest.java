@@ -0,0 +1,63 @@
+package gytis.courier;
+
+import gytis.courier.adapter.out.persistence.common.PooledSequenceSeeder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledSequenceSeederTest {
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        for (String table : new String[]{"orders", "order_addresses", "parcels", "payments"}) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT PRIMARY KEY)");
+        }
+        jdbcTemplate.execute("CREATE TABLE orders_seq (next_val BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE order_addresses_seq (next_val BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE parcels_seq (next_val BIGINT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void movesSequencesPastExistingRows() {
+        jdbcTemplate.update("INSERT INTO orders (id) VALUES (1), (120)");
+        jdbcTemplate.update("INSERT INTO orders_seq (next_val) VALUES (1)");
+        jdbcTemplate.update("INSERT INTO order_addresses (id) VALUES (7)");
+        jdbcTemplate.update("INSERT INTO order_addresses_seq (next_val) VALUES (500)");
+        jdbcTemplate.update("INSERT INTO parcels (id) VALUES (3)");
+
+        new PooledSequenceSeeder(jdbcTemplate).seed();
+
+        assertEquals(170L, nextVal("orders_seq"));
+        assertEquals(500L, nextVal("order_addresses_seq"));
+        assertEquals(53L, nextVal("parcels_seq"));
+    }
+
+    @Test
+    void rejectsSequenceTableWithSeveralRows() {
+        jdbcTemplate.update("INSERT INTO orders_seq (next_val) VALUES (1), (2)");
+
+        assertThrows(IllegalStateException.class, () -> new PooledSequenceSeeder(jdbcTemplate).seed());
+    }
+
+    private long nextVal(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM " + sequence, Long.class);
+    }
+}
@@ -0,0 +1,88 @@
+package gytis.courier;
+
+import gytis.courier.application.service.payment.ProviderCircuitBreaker;
+import gytis.courier.application.service.payment.ProviderCircuitBreaker.Permit;
+import gytis.courier.application.service.payment.ProviderCircuitBreaker.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProviderCircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+    private ProviderCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new ProviderCircuitBreaker(4, 4, 0.5, 1_000, now::get);
+    }
+
+    @Test
+    void opensOnceTheWindowFailureRateIsReached() {
+        breaker.onFailure(Permit.CALL);
+        breaker.onSuccess(Permit.CALL);
+        breaker.onSuccess(Permit.CALL);
+        assertEquals(State.CLOSED, breaker.state());
+
+        breaker.onFailure(Permit.CALL);
+
+        assertEquals(State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire().granted());
+    }
+
+    @Test
+    void halfOpenLetsOneTrialThroughAndClosesOnSuccess() {
+        openCircuit();
+        now.addAndGet(1_000);
+
+        Permit trial = breaker.tryAcquire();
+        assertEquals(Permit.TRIAL, trial);
+        assertEquals(State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire().granted());
+
+        breaker.onSuccess(trial);
+
+        assertEquals(State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire().granted());
+    }
+
+    @Test
+    void failedTrialOpensTheCircuitAgain() {
+        openCircuit();
+        now.addAndGet(1_000);
+        Permit trial = breaker.tryAcquire();
+
+        breaker.onFailure(trial);
+
+        assertEquals(State.OPEN, breaker.state());
+        now.addAndGet(999);
+        assertFalse(breaker.tryAcquire().granted());
+    }
+
+    @Test
+    void stragglersFromTheClosedPeriodDoNotDecideTheTrial() {
+        Permit straggler = breaker.tryAcquire();
+        openCircuit();
+        now.addAndGet(1_000);
+        Permit trial = breaker.tryAcquire();
+
+        breaker.onSuccess(straggler);
+        breaker.onIgnored(straggler);
+
+        assertEquals(State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire().granted());
+
+        breaker.onFailure(trial);
+
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(Permit.CALL);
+        }
+        assertEquals(State.OPEN, breaker.state());
+    }
+}
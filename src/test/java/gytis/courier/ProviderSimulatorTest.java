@@ -0,0 +1,69 @@
+package gytis.courier;
+
+import gytis.courier.adapter.out.gateway.ProviderSimulator;
+import gytis.courier.domain.payment.ProviderType;
+import gytis.courier.exception.PaymentProviderUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProviderSimulatorTest {
+    private static final Set<ProviderType> CARD = Set.of(ProviderType.CREDIT_CARD);
+
+    @Test
+    void waitsTheSimulatedLatencyBeforeAnswering() {
+        ProviderSimulator simulator = new ProviderSimulator(true, CARD, 30, 30, 2_000, 0.0, 0);
+
+        long started = System.nanoTime();
+        String answer = simulator.call(ProviderType.CREDIT_CARD, () -> "ok");
+
+        assertEquals("ok", answer);
+        assertTrue(System.nanoTime() - started >= 30_000_000L);
+    }
+
+    @Test
+    void slowerThanTimeoutFailsWithUnknownOutcome() {
+        ProviderSimulator simulator = new ProviderSimulator(true, CARD, 500, 500, 20, 0.0, 0);
+
+        long started = System.nanoTime();
+        PaymentProviderUnavailableException e = assertThrows(PaymentProviderUnavailableException.class,
+                () -> simulator.call(ProviderType.CREDIT_CARD, () -> "ok"));
+
+        assertTrue(e.isOutcomeUnknown());
+        assertTrue(System.nanoTime() - started < 500_000_000L);
+    }
+
+    @Test
+    void errorRateFailsWithKnownOutcome() {
+        ProviderSimulator simulator = new ProviderSimulator(true, CARD, 1, 1, 2_000, 1.0, 0);
+
+        PaymentProviderUnavailableException e = assertThrows(PaymentProviderUnavailableException.class,
+                () -> simulator.call(ProviderType.CREDIT_CARD, () -> "ok"));
+
+        assertFalse(e.isOutcomeUnknown());
+        assertEquals(ProviderType.CREDIT_CARD, e.getType());
+    }
+
+    @Test
+    void rejectsCallsAboveTheRateLimit() {
+        ProviderSimulator simulator = new ProviderSimulator(true, CARD, 1, 1, 2_000, 0.0, 2);
+
+        simulator.call(ProviderType.CREDIT_CARD, () -> "ok");
+        simulator.call(ProviderType.CREDIT_CARD, () -> "ok");
+        PaymentProviderUnavailableException e = assertThrows(PaymentProviderUnavailableException.class,
+                () -> simulator.call(ProviderType.CREDIT_CARD, () -> "ok"));
+
+        assertFalse(e.isOutcomeUnknown());
+    }
+
+    @Test
+    void answersImmediatelyWhenDisabledOrProviderNotSimulated() {
+        ProviderSimulator disabled = new ProviderSimulator(false, CARD, 1, 1, 1, 1.0, 0);
+        ProviderSimulator cardOnly = new ProviderSimulator(true, CARD, 1, 1, 1, 1.0, 0);
+
+        assertEquals("ok", disabled.call(ProviderType.CREDIT_CARD, () -> "ok"));
+        assertEquals("ok", cardOnly.call(ProviderType.PAYPAL, () -> "ok"));
+    }
+}
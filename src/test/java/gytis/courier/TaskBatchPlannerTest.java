@@ -0,0 +1,101 @@
+package gytis.courier;
+
+import gytis.courier.application.port.in.person.CourierQueryUseCase;
+import gytis.courier.application.port.out.order.OrderQueryPort;
+import gytis.courier.application.readmodel.person.CourierReadModel;
+import gytis.courier.application.result.AssignableParcel;
+import gytis.courier.application.result.TaskBatchProposal;
+import gytis.courier.application.service.task.TaskBatchPlanner;
+import gytis.courier.domain.address.AddressType;
+import gytis.courier.domain.order.ParcelStatus;
+import gytis.courier.domain.task.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskBatchPlannerTest {
+    private static final Set<ParcelStatus> PICKUP = Set.of(ParcelStatus.PICKING_UP);
+
+    @Mock
+    private OrderQueryPort orderQueryPort;
+    @Mock
+    private CourierQueryUseCase courierQueryUseCase;
+
+    private TaskBatchPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new TaskBatchPlanner(orderQueryPort, courierQueryUseCase, 25);
+    }
+
+    @Test
+    void groupsParcelsByAreaIntoBalancedBatches() {
+        when(courierQueryUseCase.getAvailableCouriers()).thenReturn(List.of(
+                new CourierReadModel(7L, "Second", "b@example.com", "600", false),
+                new CourierReadModel(5L, "First", "a@example.com", "600", false),
+                new CourierReadModel(9L, "Blocked", "c@example.com", "600", true)
+        ));
+        when(orderQueryPort.findAssignableParcels(PICKUP, AddressType.senderAddress)).thenReturn(List.of(
+                new AssignableParcel(11L, 1L, "Vilnius", "01001"),
+                new AssignableParcel(12L, 2L, "Kaunas", "44001"),
+                new AssignableParcel(13L, 3L, "Vilnius", "01002"),
+                new AssignableParcel(14L, 4L, "Kaunas", "44001"),
+                new AssignableParcel(15L, 5L, "Vilnius", "01001")
+        ));
+
+        TaskBatchProposal proposal = planner.propose(TaskType.PICKUP, null);
+
+        assertEquals(2, proposal.tasks().size());
+        assertEquals(5L, proposal.tasks().get(0).courierId());
+        assertEquals(List.of(12L, 14L, 11L), proposal.tasks().get(0).parcelIds());
+        assertEquals(List.of("Kaunas 44001", "Vilnius 01001"), proposal.tasks().get(0).areas());
+        assertEquals(7L, proposal.tasks().get(1).courierId());
+        assertEquals(List.of(15L, 13L), proposal.tasks().get(1).parcelIds());
+        assertEquals(0, proposal.leftOverParcels());
+    }
+
+    @Test
+    void plansOldestOrdersFirstWhenCapacityRunsOut() {
+        when(courierQueryUseCase.getAvailableCouriers()).thenReturn(List.of(
+                new CourierReadModel(5L, "First", "a@example.com", "600", false)
+        ));
+        when(orderQueryPort.findAssignableParcels(PICKUP, AddressType.senderAddress)).thenReturn(List.of(
+                new AssignableParcel(13L, 3L, "Alytus", "62001"),
+                new AssignableParcel(11L, 1L, "Vilnius", "01001"),
+                new AssignableParcel(12L, 2L, "Kaunas", "44001")
+        ));
+
+        TaskBatchProposal proposal = planner.propose(TaskType.PICKUP, 2);
+
+        assertEquals(List.of(12L, 11L), proposal.tasks().get(0).parcelIds());
+        assertEquals(1, proposal.leftOverParcels());
+    }
+
+    @Test
+    void plansDeliveriesOnlyForPickedUpParcels() {
+        when(courierQueryUseCase.getAvailableCouriers()).thenReturn(List.of(
+                new CourierReadModel(5L, "First", "a@example.com", "600", false)
+        ));
+        when(orderQueryPort.findAssignableParcels(Set.of(ParcelStatus.PICKED_UP), AddressType.recipientAddress))
+                .thenReturn(List.of(new AssignableParcel(11L, 1L, "Vilnius", "01001")));
+
+        TaskBatchProposal proposal = planner.propose(TaskType.DELIVERY, null);
+
+        assertEquals(List.of(11L), proposal.tasks().get(0).parcelIds());
+    }
+
+    @Test
+    void rejectsNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> planner.propose(TaskType.DELIVERY, 0));
+        verifyNoInteractions(orderQueryPort, courierQueryUseCase);
+    }
+}
@@ -6,11 +6,13 @@ import gytis.courier.application.port.in.task.ParcelAssignmentFacade;
 import gytis.courier.application.port.out.DomainEventPublisher;
 import gytis.courier.application.port.out.order.OrderQueryPort;
 import gytis.courier.application.port.out.task.TaskCommandPort;
+import gytis.courier.application.result.TaskBatchResult;
 import gytis.courier.application.service.activitylog.ActivityLogService;
 import gytis.courier.application.service.person.CourierCommandService;
 import gytis.courier.application.service.task.TaskCommandService;
 import gytis.courier.application.service.task.UpdateItemStatusCommand;
 import gytis.courier.domain.event.CourierChangeEvent;
+import gytis.courier.domain.event.CourierReturningEvent;
 import gytis.courier.domain.order.ParcelStatus;
 import gytis.courier.domain.task.*;
 
@@ -23,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -80,6 +83,41 @@ public class TaskCommandServiceTest {
         verifyNoInteractions(taskCommandPort);
     }
 
+    @Test
+    void createTasksFailsOnlyCommandWithUnavailableCourier() {
+        Long busyCourierId = 7L;
+        CreateTaskCommand valid = new CreateTaskCommand(adminId, courierId, TaskType.PICKUP, parcelsIds);
+        CreateTaskCommand busy = new CreateTaskCommand(adminId, busyCourierId, TaskType.PICKUP, List.of(11L));
+        Task taskWithId = Task.restore().id(taskId).courierId(courierId).taskType(TaskType.PICKUP).build();
+
+        when(taskAssignmentPolicy.findUnavailableCouriers(Set.of(courierId, busyCourierId))).thenReturn(Set.of(busyCourierId));
+        when(orderQueryPort.findOrdersByParcelIds(List.of(parcelId, 11L))).thenReturn(snapshots);
+        when(taskCommandPort.createAll(anyList())).thenReturn(List.of(taskWithId));
+
+        TaskBatchResult result = service.createTasks(List.of(valid, busy));
+
+        assertEquals(List.of(taskId), result.createdTaskIds());
+        assertEquals(1, result.failures().size());
+        assertEquals(1, result.failures().get(0).index());
+        verify(parcelAssignmentFacade).assignParcels(parcelsIds);
+        verify(parcelAssignmentFacade, never()).markParcelsDelivering(anyList());
+    }
+
+    @Test
+    void createTasksRejectsParcelClaimedTwiceInBatch() {
+        CreateTaskCommand first = new CreateTaskCommand(adminId, courierId, TaskType.PICKUP, parcelsIds);
+        CreateTaskCommand second = new CreateTaskCommand(adminId, 7L, TaskType.PICKUP, parcelsIds);
+
+        when(taskAssignmentPolicy.findUnavailableCouriers(Set.of(courierId, 7L))).thenReturn(Set.of());
+        when(orderQueryPort.findOrdersByParcelIds(parcelsIds)).thenReturn(snapshots);
+        when(taskCommandPort.createAll(anyList())).thenReturn(List.of(Task.restore().id(taskId).build()));
+
+        TaskBatchResult result = service.createTasks(List.of(first, second));
+
+        assertEquals(1, result.createdTaskIds().size());
+        assertEquals(1, result.failures().get(0).index());
+    }
+
     @Test
     void successOnAddItems() {
         when(taskCommandPort.getWithItemsById(taskId)).thenReturn(Optional.of(task));
@@ -146,6 +184,36 @@ public class TaskCommandServiceTest {
         verify(taskCommandPort).updateWithItems(task1);
     }
 
+    @Test
+    void updateItemStatusUsesSingleRowPathAndMovesTaskWhenLastItemFinal() {
+        UpdateItemStatusCommand command = new UpdateItemStatusCommand(courierId, taskId, 55L, ParcelStatus.PICKED_UP);
+
+        when(taskCommandPort.lockTask(taskId, courierId, DeliveryStatus.IN_PROGRESS)).thenReturn(true);
+        when(taskCommandPort.updateItemStatus(taskId, 55L, Set.of(ParcelStatus.PICKING_UP), ParcelStatus.PICKED_UP)).thenReturn(true);
+        when(taskCommandPort.countItemsNotIn(taskId, ParcelStatus.itemFinalStates())).thenReturn(0L);
+        when(taskCommandPort.changeDeliveryStatus(taskId, DeliveryStatus.IN_PROGRESS, DeliveryStatus.RETURNING_TO_STATION)).thenReturn(true);
+
+        service.updateItemStatus(command);
+
+        verify(eventPublisher).publish(any(CourierReturningEvent.class));
+        verify(taskCommandPort, never()).getWithItemsById(any());
+        verify(taskCommandPort, never()).updateWithItems(any());
+    }
+
+    @Test
+    void updateItemStatusFallsBackToAggregateWhenGuardRejects() {
+        TaskItem taskItem = TaskItem.restore().id(55L).parcelStatus(ParcelStatus.PICKED_UP).build();
+        Task task1 = Task.restore().id(taskId).items(List.of(taskItem)).courierId(courierId).deliveryStatus(DeliveryStatus.IN_PROGRESS).build();
+
+        when(taskCommandPort.lockTask(taskId, courierId, DeliveryStatus.IN_PROGRESS)).thenReturn(true);
+        when(taskCommandPort.getWithItemsById(taskId)).thenReturn(Optional.of(task1));
+
+        assertThrows(IllegalStateException.class,
+                () -> service.updateItemStatus(new UpdateItemStatusCommand(courierId, taskId, 55L, ParcelStatus.PICKED_UP)));
+
+        verify(taskCommandPort, never()).updateWithItems(any());
+    }
+
     @Test
     void successOnAddItemNote() {
         TaskItem taskItem = TaskItem.restore().id(2L).parcelStatus(ParcelStatus.PICKING_UP).build();
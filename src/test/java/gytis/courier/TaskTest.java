@@ -140,6 +140,44 @@ public class TaskTest {
         assertEquals(DeliveryStatus.CANCELED, task.getDeliveryStatus());
     }
 
+    @Test
+    void tracksOnlyChangedItems() {
+        TaskItem untouched = TaskItem.restore().id(10L).parcelId(11L).parcelStatus(ParcelStatus.PICKING_UP).build();
+        TaskItem noted = TaskItem.restore().id(12L).parcelId(13L).parcelStatus(ParcelStatus.PICKING_UP).build();
+        Task task1 = Task.restore().id(1L).courierId(2L).taskType(TaskType.PICKUP)
+                .deliveryStatus(DeliveryStatus.IN_PROGRESS).items(List.of(untouched, noted)).build();
+
+        task1.addTaskItemNote(noted.getId(), "gate code 1234");
+
+        assertFalse(task1.isHeaderChanged());
+        assertEquals(List.of(noted), task1.getChangedItems());
+        assertEquals(Set.of("gate code 1234"), noted.getAddedNotes());
+        assertFalse(noted.isStatusChanged());
+
+        task1.clearChanges();
+
+        assertTrue(task1.getChangedItems().isEmpty());
+    }
+
+    @Test
+    void marksHeaderChangedWhenLastItemReachesFinalState() {
+        task.updateItemStatus(task.getTaskItems().getFirst().getId(), ParcelStatus.PICKED_UP);
+
+        assertTrue(task.isHeaderChanged());
+        assertTrue(task.getTaskItems().getFirst().isStatusChanged());
+    }
+
+    @Test
+    void senderAddressChangeLeavesRecipientUntouched() {
+        TaskItem item = task.getTaskItems().getFirst();
+
+        item.setSenderAddressId(31L);
+
+        assertEquals(31L, item.getSenderAddressId());
+        assertEquals(20L, item.getRecipientAddressId());
+        assertTrue(item.isAddressesChanged());
+    }
+
     @Test
     void throwsOnRemoveItemIsInFinalState() {
         task.getTaskItems().getFirst().updateStatus(ParcelStatus.PICKED_UP);
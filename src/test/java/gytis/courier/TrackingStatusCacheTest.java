@@ -0,0 +1,69 @@
+package gytis.courier;
+
+import gytis.courier.adapter.out.persistence.order.dispatch.DispatchBoard;
+import gytis.courier.adapter.out.persistence.parcel.ParcelJpaRepository;
+import gytis.courier.adapter.out.persistence.parcel.ParcelQueryAdapter;
+import gytis.courier.adapter.out.persistence.parcel.TrackingStatusCache;
+import gytis.courier.domain.order.ParcelStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TrackingStatusCacheTest {
+    @Mock
+    private ParcelJpaRepository repository;
+    @Mock
+    private DispatchBoard dispatchBoard;
+
+    private TrackingStatusCache cache;
+    private ParcelQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TrackingStatusCache(new SimpleMeterRegistry(), 100, 300, 30);
+        adapter = new ParcelQueryAdapter(repository, cache, dispatchBoard);
+    }
+
+    @Test
+    void repeatedLookupsHitDatabaseOnce() {
+        when(repository.findStatusByTrackingNumber("abc")).thenReturn(Optional.of(ParcelStatus.PICKING_UP));
+
+        adapter.findStatusByTrackingNumber("abc");
+        Optional<ParcelStatus> status = adapter.findStatusByTrackingNumber("abc");
+
+        assertEquals(Optional.of(ParcelStatus.PICKING_UP), status);
+        verify(repository, times(1)).findStatusByTrackingNumber("abc");
+    }
+
+    @Test
+    void unknownTrackingNumberIsCachedAsMissing() {
+        when(repository.findStatusByTrackingNumber("missing")).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findStatusByTrackingNumber("missing").isEmpty());
+        assertTrue(adapter.findStatusByTrackingNumber("missing").isEmpty());
+
+        verify(repository, times(1)).findStatusByTrackingNumber("missing");
+    }
+
+    @Test
+    void evictionReloadsChangedStatus() {
+        when(repository.findStatusByTrackingNumber("abc"))
+                .thenReturn(Optional.of(ParcelStatus.PICKING_UP))
+                .thenReturn(Optional.of(ParcelStatus.PICKED_UP));
+
+        adapter.findStatusByTrackingNumber("abc");
+        cache.evictAfterCommit(List.of("abc"));
+
+        assertEquals(Optional.of(ParcelStatus.PICKED_UP), adapter.findStatusByTrackingNumber("abc"));
+    }
+}
@@ -0,0 +1,115 @@
+package gytis.courier.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects raw per-request latencies grouped by endpoint and turns them into percentiles.
+ *
+ * <p>Samples are kept in full rather than bucketed: a one-minute run produces a few million longs at most,
+ * and exact percentiles make regressions between runs easier to compare.</p>
+ */
+class LatencyRecorder {
+    private final Map<String, EndpointSamples> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void start() {
+        endpoints.clear();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String endpoint, long nanos, int status, boolean error) {
+        if (!recording) return;
+        endpoints.computeIfAbsent(endpoint, e -> new EndpointSamples()).add(nanos, status, error);
+    }
+
+    List<EndpointReport> report(Duration elapsed, Map<String, Long> statementsPerRequest) {
+        return new TreeMap<>(endpoints).entrySet().stream()
+                .map(e -> e.getValue().toReport(e.getKey(), elapsed, statementsPerRequest.get(e.getKey())))
+                .toList();
+    }
+
+    private static final class EndpointSamples {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+        private long[] samples = new long[4096];
+        private int size;
+        private long errors;
+
+        void add(long nanos, int status, boolean error) {
+            lock.lock();
+            try {
+                if (size == samples.length) {
+                    samples = Arrays.copyOf(samples, size * 2);
+                }
+                samples[size++] = nanos;
+                statuses.merge(status, 1L, Long::sum);
+                if (error) errors++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        EndpointReport toReport(String endpoint, Duration elapsed, Long statements) {
+            lock.lock();
+            try {
+                long[] sorted = Arrays.copyOf(samples, size);
+                Arrays.sort(sorted);
+                double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+                return new EndpointReport(
+                        endpoint,
+                        size,
+                        errors,
+                        size / seconds,
+                        millis(percentile(sorted, 0.50)),
+                        millis(percentile(sorted, 0.95)),
+                        millis(percentile(sorted, 0.99)),
+                        millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                        statements,
+                        Map.copyOf(statuses)
+                );
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * @param statementsPerRequest JDBC statements executed for one isolated request, {@code null} if not probed
+     */
+    record EndpointReport(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            Long statementsPerRequest,
+            Map<Integer, Long> statuses
+    ) {
+        double errorRatio() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+}
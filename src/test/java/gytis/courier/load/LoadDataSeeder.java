@@ -0,0 +1,175 @@
+package gytis.courier.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Seeds the embedded database with production-like volumes using set-based
+ * {@code INSERT ... SELECT FROM SYSTEM_RANGE} statements, so a million rows take seconds rather than minutes.
+ *
+ * <p>Id layout (all ranges are contiguous):</p>
+ * <ul>
+ *     <li>couriers - the first {@code tasks} own one IN_PROGRESS pickup task each, the rest are idle</li>
+ *     <li>orders/parcels - the first {@code tasks * itemsPerTask} parcels sit on seeded task items,
+ *     the next {@code assignableParcels} wait for a pickup task, the remainder are delivered history</li>
+ * </ul>
+ */
+class LoadDataSeeder {
+    private static final Logger logger = LoggerFactory.getLogger(LoadDataSeeder.class);
+
+    private final JdbcTemplate jdbc;
+    private final LoadSettings settings;
+    private final String passwordHash;
+
+    LoadDataSeeder(JdbcTemplate jdbc, LoadSettings settings, String passwordHash) {
+        this.jdbc = jdbc;
+        this.settings = settings;
+        this.passwordHash = passwordHash;
+    }
+
+    SeededData seed() {
+        long started = System.nanoTime();
+
+        seedDeliveryOptions();
+        Long adminId = jdbc.queryForObject("SELECT MIN(id) FROM admins", Long.class);
+        long personBase = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM persons", Long.class);
+
+        long courierFrom = personBase + 1;
+        long courierTo = courierFrom + settings.tasks() + settings.idleCouriers() - 1;
+        long userFrom = courierTo + 1;
+        long userTo = userFrom + settings.users() - 1;
+
+        seedPersons(courierFrom, courierTo, "Load Courier", "courier", "COURIER");
+        jdbc.update("INSERT INTO couriers (id, has_active_task) SELECT X, X < ? FROM SYSTEM_RANGE(?, ?)",
+                courierFrom + settings.tasks(), courierFrom, courierTo);
+
+        seedPersons(userFrom, userTo, "Load User", "user", "USER");
+        jdbc.update("INSERT INTO users (id, subscribed) SELECT X, FALSE FROM SYSTEM_RANGE(?, ?)", userFrom, userTo);
+
+        long taskParcels = (long) settings.tasks() * settings.itemsPerTask();
+        long assignableTo = taskParcels + settings.assignableParcels();
+        seedOrders(userFrom, taskParcels, assignableTo);
+        seedTasks(adminId, courierFrom, taskParcels);
+
+        restartIdentities();
+
+        logger.info("Seeded {} users, {} couriers, {} orders, {} tasks in {} ms",
+                settings.users(), courierTo - courierFrom + 1, settings.orders(), settings.tasks(),
+                (System.nanoTime() - started) / 1_000_000);
+
+        return new SeededData(adminId, courierFrom, settings.tasks(), courierTo, userFrom, userTo,
+                taskParcels, taskParcels + 1, assignableTo);
+    }
+
+    private void seedDeliveryOptions() {
+        jdbc.update("""
+                INSERT INTO delivery_options (id, description, disabled, name, price) VALUES
+                (1, 'Maximum weight: 1kg', FALSE, 'light_weight', 1.20),
+                (2, 'Maximum weight: 5kg', FALSE, 'medium_weight', 2.00),
+                (3, 'Maximum weight: 15kg', FALSE, 'heavy_weight', 4.00),
+                (4, 'Maximum dimensions: 30cm x 30cm x 30cm', FALSE, 'small_size', 1.00),
+                (5, 'Maximum dimensions: 60cm x 60cm x 60cm', FALSE, 'medium_size', 2.50),
+                (6, 'Maximum dimensions: 1m x 1m x 1m', FALSE, 'large_size', 8.00),
+                (7, 'Standard delivery within 5-7 days', FALSE, 'standard', 1.00),
+                (8, 'Express delivery within 1-3 days', FALSE, 'express', 3.00),
+                (9, 'Overnight delivery on the next business day', FALSE, 'overnight', 9.00)
+                """);
+    }
+
+    private void seedPersons(long from, long to, String name, String emailPrefix, String role) {
+        jdbc.update("""
+                INSERT INTO persons (id, name, email, phone_number, password, blocked, deleted, role)
+                SELECT X, ?, CONCAT(?, X, '@load.test'), '61234567', ?, FALSE, FALSE, ? FROM SYSTEM_RANGE(?, ?)
+                """, name, emailPrefix, passwordHash, role, from, to);
+    }
+
+    /**
+     * Order {@code n} owns parcel {@code n}, payment {@code n} and addresses {@code 2n-1} (sender) and {@code 2n}.
+     */
+    private void seedOrders(long userFrom, long taskParcels, long assignableTo) {
+        long orders = settings.orders();
+
+        jdbc.update("""
+                INSERT INTO order_addresses (id, name, street, house_number, flat_number, city, post_code, phone_number)
+                SELECT X, 'Load Recipient', CONCAT('Street ', MOD(X, 500)), CAST(MOD(X, 120) + 1 AS VARCHAR),
+                       NULL, CASEWHEN(MOD(X, 2) = 0, 'Vilnius', 'Kaunas'),
+                       LPAD(CAST(MOD(X, 99999) AS VARCHAR), 5, '0'), '61234567'
+                FROM SYSTEM_RANGE(1, ?)
+                """, orders * 2);
+
+        jdbc.update("""
+                INSERT INTO parcels (id, weight_id, weight_name, weight_price, dimensions_id, dimensions_name,
+                                     dimensions_price, failures_count, contents, tracking_number, assigned, status)
+                SELECT X, 1, 'light_weight', 1.20, 4, 'small_size', 1.00, 0, 'load contents',
+                       CONCAT('LT', LPAD(CAST(X AS VARCHAR), 10, '0')),
+                       X <= ?,
+                       CASE WHEN X <= ? THEN 'PICKING_UP' ELSE 'DELIVERED' END
+                FROM SYSTEM_RANGE(1, ?)
+                """, taskParcels, assignableTo, orders);
+
+        jdbc.update("""
+                INSERT INTO orders (id, user_id, sender_address_id, recipient_address_id, parcel_id,
+                                    delivery_method_id, delivery_method_name, delivery_method_description,
+                                    delivery_method_price, status, create_date)
+                SELECT X, ? + MOD(X, ?), 2 * X - 1, 2 * X, X, 7, 'standard', 'Standard delivery within 5-7 days', 1.00,
+                       CASE WHEN X <= ? THEN 'CONFIRMED' ELSE 'COMPLETED' END,
+                       DATEADD('MINUTE', -X, CURRENT_TIMESTAMP)
+                FROM SYSTEM_RANGE(1, ?)
+                """, userFrom, settings.users(), assignableTo, orders);
+
+        jdbc.update("INSERT INTO payments (id, order_id, amount, status, version) SELECT X, X, 3.20, 'PAID', 0 FROM SYSTEM_RANGE(1, ?)",
+                orders);
+    }
+
+    private void seedTasks(Long adminId, long courierFrom, long taskParcels) {
+        jdbc.update("""
+                INSERT INTO delivery_tasks (id, courier_id, admin_id, task_type, delivery_status, created_at)
+                SELECT X, ? + X - 1, ?, 'PICKUP', 'IN_PROGRESS', CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, courierFrom, adminId, settings.tasks());
+
+        jdbc.update("""
+                INSERT INTO delivery_task_items (id, task_id, parcel_id, parcel_status, sender_address_id,
+                                                 recipient_address_id, delivery_method_name, contents)
+                SELECT X, (X - 1) / ? + 1, X, 'PICKING_UP', 2 * X - 1, 2 * X, 'standard', 'load contents'
+                FROM SYSTEM_RANGE(1, ?)
+                """, settings.itemsPerTask(), taskParcels);
+    }
+
+    private void restartIdentities() {
+        for (String table : List.of("persons", "delivery_tasks", "delivery_task_items")) {
+            long next = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+            jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+
+        // pooled ids: a fetched value v hands out the block v - 49 .. v, so the first block must start past MAX(id)
+        for (String table : List.of("order_addresses", "parcels", "orders", "payments")) {
+            long next = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 50 FROM " + table, Long.class);
+            jdbc.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + next);
+        }
+    }
+
+    /**
+     * Id ranges the scenarios draw their work from.
+     *
+     * @param firstTaskCourierId courier owning task 1; task {@code t} belongs to courier {@code firstTaskCourierId + t - 1}
+     * @param firstAssignableParcelId first parcel that is PICKING_UP and not on a task yet
+     */
+    record SeededData(
+            Long adminId,
+            long firstTaskCourierId,
+            int tasks,
+            long lastCourierId,
+            long firstUserId,
+            long lastUserId,
+            long taskItems,
+            long firstAssignableParcelId,
+            long lastAssignableParcelId
+    ) {
+        long firstIdleCourierId() {
+            return firstTaskCourierId + tasks;
+        }
+    }
+}
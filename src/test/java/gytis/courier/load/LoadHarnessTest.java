@@ -0,0 +1,141 @@
+package gytis.courier.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zaxxer.hikari.HikariDataSource;
+import gytis.courier.adapter.out.jwt.JwtService;
+import gytis.courier.adapter.out.persistence.order.dispatch.DispatchBoard;
+import gytis.courier.application.service.delivery.DeliveryOptionCatalog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Embedded load test for the REST hot paths: boots the full application on a random port against in-memory H2
+ * (MySQL mode), seeds production-like volumes and reports throughput, latency percentiles and statements per
+ * request for each endpoint. Excluded from the regular build; run with {@code mvn -Pload test}.
+ */
+@Tag("load")
+@ActiveProfiles("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(StatementCounter.class)
+public class LoadHarnessTest {
+    private static final Logger logger = LoggerFactory.getLogger(LoadHarnessTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private DeliveryOptionCatalog deliveryCatalog;
+    @Autowired
+    private DispatchBoard dispatchBoard;
+    @Autowired
+    private StatementCounter statementCounter;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void hotPathsUnderConcurrentLoad() throws IOException, SQLException {
+        LoadSettings settings = LoadSettings.from(environment);
+        LoadDataSeeder.SeededData data = new LoadDataSeeder(jdbcTemplate, settings, passwordEncoder.encode("pass123")).seed();
+        deliveryCatalog.refresh();
+        dispatchBoard.reload();
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        LoadScenarios scenarios = new LoadScenarios(URI.create("http://localhost:" + port), jwtService, data, settings, recorder);
+
+        Map<String, Long> statementsPerRequest = scenarios.probeStatements(statementCounter::count);
+
+        scenarios.run(settings.warmup());
+
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        AtomicInteger maxAwaitingConnection = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> maxAwaitingConnection.accumulateAndGet(
+                pool.getHikariPoolMXBean().getThreadsAwaitingConnection(), Math::max), 0, 100, TimeUnit.MILLISECONDS);
+
+        long started = System.nanoTime();
+        recorder.start();
+        try {
+            scenarios.run(settings.duration());
+        } finally {
+            recorder.stop();
+            sampler.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        List<LatencyRecorder.EndpointReport> reports = recorder.report(elapsed, statementsPerRequest);
+        logReport(reports, elapsed, maxAwaitingConnection.get());
+        writeReport(settings, reports, elapsed, maxAwaitingConnection.get());
+
+        for (LatencyRecorder.EndpointReport report : reports) {
+            assertTrue(report.errorRatio() <= settings.maxErrorRatio(),
+                    report.endpoint() + " failed " + report.errors() + " of " + report.requests() + " requests: " + report.statuses());
+        }
+    }
+
+    private void logReport(List<LatencyRecorder.EndpointReport> reports, Duration elapsed, int maxAwaitingConnection) {
+        StringBuilder table = new StringBuilder("%n%-58s %9s %7s %9s %9s %9s %9s %9s %6s%n".formatted(
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "stmts"));
+        for (LatencyRecorder.EndpointReport r : reports) {
+            table.append("%-58s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %6s%n".formatted(
+                    r.endpoint(), r.requests(), r.errors(), r.throughputPerSecond(),
+                    r.p50Ms(), r.p95Ms(), r.p99Ms(), r.maxMs(),
+                    r.statementsPerRequest() == null ? "-" : r.statementsPerRequest()));
+        }
+        table.append("elapsed: %d s, max threads awaiting a connection: %d".formatted(elapsed.toSeconds(), maxAwaitingConnection));
+        logger.info(table.toString());
+    }
+
+    private void writeReport(LoadSettings settings, List<LatencyRecorder.EndpointReport> reports, Duration elapsed,
+                             int maxAwaitingConnection) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("settings", settings);
+        document.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+        document.put("maxThreadsAwaitingConnection", maxAwaitingConnection);
+        document.put("endpoints", reports);
+
+        Path path = Path.of(settings.report());
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), document);
+        logger.info("Load report written to {}", path.toAbsolutePath());
+    }
+}
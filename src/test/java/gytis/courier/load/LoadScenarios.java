@@ -0,0 +1,305 @@
+package gytis.courier.load;
+
+import gytis.courier.adapter.out.jwt.JwtService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Drives the REST hot paths over real HTTP with a weighted scenario mix.
+ *
+ * <p>Every worker is a virtual thread that loops until the deadline, so {@code load.concurrency} is the number of
+ * requests in flight. Write scenarios consume seeded work (task items, idle couriers, assignable parcels) through
+ * atomic cursors and simply skip once their pool is drained.</p>
+ */
+class LoadScenarios {
+    static final String PLACE_ORDER = "POST /api/orders";
+    static final String PAY = "POST /api/payment/{orderId}/pay";
+    static final String CREATE_TASK = "POST /api/admin/tasks";
+    static final String UPDATE_ITEM_STATUS = "PATCH /api/courier/tasks/{taskId}/items/{itemId}/status";
+    static final String ASSIGNED_TASKS = "GET /api/courier/tasks/assigned";
+    static final String UNREAD_COUNT = "GET /api/me/notifications/unread-count";
+    static final String TRACK_PARCEL = "GET /api/parcel/trackOrder/{trackingNumber}";
+    static final String TRACK_UNKNOWN_PARCEL = "GET /api/parcel/trackOrder/{unknown}";
+    static final String USER_ORDERS = "GET /api/orders/user";
+
+    /** Endpoints whose correct answer is not a 2xx; any other status counts as an error. */
+    private static final Map<String, Integer> EXPECTED_STATUS = Map.of(TRACK_UNKNOWN_PARCEL, 404);
+
+    private static final String ORDER_BODY = """
+            {"senderAddress":{"city":"Vilnius","street":"Gedimino","houseNumber":"%d","flatNumber":"1",
+             "phoneNumber":"61234567","postCode":"01103","name":"Load Sender"},
+             "recipientAddress":{"city":"Kaunas","street":"Laisves","houseNumber":"%d","flatNumber":"2",
+             "phoneNumber":"67654321","postCode":"44001","name":"Load Recipient"},
+             "parcelDetails":{"weightId":1,"dimensionsId":4,"contents":"load contents"},
+             "preferenceId":7}""";
+
+    private static final String PAY_BODY = """
+            {"newPaymentMethod":{"type":"creditCard","cardNumber":"4111111111111111",
+             "cardHolderName":"Load User","expiryDate":"12/30","saveCard":false},"cvc":"123"}""";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final URI baseUri;
+    private final JwtService jwtService;
+    private final LoadDataSeeder.SeededData data;
+    private final LoadSettings settings;
+    private final LatencyRecorder recorder;
+
+    private final String adminToken;
+    private final String[] userTokens;
+    private final Map<Long, String> courierTokens = new ConcurrentHashMap<>();
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+
+    private final AtomicLong nextItemId = new AtomicLong(1);
+    private final AtomicLong nextIdleCourierId;
+    private final AtomicLong nextAssignableParcelId;
+
+    LoadScenarios(URI baseUri, JwtService jwtService, LoadDataSeeder.SeededData data, LoadSettings settings,
+                  LatencyRecorder recorder) {
+        this.baseUri = baseUri;
+        this.jwtService = jwtService;
+        this.data = data;
+        this.settings = settings;
+        this.recorder = recorder;
+        this.nextIdleCourierId = new AtomicLong(data.firstIdleCourierId());
+        this.nextAssignableParcelId = new AtomicLong(data.firstAssignableParcelId());
+
+        this.adminToken = jwtService.createToken(data.adminId(), "admin@example.com", "ADMIN", "Administrator X");
+        long userSpan = data.lastUserId() - data.firstUserId() + 1;
+        long stride = Math.max(1, userSpan / settings.activeUsers());
+        this.userTokens = LongStream.range(0, Math.min(settings.activeUsers(), userSpan))
+                .map(i -> data.firstUserId() + i * stride)
+                .mapToObj(id -> jwtService.createToken(id, "user" + id + "@load.test", "USER", "Load User"))
+                .toArray(String[]::new);
+
+        this.scenarios = switch (settings.mix()) {
+            case "mixed" -> List.of(
+                    new Scenario(35, this::trackParcel),
+                    new Scenario(25, this::pollUnreadCount),
+                    new Scenario(12, this::updateItemStatus),
+                    new Scenario(10, this::listUserOrders),
+                    new Scenario(8, this::placeOrderAndPay),
+                    new Scenario(7, this::listAssignedTasks),
+                    new Scenario(3, this::createTask)
+            );
+            // every worker places orders, for peak placement throughput
+            case "placement" -> List.of(new Scenario(1, sink -> placeOrder(sink, randomUserToken())));
+            default -> throw new IllegalArgumentException("Unknown load.mix " + settings.mix());
+        };
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    /**
+     * Runs every scenario a few times in isolation and keeps the lowest JDBC statement count per endpoint.
+     * Taking the minimum filters out statements issued concurrently by the outbox relay and other background jobs.
+     */
+    Map<String, Long> probeStatements(LongSupplier statements) {
+        Map<String, Long> counts = new HashMap<>();
+        for (int round = 0; round < 3; round++) {
+            for (Scenario scenario : scenarios) {
+                ProbeSink sink = new ProbeSink(statements);
+                scenario.action().run(sink);
+                sink.counts.forEach((endpoint, count) -> counts.merge(endpoint, count, Math::min));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Keeps {@code load.concurrency} virtual threads busy until {@code duration} elapses.
+     */
+    void run(Duration duration) {
+        Instant deadline = Instant.now().plus(duration);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                workers.submit(() -> {
+                    while (Instant.now().isBefore(deadline) && !Thread.currentThread().isInterrupted()) {
+                        pick().action().run(this::timed);
+                    }
+                });
+            }
+        }
+    }
+
+    private Scenario pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            roll -= scenario.weight();
+            if (roll < 0) return scenario;
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private void trackParcel(Sink sink) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // a small share of unknown numbers exercises the negative cache path
+        if (random.nextInt(20) == 0) {
+            sink.send(TRACK_UNKNOWN_PARCEL, get("/api/parcel/trackOrder/LX" + random.nextLong(1_000_000_000L), null));
+            return;
+        }
+        String trackingNumber = "LT%010d".formatted(random.nextLong(1, settings.orders() + 1));
+        sink.send(TRACK_PARCEL, get("/api/parcel/trackOrder/" + trackingNumber, null));
+    }
+
+    private void pollUnreadCount(Sink sink) {
+        sink.send(UNREAD_COUNT, get("/api/me/notifications/unread-count", randomUserToken()));
+    }
+
+    private void listUserOrders(Sink sink) {
+        sink.send(USER_ORDERS, get("/api/orders/user?page=0&size=20", randomUserToken()));
+    }
+
+    private void listAssignedTasks(Sink sink) {
+        long courierId = data.firstTaskCourierId() + ThreadLocalRandom.current().nextInt(data.tasks());
+        sink.send(ASSIGNED_TASKS, get("/api/courier/tasks/assigned", courierToken(courierId)));
+    }
+
+    private void placeOrderAndPay(Sink sink) {
+        String token = randomUserToken();
+        Long orderId = placeOrder(sink, token);
+        if (orderId == null) return;
+
+        sink.send(PAY, request("/api/payment/" + orderId + "/pay", token)
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofString(PAY_BODY))
+                .build());
+    }
+
+    private Long placeOrder(Sink sink, String token) {
+        int house = ThreadLocalRandom.current().nextInt(1, 200);
+        HttpResponse<String> placed = sink.send(PLACE_ORDER,
+                post("/api/orders", token, ORDER_BODY.formatted(house, house + 1)));
+        if (placed == null || placed.statusCode() != 201) return null;
+
+        return Long.parseLong(placed.body().trim());
+    }
+
+    /**
+     * Consecutive item ids belong to the same task, so concurrent workers contend on the same task rows
+     * the way couriers working through a route do.
+     */
+    private void updateItemStatus(Sink sink) {
+        long itemId = nextItemId.getAndIncrement();
+        if (itemId > data.taskItems()) return;
+
+        long taskId = (itemId - 1) / settings.itemsPerTask() + 1;
+        long courierId = data.firstTaskCourierId() + taskId - 1;
+        String status = itemId % 20 == 0 ? "FAILED_PICKUP" : "PICKED_UP";
+        sink.send(UPDATE_ITEM_STATUS, request(
+                "/api/courier/tasks/" + taskId + "/items/" + itemId + "/status", courierToken(courierId))
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"" + status + "\"}"))
+                .build());
+    }
+
+    private void createTask(Sink sink) {
+        long courierId = nextIdleCourierId.getAndIncrement();
+        long firstParcel = nextAssignableParcelId.getAndAdd(settings.itemsPerTask());
+        if (courierId > data.lastCourierId()
+                || firstParcel + settings.itemsPerTask() - 1 > data.lastAssignableParcelId()) {
+            return;
+        }
+
+        String parcelIds = LongStream.range(firstParcel, firstParcel + settings.itemsPerTask())
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+        sink.send(CREATE_TASK, post("/api/admin/tasks", adminToken,
+                "{\"courierId\":%d,\"type\":\"PICKUP\",\"parcelIds\":[%s]}".formatted(courierId, parcelIds)));
+    }
+
+    private HttpResponse<String> timed(String endpoint, HttpRequest request) {
+        long started = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            return response;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            int status = response == null ? -1 : response.statusCode();
+            Integer expected = EXPECTED_STATUS.get(endpoint);
+            boolean error = expected != null ? status != expected : status < 200 || status >= 400;
+            recorder.record(endpoint, System.nanoTime() - started, status, error);
+        }
+    }
+
+    private String randomUserToken() {
+        return userTokens[ThreadLocalRandom.current().nextInt(userTokens.length)];
+    }
+
+    private String courierToken(long courierId) {
+        return courierTokens.computeIfAbsent(courierId, id ->
+                jwtService.createToken(id, "courier" + id + "@load.test", "COURIER", "Load Courier"));
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return request(path, token).POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Cookie", "jwt=" + token);
+        }
+        return builder;
+    }
+
+    @FunctionalInterface
+    private interface Sink {
+        HttpResponse<String> send(String endpoint, HttpRequest request);
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run(Sink sink);
+    }
+
+    private record Scenario(int weight, Action action) {}
+
+    private final class ProbeSink implements Sink {
+        private final LongSupplier statements;
+        private final Map<String, Long> counts = new HashMap<>();
+
+        private ProbeSink(LongSupplier statements) {
+            this.statements = statements;
+        }
+
+        @Override
+        public HttpResponse<String> send(String endpoint, HttpRequest request) {
+            long before = statements.getAsLong();
+            HttpResponse<String> response = timed(endpoint, request);
+            counts.put(endpoint, statements.getAsLong() - before);
+            return response;
+        }
+    }
+}
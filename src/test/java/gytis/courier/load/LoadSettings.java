@@ -0,0 +1,49 @@
+package gytis.courier.load;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Harness knobs, read from {@code application-load.properties}; any of them can be overridden with
+ * {@code -Dload.<name>=...} on the Maven command line.
+ */
+record LoadSettings(
+        int users,
+        long orders,
+        int tasks,
+        int itemsPerTask,
+        int idleCouriers,
+        int assignableParcels,
+        int activeUsers,
+        int concurrency,
+        String mix,
+        Duration warmup,
+        Duration duration,
+        double maxErrorRatio,
+        String report
+) {
+    LoadSettings {
+        if (orders < (long) tasks * itemsPerTask + assignableParcels) {
+            throw new IllegalArgumentException("load.orders must cover task items and assignable parcels");
+        }
+    }
+
+    static LoadSettings from(Environment env) {
+        return new LoadSettings(
+                env.getRequiredProperty("load.users", Integer.class),
+                env.getRequiredProperty("load.orders", Long.class),
+                env.getRequiredProperty("load.tasks", Integer.class),
+                env.getRequiredProperty("load.items-per-task", Integer.class),
+                env.getRequiredProperty("load.idle-couriers", Integer.class),
+                env.getRequiredProperty("load.assignable-parcels", Integer.class),
+                env.getRequiredProperty("load.active-users", Integer.class),
+                env.getRequiredProperty("load.concurrency", Integer.class),
+                env.getRequiredProperty("load.mix"),
+                Duration.ofSeconds(env.getRequiredProperty("load.warmup-seconds", Long.class)),
+                Duration.ofSeconds(env.getRequiredProperty("load.duration-seconds", Long.class)),
+                env.getRequiredProperty("load.max-error-ratio", Double.class),
+                env.getRequiredProperty("load.report")
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package gytis.courier.load;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts every statement execution that goes through the application's {@link DataSource}, so JPA, Spring Data
+ * and plain {@code JdbcTemplate} writes are all seen. A JDBC batch counts once, as it is one round trip.
+ *
+ * <p>The pool stays underneath: the bean is wrapped in a JDK proxy that hands out counting connections, and
+ * {@code unwrap} still reaches the pool for its metrics.</p>
+ */
+class StatementCounter implements BeanPostProcessor {
+    private final LongAdder executions = new LongAdder();
+
+    long count() {
+        return executions.sum();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return method.getName().equals("getConnection") ? proxy(Connection.class, result, this::onConnection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private Object onConnection(Object connection, Method method, Object[] args) throws Throwable {
+        Object result = invoke(connection, method, args);
+        return switch (method.getName()) {
+            case "createStatement" -> proxy(Statement.class, result, this::onStatement);
+            case "prepareStatement" -> proxy(PreparedStatement.class, result, this::onStatement);
+            case "prepareCall" -> proxy(CallableStatement.class, result, this::onStatement);
+            default -> result;
+        };
+    }
+
+    private Object onStatement(Object statement, Method method, Object[] args) throws Throwable {
+        if (method.getName().startsWith("execute")) {
+            executions.increment();
+        }
+        return invoke(statement, method, args);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return type.cast(Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[]{type}, invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+}